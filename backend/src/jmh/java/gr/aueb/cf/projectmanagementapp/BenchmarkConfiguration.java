@@ -0,0 +1,35 @@
+package gr.aueb.cf.projectmanagementapp;
+
+import gr.aueb.cf.projectmanagementapp.model.User;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * JPA context for the benchmarks that need the entities: auto-configuration on an in-memory H2
+ * database in MySQL mode, with the schema created on startup and no web layer or component scan.
+ */
+@SpringBootConfiguration
+@EnableAutoConfiguration
+@EntityScan(basePackageClasses = User.class)
+public class BenchmarkConfiguration {
+
+    /**
+     * Starts a context on the in-memory database {@code database}, registering {@code components} as
+     * beans next to the repositories.
+     */
+    public static ConfigurableApplicationContext start(String database, Class<?>... components) {
+        return new SpringApplicationBuilder(BenchmarkConfiguration.class).sources(components).run(
+                "--spring.profiles.active=benchmark",
+                "--spring.main.web-application-type=none",
+                "--spring.main.banner-mode=off",
+                "--spring.datasource.url=jdbc:h2:mem:" + database + ";MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+                "--spring.datasource.driver-class-name=org.h2.Driver",
+                "--spring.jpa.hibernate.ddl-auto=create-drop",
+                "--spring.jpa.open-in-view=false",
+                "--logging.level.root=WARN"
+        );
+    }
+}
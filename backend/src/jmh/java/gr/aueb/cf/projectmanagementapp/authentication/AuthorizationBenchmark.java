@@ -0,0 +1,66 @@
+package gr.aueb.cf.projectmanagementapp.authentication;
+
+import gr.aueb.cf.projectmanagementapp.core.enums.Action;
+import gr.aueb.cf.projectmanagementapp.core.enums.Resource;
+import gr.aueb.cf.projectmanagementapp.model.Role;
+import gr.aueb.cf.projectmanagementapp.model.User;
+import gr.aueb.cf.projectmanagementapp.model.static_data.Permission;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.core.GrantedAuthority;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the previous {@code hasAuthority} implementation, which rebuilt the authority set from the
+ * role graph on every call, with the precomputed {@link PermissionMask} lookup. The principal holds the
+ * Super Admin role with all 16 permissions, which is the worst case for the linear scan.
+ * <p>{@code getAuthorities} is {@link User#getAuthorities()} alone, which Spring Security still calls
+ * when it builds the authentication token for a request.</p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AuthorizationBenchmark {
+
+    @Param({"READ_USER", "DELETE_TICKET", "UNKNOWN_AUTHORITY"})
+    public String authority;
+
+    private AuthorizationService authorizationService;
+    private User user;
+
+    @Setup
+    public void setUp() {
+        authorizationService = new AuthorizationService();
+        Role role = new Role(1L, "Super Admin", new HashSet<>(), new HashSet<>());
+        long id = 1;
+        for (Resource resource : Resource.values()) {
+            for (Action action : Action.values()) {
+                role.addPermission(new Permission(id++, action.name() + "_" + resource.name(), resource, action, new HashSet<>()));
+            }
+        }
+        user = User.builder().uuid("user-uuid").build();
+        user.addRole(role);
+    }
+
+    @Benchmark
+    public boolean legacyAuthoritiesScan() {
+        return user.getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority)
+                .anyMatch(authority::equals);
+    }
+
+    @Benchmark
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return user.getAuthorities();
+    }
+
+    @Benchmark
+    public boolean permissionMask() {
+        return authorizationService.hasAuthority(user, authority);
+    }
+}
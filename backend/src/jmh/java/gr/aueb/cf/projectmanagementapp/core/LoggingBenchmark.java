@@ -0,0 +1,107 @@
+package gr.aueb.cf.projectmanagementapp.core;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.FileAppender;
+import gr.aueb.cf.projectmanagementapp.dto.ProjectReadOnlyDTO;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of the logging done by one request, as seen by the request thread: the INFO line a controller
+ * writes after a create plus the WARN line {@code JwtAuthenticationFilter} writes for a rejected token.
+ * Eight threads log concurrently, as request threads do.
+ * <ul>
+ *     <li>{@code sync}: the previous setup, a file appender called on the request thread, which holds
+ *     the appender lock while formatting and writing</li>
+ *     <li>{@code async}: the current setup, an {@link AsyncAppender} with the queue settings of
+ *     {@code logback-spring.xml} in front of the same file appender; the thread only enqueues, and
+ *     events that find the queue full are dropped</li>
+ *     <li>{@code disabled}: the logger is at ERROR, so neither line is written</li>
+ * </ul>
+ * {@code parameterized} passes the arguments to the logger; {@code concatenated} builds the message
+ * first, as the filter did, and pays for it even when the level is disabled.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(8)
+@Fork(1)
+public class LoggingBenchmark {
+    private static final String PATTERN = "%d{yyyy-MM-dd HH:mm:ss} %-5level - %msg%n";
+
+    @Param({"sync", "async", "disabled"})
+    public String appender;
+
+    private LoggerContext context;
+    private Logger logger;
+    private Path file;
+    private ProjectReadOnlyDTO project;
+    private String uri;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        file = Files.createTempFile("logging-benchmark", ".log");
+        context = new LoggerContext();
+
+        PatternLayoutEncoder encoder = new PatternLayoutEncoder();
+        encoder.setContext(context);
+        encoder.setPattern(PATTERN);
+        encoder.start();
+
+        FileAppender<ILoggingEvent> fileAppender = new FileAppender<>();
+        fileAppender.setContext(context);
+        fileAppender.setFile(file.toString());
+        fileAppender.setEncoder(encoder);
+        fileAppender.start();
+
+        logger = context.getLogger("benchmark");
+        logger.setAdditive(false);
+        // Logback's Level, not JMH's
+        logger.setLevel("disabled".equals(appender) ? ch.qos.logback.classic.Level.ERROR : ch.qos.logback.classic.Level.INFO);
+        logger.addAppender("async".equals(appender) ? async(fileAppender) : fileAppender);
+
+        project = new ProjectReadOnlyDTO(1L, UUID.randomUUID().toString(), "Project", "Benchmark project",
+                UUID.randomUUID().toString(), "OPEN", false);
+        uri = "/api/v1/users/" + UUID.randomUUID() + "/projects";
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        context.stop();
+        Files.deleteIfExists(file);
+    }
+
+    @Benchmark
+    public void parameterized() {
+        logger.info("Created user project: {}", project);
+        logger.warn("Token is not valid for {}", uri);
+    }
+
+    @Benchmark
+    public void concatenated() {
+        logger.info("Created user project: " + project);
+        logger.warn("Token is not valid" + uri);
+    }
+
+    private Appender<ILoggingEvent> async(Appender<ILoggingEvent> delegate) {
+        AsyncAppender asyncAppender = new AsyncAppender();
+        asyncAppender.setContext(context);
+        asyncAppender.setQueueSize(8192);
+        asyncAppender.setNeverBlock(true);
+        asyncAppender.addAppender(delegate);
+        asyncAppender.start();
+        return asyncAppender;
+    }
+}
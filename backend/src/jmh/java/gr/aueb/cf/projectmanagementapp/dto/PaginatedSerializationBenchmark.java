@@ -0,0 +1,53 @@
+package gr.aueb.cf.projectmanagementapp.dto;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of writing the response body of the paginated ticket endpoint. The {@link ObjectMapper} is built
+ * with Spring's {@link Jackson2ObjectMapperBuilder}, which applies the same modules and defaults as the
+ * mapper the application's message converters use. {@code size} is the default page size and a
+ * large page.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PaginatedSerializationBenchmark {
+
+    @Param({"15", "100"})
+    public int size;
+
+    private ObjectWriter writer;
+    private Paginated<TicketReadOnlyDTO> page;
+
+    @Setup
+    public void setUp() {
+        ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        writer = objectMapper.writerFor(objectMapper.getTypeFactory()
+                .constructParametricType(Paginated.class, TicketReadOnlyDTO.class));
+
+        List<TicketReadOnlyDTO> tickets = new ArrayList<>(size);
+        for (long i = 1; i <= size; i++) {
+            tickets.add(new TicketReadOnlyDTO(i, UUID.randomUUID().toString(), "Ticket " + i,
+                    "Description of ticket " + i, "HIGH", "OPEN", LocalDate.now().plusDays(i)));
+        }
+        page = new Paginated<>(tickets, 1000L, 1000 / size, size, 0, size, true);
+    }
+
+    @Benchmark
+    public byte[] serialize() throws JsonProcessingException {
+        return writer.writeValueAsBytes(page);
+    }
+}
@@ -0,0 +1,116 @@
+package gr.aueb.cf.projectmanagementapp.mapper;
+
+import gr.aueb.cf.projectmanagementapp.core.enums.Action;
+import gr.aueb.cf.projectmanagementapp.core.enums.ProjectStatus;
+import gr.aueb.cf.projectmanagementapp.core.enums.Resource;
+import gr.aueb.cf.projectmanagementapp.core.enums.TicketPriority;
+import gr.aueb.cf.projectmanagementapp.core.enums.TicketStatus;
+import gr.aueb.cf.projectmanagementapp.dto.PermissionReadOnlyDTO;
+import gr.aueb.cf.projectmanagementapp.dto.ProjectReadOnlyDTO;
+import gr.aueb.cf.projectmanagementapp.dto.RoleReadOnlyDTO;
+import gr.aueb.cf.projectmanagementapp.dto.TicketReadOnlyDTO;
+import gr.aueb.cf.projectmanagementapp.dto.UserReadOnlyDTO;
+import gr.aueb.cf.projectmanagementapp.model.Project;
+import gr.aueb.cf.projectmanagementapp.model.Role;
+import gr.aueb.cf.projectmanagementapp.model.Ticket;
+import gr.aueb.cf.projectmanagementapp.model.User;
+import gr.aueb.cf.projectmanagementapp.model.static_data.Permission;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDate;
+import java.util.HashSet;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of the {@code mapTo*ReadOnlyDTO} methods every read endpoint runs per returned entity. The role
+ * is the Super Admin role with all 16 permissions, so {@code mapToRoleReadOnlyDTO} also maps 16
+ * permissions into a set. The password encoder is not used by these methods and is left out.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MapperBenchmark {
+
+    private Mapper mapper;
+    private User user;
+    private Role role;
+    private Permission permission;
+    private Project project;
+    private Ticket ticket;
+
+    @Setup
+    public void setUp() {
+        mapper = new Mapper(null);
+
+        role = new Role(1L, "Super Admin", new HashSet<>(), new HashSet<>());
+        long id = 1;
+        for (Resource resource : Resource.values()) {
+            for (Action action : Action.values()) {
+                permission = new Permission(id++, action.name() + "_" + resource.name(), resource, action, new HashSet<>());
+                role.addPermission(permission);
+            }
+        }
+
+        user = User.builder()
+                .id(1L)
+                .uuid(UUID.randomUUID().toString())
+                .username("admin@mail.com")
+                .firstname("Admin")
+                .lastname("Admin")
+                .enabled(true)
+                .verified(true)
+                .isDeleted(false)
+                .loginConsecutiveFailAttempts(0)
+                .build();
+        user.addRole(role);
+
+        project = new Project();
+        project.setId(1L);
+        project.setUuid(UUID.randomUUID().toString());
+        project.setName("Project");
+        project.setDescription("Benchmark project");
+        project.setStatus(ProjectStatus.ON_GOING);
+        project.setIsDeleted(false);
+        project.setOwner(user);
+
+        ticket = Ticket.builder()
+                .id(1L)
+                .uuid(UUID.randomUUID().toString())
+                .title("Ticket")
+                .description("Benchmark ticket")
+                .priority(TicketPriority.HIGH)
+                .status(TicketStatus.OPEN)
+                .expiryDate(LocalDate.now().plusDays(30))
+                .project(project)
+                .build();
+    }
+
+    @Benchmark
+    public UserReadOnlyDTO mapToUserReadOnlyDTO() {
+        return mapper.mapToUserReadOnlyDTO(user);
+    }
+
+    @Benchmark
+    public RoleReadOnlyDTO mapToRoleReadOnlyDTO() {
+        return mapper.mapToRoleReadOnlyDTO(role);
+    }
+
+    @Benchmark
+    public PermissionReadOnlyDTO mapToPermissionReadOnlyDTO() {
+        return mapper.mapToPermissionReadOnlyDTO(permission);
+    }
+
+    @Benchmark
+    public ProjectReadOnlyDTO mapToProjectReadOnlyDTO() {
+        return mapper.mapToProjectReadOnlyDTO(project);
+    }
+
+    @Benchmark
+    public TicketReadOnlyDTO mapToTicketReadOnlyDTO() {
+        return mapper.mapToTicketReadOnlyDTO(ticket);
+    }
+}
@@ -0,0 +1,173 @@
+package gr.aueb.cf.projectmanagementapp.repository;
+
+import gr.aueb.cf.projectmanagementapp.BenchmarkConfiguration;
+import gr.aueb.cf.projectmanagementapp.core.enums.Action;
+import gr.aueb.cf.projectmanagementapp.core.enums.Resource;
+import gr.aueb.cf.projectmanagementapp.core.enums.TicketPriority;
+import gr.aueb.cf.projectmanagementapp.core.enums.TicketStatus;
+import gr.aueb.cf.projectmanagementapp.core.specifications.ProjectSpecification;
+import gr.aueb.cf.projectmanagementapp.core.specifications.TicketSpecification;
+import gr.aueb.cf.projectmanagementapp.dto.ProjectReadOnlyDTO;
+import gr.aueb.cf.projectmanagementapp.dto.TicketReadOnlyDTO;
+import gr.aueb.cf.projectmanagementapp.dto.UserReadOnlyDTO;
+import gr.aueb.cf.projectmanagementapp.mapper.Mapper;
+import gr.aueb.cf.projectmanagementapp.model.Project;
+import gr.aueb.cf.projectmanagementapp.model.Role;
+import gr.aueb.cf.projectmanagementapp.model.Ticket;
+import gr.aueb.cf.projectmanagementapp.model.User;
+import gr.aueb.cf.projectmanagementapp.model.static_data.Permission;
+import jakarta.persistence.EntityManager;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Rows per second of the filtered list queries, loading managed entities and mapping them through
+ * {@link Mapper} versus selecting straight into the read-only DTOs with {@link ReadOnlyProjections}.
+ * <p>An in-memory H2 database (MySQL mode) is seeded once with 100k users, each holding a role with
+ * all 16 permissions, 100k projects of one owner and 100k tickets of one project. Each invocation
+ * reads one page of {@value #PAGE_SIZE} rows without a count, inside a read-only transaction as the
+ * services do, so the reported ops/s are rows/s.</p>
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@OperationsPerInvocation(ReadOnlyProjectionBenchmark.PAGE_SIZE)
+public class ReadOnlyProjectionBenchmark {
+    static final int PAGE_SIZE = 1000;
+    private static final int ROWS = 100_000;
+    private static final int SEED_CHUNK = 2000;
+    private static final String OWNER_UUID = "benchmark-owner";
+    private static final String PROJECT_UUID = "benchmark-project";
+
+    private ConfigurableApplicationContext context;
+    private SpecificationQueryExecutor executor;
+    private TransactionTemplate readOnly;
+    private Mapper mapper;
+    private Pageable pageable;
+    private final Specification<User> allUsers = (root, query, builder) -> null;
+    private Specification<Project> projectSpec;
+    private Specification<Ticket> ticketSpec;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkConfiguration.start("benchmark", SpecificationQueryExecutor.class, FilteredCountCache.class);
+        executor = context.getBean(SpecificationQueryExecutor.class);
+        PlatformTransactionManager transactionManager = context.getBean(PlatformTransactionManager.class);
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        mapper = new Mapper(new BCryptPasswordEncoder());
+        pageable = PageRequest.of(0, PAGE_SIZE, Sort.by("id"));
+        projectSpec = ProjectSpecification.projectsOwnerIs(OWNER_UUID);
+        ticketSpec = TicketSpecification.ticketProjectIs(PROJECT_UUID)
+                .and(TicketSpecification.ticketProjectOwnerIs(OWNER_UUID));
+        seed(new TransactionTemplate(transactionManager), context.getBean(EntityManager.class));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<UserReadOnlyDTO> usersEntities() {
+        return readOnly.execute(status -> executor.findSlice(User.class, allUsers, pageable)
+                .map(mapper::mapToUserReadOnlyDTO).getContent());
+    }
+
+    @Benchmark
+    public List<UserReadOnlyDTO> usersProjection() {
+        return readOnly.execute(status -> executor.findSlice(User.class, UserReadOnlyDTO.class, allUsers, pageable, ReadOnlyProjections.USER)
+                .getContent());
+    }
+
+    @Benchmark
+    public List<ProjectReadOnlyDTO> projectsEntities() {
+        return readOnly.execute(status -> executor.findSlice(Project.class, projectSpec, pageable)
+                .map(mapper::mapToProjectReadOnlyDTO).getContent());
+    }
+
+    @Benchmark
+    public List<ProjectReadOnlyDTO> projectsProjection() {
+        return readOnly.execute(status -> executor.findSlice(Project.class, ProjectReadOnlyDTO.class, projectSpec, pageable, ReadOnlyProjections.PROJECT)
+                .getContent());
+    }
+
+    @Benchmark
+    public List<TicketReadOnlyDTO> ticketsEntities() {
+        return readOnly.execute(status -> executor.findSlice(Ticket.class, ticketSpec, pageable)
+                .map(mapper::mapToTicketReadOnlyDTO).getContent());
+    }
+
+    @Benchmark
+    public List<TicketReadOnlyDTO> ticketsProjection() {
+        return readOnly.execute(status -> executor.findSlice(Ticket.class, TicketReadOnlyDTO.class, ticketSpec, pageable, ReadOnlyProjections.TICKET)
+                .getContent());
+    }
+
+    private void seed(TransactionTemplate tx, EntityManager entityManager) {
+        Long[] ids = tx.execute(status -> {
+            Role role = new Role(null, "Benchmark", new HashSet<>(), new HashSet<>());
+            for (Resource resource : Resource.values()) {
+                for (Action action : Action.values()) {
+                    Permission permission = new Permission(null, null, resource, action, new HashSet<>());
+                    entityManager.persist(permission);
+                    role.addPermission(permission);
+                }
+            }
+            entityManager.persist(role);
+            User owner = user(OWNER_UUID, "owner", role);
+            entityManager.persist(owner);
+            Project project = new Project(null, PROJECT_UUID, "Benchmark project", "Holds the seeded tickets", null, false, null, owner, null, null);
+            entityManager.persist(project);
+            return new Long[]{role.getId(), owner.getId(), project.getId()};
+        });
+
+        for (int start = 0; start < ROWS; start += SEED_CHUNK) {
+            int from = start;
+            tx.executeWithoutResult(status -> {
+                Role role = entityManager.getReference(Role.class, ids[0]);
+                User owner = entityManager.getReference(User.class, ids[1]);
+                Project project = entityManager.getReference(Project.class, ids[2]);
+                for (int i = from; i < from + SEED_CHUNK; i++) {
+                    entityManager.persist(user(null, "user" + i, role));
+                    entityManager.persist(new Project(null, null, "Project " + i, "Seeded project " + i, null, false, null, owner, null, null));
+                    entityManager.persist(new Ticket(null, null, "Ticket " + i, "Seeded ticket " + i,
+                            TicketPriority.values()[i % TicketPriority.values().length], TicketStatus.values()[i % TicketStatus.values().length],
+                            LocalDate.now().plusDays(i % 365), project, null));
+                }
+                entityManager.flush();
+                entityManager.clear();
+            });
+        }
+    }
+
+    private static User user(String uuid, String name, Role role) {
+        // Roles are set on the owning side only, so the role's users collection is never loaded
+        return User.builder()
+                .uuid(uuid)
+                .username(name + "@mail.com")
+                .firstname("First " + name)
+                .lastname("Last " + name)
+                .password("{noop}password")
+                .enabled(true)
+                .verified(true)
+                .roles(new HashSet<>(Set.of(role)))
+                .build();
+    }
+}
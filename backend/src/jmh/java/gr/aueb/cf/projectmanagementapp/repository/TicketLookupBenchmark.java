@@ -0,0 +1,140 @@
+package gr.aueb.cf.projectmanagementapp.repository;
+
+import gr.aueb.cf.projectmanagementapp.BenchmarkConfiguration;
+import gr.aueb.cf.projectmanagementapp.core.enums.TicketPriority;
+import gr.aueb.cf.projectmanagementapp.core.enums.TicketStatus;
+import gr.aueb.cf.projectmanagementapp.model.Project;
+import gr.aueb.cf.projectmanagementapp.model.Ticket;
+import gr.aueb.cf.projectmanagementapp.model.User;
+import jakarta.persistence.EntityManager;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.HashSet;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Latency of resolving a ticket under its owner and project, as every ticket read and write does:
+ * the previous path of {@code existsByUuid}, {@code existsByUuidAndOwnerUuid} and
+ * {@code findByUuidAndProjectUuid} versus the single {@link TicketRepository#findTicketLookup} join.
+ * <p>An in-memory H2 database (MySQL mode) is seeded once with {@value #OWNERS} users, each owning
+ * {@value #PROJECTS_PER_OWNER} projects of {@value #TICKETS_PER_PROJECT} tickets. Each invocation
+ * resolves a random ticket inside a read-only transaction, as the services do; {@code missingTicket}
+ * looks up a uuid that does not exist under an existing project.</p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class TicketLookupBenchmark {
+    static final int OWNERS = 1000;
+    static final int PROJECTS_PER_OWNER = 10;
+    static final int TICKETS_PER_PROJECT = 10;
+    private static final int SEED_CHUNK = 20;
+
+    @Param({"found", "missingTicket"})
+    public String outcome;
+
+    private ConfigurableApplicationContext context;
+    private UserRepository userRepository;
+    private ProjectRepository projectRepository;
+    private TicketRepository ticketRepository;
+    private TransactionTemplate readOnly;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkConfiguration.start("ticket-lookup");
+        userRepository = context.getBean(UserRepository.class);
+        projectRepository = context.getBean(ProjectRepository.class);
+        ticketRepository = context.getBean(TicketRepository.class);
+        PlatformTransactionManager transactionManager = context.getBean(PlatformTransactionManager.class);
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        seed(new TransactionTemplate(transactionManager), context.getBean(EntityManager.class));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Optional<Ticket> threeQueries() {
+        Target target = nextTarget();
+        return readOnly.execute(status -> {
+            if (!userRepository.existsByUuid(target.userUuid())) return Optional.empty();
+            if (!projectRepository.existsByUuidAndOwnerUuid(target.projectUuid(), target.userUuid())) return Optional.empty();
+            return ticketRepository.findByUuidAndProjectUuid(target.ticketUuid(), target.projectUuid());
+        });
+    }
+
+    @Benchmark
+    public Optional<ProjectTicketLookup> singleLookup() {
+        Target target = nextTarget();
+        return readOnly.execute(status -> ticketRepository.findTicketLookup(target.userUuid(), target.projectUuid(), target.ticketUuid()));
+    }
+
+    private Target nextTarget() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int owner = random.nextInt(OWNERS);
+        int project = random.nextInt(PROJECTS_PER_OWNER);
+        String ticketUuid = "found".equals(outcome)
+                ? ticketUuid(owner, project, random.nextInt(TICKETS_PER_PROJECT))
+                : "missing-ticket";
+        return new Target(userUuid(owner), projectUuid(owner, project), ticketUuid);
+    }
+
+    private void seed(TransactionTemplate tx, EntityManager entityManager) {
+        for (int start = 0; start < OWNERS; start += SEED_CHUNK) {
+            int from = start;
+            tx.executeWithoutResult(status -> {
+                for (int o = from; o < from + SEED_CHUNK; o++) {
+                    User owner = User.builder()
+                            .uuid(userUuid(o))
+                            .username("owner" + o + "@mail.com")
+                            .firstname("First " + o)
+                            .lastname("Last " + o)
+                            .password("{noop}password")
+                            .enabled(true)
+                            .verified(true)
+                            .roles(new HashSet<>())
+                            .build();
+                    entityManager.persist(owner);
+                    for (int p = 0; p < PROJECTS_PER_OWNER; p++) {
+                        Project project = new Project(null, projectUuid(o, p), "Project " + p, "Seeded project " + p, null, false, null, owner, null, null);
+                        entityManager.persist(project);
+                        for (int t = 0; t < TICKETS_PER_PROJECT; t++) {
+                            entityManager.persist(new Ticket(null, ticketUuid(o, p, t), "Ticket " + t, "Seeded ticket " + t,
+                                    TicketPriority.values()[t % TicketPriority.values().length], TicketStatus.values()[t % TicketStatus.values().length],
+                                    LocalDate.now().plusDays(t), project, null));
+                        }
+                    }
+                }
+                entityManager.flush();
+                entityManager.clear();
+            });
+        }
+    }
+
+    private static String userUuid(int owner) {
+        return "owner-" + owner;
+    }
+
+    private static String projectUuid(int owner, int project) {
+        return "project-" + owner + "-" + project;
+    }
+
+    private static String ticketUuid(int owner, int project, int ticket) {
+        return "ticket-" + owner + "-" + project + "-" + ticket;
+    }
+
+    private record Target(String userUuid, String projectUuid, String ticketUuid) {
+    }
+}
@@ -0,0 +1,89 @@
+package gr.aueb.cf.projectmanagementapp.security;
+
+import gr.aueb.cf.projectmanagementapp.model.User;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import javax.crypto.SecretKey;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Date;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the token work done by {@code JwtAuthenticationFilter} for a single authenticated request.
+ * <p>{@code legacyPerRequest} reproduces the previous behaviour: the signing key was decoded and a new
+ * parser was built for every claim lookup, and the token was parsed four times per request.
+ * {@code cachedPerRequest} is the current path: one parse with the cached parser.</p>
+ * <p>{@code generateToken} and {@code parseClaims} time the two halves on their own: signing a token at
+ * login and verifying one without the validity checks.</p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtAuthenticationBenchmark {
+    private static final String SECRET = "5ce98d378ec88ea09ba8bcd511ef23645f04cc8e70b9134b98723a53c275bbc5";
+
+    private JwtService jwtService;
+    private String token;
+    private User user;
+    private String userUuid;
+
+    @Setup
+    public void setUp() {
+        jwtService = new JwtService(SECRET, new SimpleMeterRegistry());
+        userUuid = UUID.randomUUID().toString();
+        token = jwtService.generateToken("admin@mail.com", userUuid);
+        user = User.builder()
+                .username("admin@mail.com")
+                .passwordLastModified(Instant.now().minus(1, ChronoUnit.DAYS))
+                .build();
+    }
+
+    @Benchmark
+    public boolean legacyPerRequest() {
+        String username = legacyParse(token).getSubject();
+        String subject = legacyParse(token).getSubject();
+        Date issuedAt = legacyParse(token).getIssuedAt();
+        boolean expired = legacyParse(token).getExpiration().before(new Date());
+        return username != null
+                && subject.equals(user.getUsername())
+                && !expired
+                && issuedAt.toInstant().isAfter(user.getPasswordLastModified());
+    }
+
+    @Benchmark
+    public boolean cachedPerRequest() {
+        Claims claims = jwtService.parseClaims(token);
+        return claims.getSubject() != null
+                && jwtService.isTokenValid(claims, user, user.getPasswordLastModified());
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return jwtService.generateToken(user.getUsername(), userUuid);
+    }
+
+    @Benchmark
+    public Claims parseClaims() {
+        return jwtService.parseClaims(token);
+    }
+
+    private static Claims legacyParse(String token) {
+        SecretKey key = Keys.hmacShaKeyFor(Decoders.BASE64.decode(SECRET));
+        return Jwts
+                .parser()
+                .verifyWith(key)
+                .build()
+                .parseSignedClaims(token)
+                .getPayload();
+    }
+}
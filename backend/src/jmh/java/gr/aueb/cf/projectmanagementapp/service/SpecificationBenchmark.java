@@ -0,0 +1,114 @@
+package gr.aueb.cf.projectmanagementapp.service;
+
+import gr.aueb.cf.projectmanagementapp.BenchmarkConfiguration;
+import gr.aueb.cf.projectmanagementapp.core.filters.ProjectFilters;
+import gr.aueb.cf.projectmanagementapp.core.filters.TicketFilters;
+import gr.aueb.cf.projectmanagementapp.core.filters.UserFilters;
+import gr.aueb.cf.projectmanagementapp.model.Project;
+import gr.aueb.cf.projectmanagementapp.model.Ticket;
+import gr.aueb.cf.projectmanagementapp.model.User;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of turning the filters of the {@code /filtered} endpoints into a query, before any SQL runs:
+ * {@code build*} composes the {@link Specification} with the services' {@code getSpecsFromFilters},
+ * {@code criteria*} also applies it to a criteria query and hands that to Hibernate, as
+ * {@code SpecificationQueryExecutor} does for every page. {@code all} sets every filter of the
+ * endpoint, {@code none} leaves them empty.
+ * <p>An in-memory H2 database (MySQL mode) provides the metamodel; it holds no rows.</p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SpecificationBenchmark {
+
+    @Param({"none", "all"})
+    public String filters;
+
+    private ConfigurableApplicationContext context;
+    private EntityManager entityManager;
+    private UserFilters userFilters;
+    private ProjectFilters projectFilters;
+    private TicketFilters ticketFilters;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkConfiguration.start("specifications");
+        entityManager = context.getBean(EntityManagerFactory.class).createEntityManager();
+
+        if ("all".equals(filters)) {
+            userFilters = UserFilters.builder().uuid("3f2a").username("alice").lastname("smith")
+                    .enabled(true).verified(true).isDeleted(false).permissions(List.of("READ_USER", "UPDATE_USER")).build();
+            projectFilters = ProjectFilters.builder().uuid("3f2a").name("apollo").isDeleted(false)
+                    .status(List.of("OPEN", "ON_GOING")).ownerUuid("owner-uuid").build();
+            ticketFilters = TicketFilters.builder().uuid("3f2a").title("login").status(List.of("OPEN"))
+                    .priority(List.of("HIGH", "MEDIUM")).expiryDate(LocalDate.now().plusDays(30))
+                    .projectUuid("project-uuid").ownerUuid("owner-uuid").build();
+        } else {
+            userFilters = new UserFilters();
+            projectFilters = new ProjectFilters();
+            ticketFilters = new TicketFilters();
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        entityManager.close();
+        context.close();
+    }
+
+    @Benchmark
+    public Specification<User> buildUsers() {
+        return UserService.getSpecsFromFilters(userFilters);
+    }
+
+    @Benchmark
+    public Specification<Project> buildProjects() {
+        return UserProjectService.getSpecsFromFilters(projectFilters);
+    }
+
+    @Benchmark
+    public Specification<Ticket> buildTickets() {
+        return UserProjectTicketService.getSpecsFromFilters(ticketFilters);
+    }
+
+    @Benchmark
+    public TypedQuery<User> criteriaUsers() {
+        return criteria(User.class, UserService.getSpecsFromFilters(userFilters));
+    }
+
+    @Benchmark
+    public TypedQuery<Project> criteriaProjects() {
+        return criteria(Project.class, UserProjectService.getSpecsFromFilters(projectFilters));
+    }
+
+    @Benchmark
+    public TypedQuery<Ticket> criteriaTickets() {
+        return criteria(Ticket.class, UserProjectTicketService.getSpecsFromFilters(ticketFilters));
+    }
+
+    private <T> TypedQuery<T> criteria(Class<T> type, Specification<T> spec) {
+        CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<T> query = builder.createQuery(type);
+        Root<T> root = query.from(type);
+        Predicate predicate = spec.toPredicate(root, query, builder);
+        if (predicate != null) query.where(predicate);
+        return entityManager.createQuery(query);
+    }
+}
@@ -0,0 +1,66 @@
+package gr.aueb.cf.projectmanagementapp.loadtest;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Latencies of the successful responses of one endpoint and the number of failed ones. Every sample is
+ * kept, so percentiles are exact; a run of a few million requests needs a few tens of megabytes. A
+ * {@link ReentrantLock} rather than {@code synchronized} keeps waiting virtual threads unpinned.
+ */
+final class LatencyRecorder {
+    private final ReentrantLock lock = new ReentrantLock();
+    private long[] samples = new long[1024];
+    private int count;
+    private long errors;
+
+    void record(long nanos, boolean success) {
+        lock.lock();
+        try {
+            if (!success) {
+                errors++;
+                return;
+            }
+            if (count == samples.length) samples = Arrays.copyOf(samples, count * 2);
+            samples[count++] = nanos;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    EndpointSummary summarize(Operation operation, Duration window) {
+        long[] sorted;
+        long failed;
+        lock.lock();
+        try {
+            sorted = Arrays.copyOf(samples, count);
+            failed = errors;
+        } finally {
+            lock.unlock();
+        }
+        Arrays.sort(sorted);
+        long requests = sorted.length + failed;
+        double seconds = window.toNanos() / 1e9;
+        return new EndpointSummary(operation.endpoint(), requests, failed, requests / seconds,
+                millis(percentile(sorted, 0.50)), millis(percentile(sorted, 0.99)),
+                millis(sorted.length == 0 ? 0 : sorted[sorted.length - 1]));
+    }
+
+    // Nearest-rank percentile
+    private static long percentile(long[] sorted, double quantile) {
+        if (sorted.length == 0) return 0;
+        int rank = (int) Math.ceil(quantile * sorted.length);
+        return sorted[Math.max(rank, 1) - 1];
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1e6;
+    }
+
+    /**
+     * Results of one endpoint over the measured window; latencies are of successful responses only.
+     */
+    record EndpointSummary(String endpoint, long requests, long errors, double throughput,
+                           double p50Millis, double p99Millis, double maxMillis) {}
+}
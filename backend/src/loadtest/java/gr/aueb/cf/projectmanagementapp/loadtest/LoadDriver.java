@@ -0,0 +1,129 @@
+package gr.aueb.cf.projectmanagementapp.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import gr.aueb.cf.projectmanagementapp.core.LoadTestDataSeeder;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * HTTP load driver for a server started with the {@code loadtest} profile ({@code ./gradlew loadtestServer}).
+ * Waits for the readiness probe, which turns UP once the data is seeded, starts
+ * {@code loadtest.virtual-users} sessions spread over the warmup, then records every response for
+ * {@code loadtest.duration} and prints the throughput and the p50/p99 latency of each endpoint.
+ * Settings are described in {@link LoadTestSettings}.
+ */
+public final class LoadDriver {
+    private static final Duration STARTUP_TIMEOUT = Duration.ofMinutes(10);
+    private static final Duration POLL_INTERVAL = Duration.ofSeconds(2);
+
+    private final LoadTestSettings settings;
+    private final ObjectMapper objectMapper = JsonMapper.builder()
+            .findAndAddModules()
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+    private final Map<Operation, LatencyRecorder> recorders = new EnumMap<>(Operation.class);
+    private volatile boolean running = true;
+    private volatile boolean measuring;
+
+    private LoadDriver(LoadTestSettings settings) {
+        this.settings = settings;
+        for (Operation operation : Operation.values()) recorders.put(operation, new LatencyRecorder());
+    }
+
+    public static void main(String[] args) throws Exception {
+        new LoadDriver(LoadTestSettings.fromSystemProperties()).run();
+    }
+
+    private void run() throws IOException, InterruptedException {
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+             HttpClient client = HttpClient.newBuilder()
+                     .version(HttpClient.Version.HTTP_1_1)
+                     .connectTimeout(Duration.ofSeconds(5))
+                     .executor(executor)
+                     .build()) {
+            awaitReadiness(client);
+            System.out.printf("Starting %d virtual users against %s: %s warmup, %s measured%n",
+                    settings.virtualUsers(), settings.baseUrl(), settings.warmup(), settings.duration());
+
+            // Sessions start evenly over the warmup, so logins do not all arrive at once
+            long delayNanos = settings.warmup().toNanos() / Math.max(settings.virtualUsers(), 1);
+            for (int i = 0; i < settings.virtualUsers(); i++) {
+                VirtualUser user = new VirtualUser(client, objectMapper, settings,
+                        LoadTestDataSeeder.username(i % settings.seededUsers()), settings.randomSeed() + i,
+                        this::record, () -> running);
+                executor.submit(user);
+                Thread.sleep(Duration.ofNanos(delayNanos));
+            }
+
+            measuring = true;
+            Thread.sleep(settings.duration());
+            measuring = false;
+            running = false;
+        }
+        report();
+    }
+
+    private void record(Operation operation, long nanos, boolean success) {
+        if (measuring) recorders.get(operation).record(nanos, success);
+    }
+
+    private void awaitReadiness(HttpClient client) throws InterruptedException {
+        URI readiness = settings.managementUrl().resolve("/actuator/health/readiness");
+        Instant deadline = Instant.now().plus(STARTUP_TIMEOUT);
+        System.out.printf("Waiting for %s%n", readiness);
+        while (Instant.now().isBefore(deadline)) {
+            try {
+                HttpResponse<Void> response = client.send(HttpRequest.newBuilder(readiness).GET().build(),
+                        HttpResponse.BodyHandlers.discarding());
+                if (response.statusCode() == 200) return;
+            } catch (IOException e) {
+                // Not listening yet
+            }
+            Thread.sleep(POLL_INTERVAL);
+        }
+        throw new IllegalStateException("Server at " + settings.managementUrl() + " was not ready within " + STARTUP_TIMEOUT);
+    }
+
+    private void report() throws IOException {
+        List<LatencyRecorder.EndpointSummary> summaries = new ArrayList<>();
+        recorders.forEach((operation, recorder) -> {
+            LatencyRecorder.EndpointSummary summary = recorder.summarize(operation, settings.duration());
+            if (summary.requests() > 0) summaries.add(summary);
+        });
+
+        System.out.printf("%n%-80s %10s %8s %10s %10s %10s %10s%n",
+                "Endpoint", "Requests", "Errors", "Req/s", "p50 ms", "p99 ms", "max ms");
+        long requests = 0;
+        long errors = 0;
+        for (LatencyRecorder.EndpointSummary summary : summaries) {
+            System.out.printf("%-80s %10d %8d %10.1f %10.2f %10.2f %10.2f%n", summary.endpoint(), summary.requests(),
+                    summary.errors(), summary.throughput(), summary.p50Millis(), summary.p99Millis(), summary.maxMillis());
+            requests += summary.requests();
+            errors += summary.errors();
+        }
+        System.out.printf("%-80s %10d %8d %10.1f%n", "Total", requests, errors,
+                requests / (settings.duration().toNanos() / 1e9));
+
+        if (settings.report() != null) {
+            if (settings.report().getParent() != null) Files.createDirectories(settings.report().getParent());
+            objectMapper.writerWithDefaultPrettyPrinter().writeValue(settings.report().toFile(),
+                    Map.of("settings", settings, "results", summaries));
+            System.out.printf("Results written to %s%n", settings.report());
+        }
+    }
+}
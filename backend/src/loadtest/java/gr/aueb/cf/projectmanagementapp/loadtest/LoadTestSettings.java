@@ -0,0 +1,75 @@
+package gr.aueb.cf.projectmanagementapp.loadtest;
+
+import java.net.URI;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Settings of a load test run, read from {@code loadtest.*} system properties. The seeded users and
+ * their password must match the {@code loadtest.seed.*} properties the server was started with.
+ *
+ * @param baseUrl       {@code loadtest.base-url}, the server under test
+ * @param managementUrl {@code loadtest.management-url}, its actuator port, polled for readiness
+ * @param virtualUsers  {@code loadtest.virtual-users}, concurrent sessions, each on its own virtual thread
+ * @param warmup        {@code loadtest.warmup}, ramp-up during which sessions start and nothing is recorded
+ * @param duration      {@code loadtest.duration}, the measured window
+ * @param seededUsers   {@code loadtest.seed.users}; session {@code i} logs in as seeded user {@code i % seededUsers}
+ * @param password      {@code loadtest.seed.password}
+ * @param randomSeed    {@code loadtest.random-seed}, so two runs draw the same sequence of operations
+ * @param mix           {@code loadtest.mix}, e.g. {@code me=50,projects-filtered=50}; unlisted operations keep
+ *                      their default weight
+ * @param report        {@code loadtest.report}, optional JSON file the results are also written to
+ */
+public record LoadTestSettings(
+        URI baseUrl,
+        URI managementUrl,
+        int virtualUsers,
+        Duration warmup,
+        Duration duration,
+        int seededUsers,
+        String password,
+        long randomSeed,
+        Map<Operation, Integer> mix,
+        Path report
+) {
+    public static LoadTestSettings fromSystemProperties() {
+        return new LoadTestSettings(
+                URI.create(property("base-url", "http://localhost:8080")),
+                URI.create(property("management-url", "http://localhost:8081")),
+                Integer.parseInt(property("virtual-users", "200")),
+                Duration.parse(property("warmup", "PT10S")),
+                Duration.parse(property("duration", "PT60S")),
+                Integer.parseInt(property("seed.users", "1000")),
+                property("seed.password", "aA!12345"),
+                Long.parseLong(property("random-seed", "42")),
+                parseMix(property("mix", "")),
+                System.getProperty("loadtest.report") == null ? null : Path.of(System.getProperty("loadtest.report"))
+        );
+    }
+
+    static Map<Operation, Integer> parseMix(String value) {
+        Map<Operation, Integer> mix = new EnumMap<>(Operation.class);
+        for (Operation operation : Operation.values()) mix.put(operation, operation.defaultWeight());
+        if (value.isBlank()) return mix;
+
+        for (String entry : value.split(",")) {
+            String[] parts = entry.trim().split("=");
+            if (parts.length != 2) throw new IllegalArgumentException("Invalid loadtest.mix entry: " + entry);
+            mix.put(operation(parts[0].trim()), Integer.parseInt(parts[1].trim()));
+        }
+        return mix;
+    }
+
+    private static Operation operation(String key) {
+        for (Operation operation : Operation.values()) {
+            if (operation.key().equals(key)) return operation;
+        }
+        throw new IllegalArgumentException("Unknown operation in loadtest.mix: " + key);
+    }
+
+    private static String property(String name, String defaultValue) {
+        return System.getProperty("loadtest." + name, defaultValue);
+    }
+}
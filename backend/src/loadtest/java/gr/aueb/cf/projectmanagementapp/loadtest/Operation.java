@@ -0,0 +1,42 @@
+package gr.aueb.cf.projectmanagementapp.loadtest;
+
+import java.util.Locale;
+
+/**
+ * The requests a virtual user makes, with the weight each has in the default mix. The endpoint is the
+ * label the results are reported under.
+ */
+public enum Operation {
+    LOGIN("POST /api/v1/auth/login/access-token", 5),
+    ME("GET /api/v1/users/me", 25),
+    PROJECTS_FILTERED("POST /api/v1/users/{userUuid}/projects/filtered", 30),
+    // Not drawn by default: runs when a user needs tickets of a project to read or update
+    TICKETS_FILTERED("POST /api/v1/users/{userUuid}/projects/{projectUuid}/tickets/filtered", 0),
+    TICKET_CREATE("POST /api/v1/users/{userUuid}/projects/{projectUuid}/tickets", 10),
+    TICKET_READ("GET /api/v1/users/{userUuid}/projects/{projectUuid}/tickets/{ticketUuid}", 15),
+    TICKET_UPDATE("PUT /api/v1/users/{userUuid}/projects/{projectUuid}/tickets/{ticketUuid}", 10),
+    TICKET_DELETE("DELETE /api/v1/users/{userUuid}/projects/{projectUuid}/tickets/{ticketUuid}", 5);
+
+    private final String endpoint;
+    private final int defaultWeight;
+
+    Operation(String endpoint, int defaultWeight) {
+        this.endpoint = endpoint;
+        this.defaultWeight = defaultWeight;
+    }
+
+    public String endpoint() {
+        return endpoint;
+    }
+
+    public int defaultWeight() {
+        return defaultWeight;
+    }
+
+    /**
+     * Name used in {@code loadtest.mix}, e.g. {@code ticket-create}.
+     */
+    public String key() {
+        return name().toLowerCase(Locale.ROOT).replace('_', '-');
+    }
+}
@@ -0,0 +1,71 @@
+package gr.aueb.cf.projectmanagementapp.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Puts two {@link LoadDriver} reports side by side as a Markdown table: throughput and p50/p99 latency of
+ * every endpoint, and the throughput ratio of the second report to the first. Run with
+ * {@code ./gradlew loadtestCompare}; the table is printed and written next to the reports.
+ */
+public final class ReportComparison {
+
+    private ReportComparison() {}
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 3) throw new IllegalArgumentException("Usage: ReportComparison <baseline.json> <candidate.json> <output.md>");
+        Path baseline = Path.of(args[0]);
+        Path candidate = Path.of(args[1]);
+        String table = compare(baseline.getFileName().toString(), read(baseline), candidate.getFileName().toString(), read(candidate));
+        Path output = Path.of(args[2]);
+        if (output.getParent() != null) Files.createDirectories(output.getParent());
+        Files.writeString(output, table);
+        System.out.print(table);
+        System.out.printf("Comparison written to %s%n", output);
+    }
+
+    private static String compare(String baselineName, Map<String, JsonNode> baseline, String candidateName, Map<String, JsonNode> candidate) {
+        StringBuilder table = new StringBuilder();
+        table.append(String.format(Locale.ROOT, "Baseline: %s, candidate: %s%n%n", baselineName, candidateName));
+        table.append("| Endpoint | Req/s baseline | Req/s candidate | Ratio | p50 ms baseline | p50 ms candidate | p99 ms baseline | p99 ms candidate | Errors baseline | Errors candidate |\n");
+        table.append("|---|---:|---:|---:|---:|---:|---:|---:|---:|---:|\n");
+        double baselineTotal = 0;
+        double candidateTotal = 0;
+        for (String endpoint : baseline.keySet()) {
+            JsonNode before = baseline.get(endpoint);
+            JsonNode after = candidate.get(endpoint);
+            if (after == null) continue;
+            baselineTotal += before.path("throughput").asDouble();
+            candidateTotal += after.path("throughput").asDouble();
+            table.append(String.format(Locale.ROOT, "| %s | %.1f | %.1f | %s | %.2f | %.2f | %.2f | %.2f | %d | %d |%n", endpoint,
+                    before.path("throughput").asDouble(), after.path("throughput").asDouble(),
+                    ratio(before.path("throughput").asDouble(), after.path("throughput").asDouble()),
+                    before.path("p50Millis").asDouble(), after.path("p50Millis").asDouble(),
+                    before.path("p99Millis").asDouble(), after.path("p99Millis").asDouble(),
+                    before.path("errors").asLong(), after.path("errors").asLong()));
+        }
+        table.append(String.format(Locale.ROOT, "| Total | %.1f | %.1f | %s | | | | | | |%n",
+                baselineTotal, candidateTotal, ratio(baselineTotal, candidateTotal)));
+        return table.toString();
+    }
+
+    // Results keyed by endpoint, in report order
+    private static Map<String, JsonNode> read(Path report) throws IOException {
+        Map<String, JsonNode> results = new LinkedHashMap<>();
+        for (JsonNode result : JsonMapper.builder().build().readTree(report.toFile()).path("results")) {
+            results.put(result.path("endpoint").asText(), result);
+        }
+        return results;
+    }
+
+    private static String ratio(double baseline, double candidate) {
+        return baseline == 0 ? "-" : String.format(Locale.ROOT, "%.2fx", candidate / baseline);
+    }
+}
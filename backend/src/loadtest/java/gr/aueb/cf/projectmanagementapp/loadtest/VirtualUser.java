@@ -0,0 +1,267 @@
+package gr.aueb.cf.projectmanagementapp.loadtest;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import gr.aueb.cf.projectmanagementapp.dto.AuthenticationRequestDTO;
+import gr.aueb.cf.projectmanagementapp.dto.TicketCreateDTO;
+import gr.aueb.cf.projectmanagementapp.dto.TicketUpdateDTO;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.function.BooleanSupplier;
+
+/**
+ * One session against the API: logs in as a seeded user, then draws operations from the mix until the
+ * run stops. Project and ticket uuids come from earlier responses, as they would for a client. Only
+ * tickets the session created itself are deleted, so the seeded data stays in place; with more
+ * sessions than seeded users, sessions sharing a user may still read a ticket another one deleted.
+ */
+final class VirtualUser implements Runnable {
+    private static final int PAGE_SIZE = 15;
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+    private static final Duration LOGIN_RETRY_DELAY = Duration.ofSeconds(1);
+    private static final String[] PRIORITIES = {"LOW", "MEDIUM", "HIGH", "CRITICAL"};
+    private static final String[] STATUSES = {"OPEN", "ON_GOING", "CLOSED"};
+
+    private record TicketRef(String projectUuid, String uuid) {}
+
+    private final HttpClient client;
+    private final ObjectMapper objectMapper;
+    private final URI baseUrl;
+    private final String username;
+    private final String password;
+    private final Operation[] operations;
+    private final int[] cumulativeWeights;
+    private final SplittableRandom random;
+    private final Recorder recorder;
+    private final BooleanSupplier running;
+
+    private String token;
+    private String userUuid;
+    private final List<String> projects = new ArrayList<>();
+    private final List<TicketRef> tickets = new ArrayList<>();
+    private final Deque<TicketRef> created = new ArrayDeque<>();
+
+    @FunctionalInterface
+    interface Recorder {
+        void record(Operation operation, long nanos, boolean success);
+    }
+
+    VirtualUser(HttpClient client, ObjectMapper objectMapper, LoadTestSettings settings, String username,
+                long randomSeed, Recorder recorder, BooleanSupplier running) {
+        this.client = client;
+        this.objectMapper = objectMapper;
+        this.baseUrl = settings.baseUrl();
+        this.username = username;
+        this.password = settings.password();
+        this.random = new SplittableRandom(randomSeed);
+        this.recorder = recorder;
+        this.running = running;
+
+        Map<Operation, Integer> mix = settings.mix();
+        this.operations = mix.keySet().toArray(Operation[]::new);
+        this.cumulativeWeights = new int[operations.length];
+        int total = 0;
+        for (int i = 0; i < operations.length; i++) {
+            total += Math.max(mix.get(operations[i]), 0);
+            cumulativeWeights[i] = total;
+        }
+        if (total == 0) throw new IllegalArgumentException("loadtest.mix has no operation with a positive weight");
+    }
+
+    @Override
+    public void run() {
+        try {
+            // Logins are rejected with 503 while the hashing pool is saturated, which is expected during ramp-up
+            while (running.getAsBoolean() && !login()) {
+                Thread.sleep(LOGIN_RETRY_DELAY);
+            }
+            while (running.getAsBoolean()) {
+                execute(next());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private Operation next() {
+        int draw = random.nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+        for (int i = 0; i < cumulativeWeights.length; i++) {
+            if (draw < cumulativeWeights[i]) return operations[i];
+        }
+        throw new IllegalStateException();
+    }
+
+    private void execute(Operation operation) throws InterruptedException {
+        if (userUuid == null && operation != Operation.LOGIN) {
+            me();
+            return;
+        }
+        switch (operation) {
+            case LOGIN -> login();
+            case ME -> me();
+            case PROJECTS_FILTERED -> filterProjects();
+            case TICKETS_FILTERED -> filterTickets();
+            case TICKET_CREATE -> createTicket();
+            case TICKET_READ -> readTicket();
+            case TICKET_UPDATE -> updateTicket();
+            case TICKET_DELETE -> deleteTicket();
+        }
+    }
+
+    private boolean login() throws InterruptedException {
+        JsonNode body = send(Operation.LOGIN, post("/api/v1/auth/login/access-token",
+                new AuthenticationRequestDTO(username, password), false));
+        if (body == null) return false;
+        token = body.path("token").asText();
+        return true;
+    }
+
+    private void me() throws InterruptedException {
+        JsonNode body = send(Operation.ME, request("/api/v1/users/me").GET().build());
+        if (body != null) userUuid = body.path("uuid").asText();
+    }
+
+    private void filterProjects() throws InterruptedException {
+        // Seeded users own a handful of projects, so most requests read the first page
+        int page = random.nextInt(4) == 0 ? 1 : 0;
+        JsonNode body = send(Operation.PROJECTS_FILTERED, post("/api/v1/users/" + userUuid + "/projects/filtered",
+                Map.of("page", page, "size", PAGE_SIZE), true));
+        if (body == null) return;
+        for (JsonNode project : body.path("data")) {
+            String uuid = project.path("uuid").asText();
+            if (!projects.contains(uuid)) projects.add(uuid);
+        }
+    }
+
+    private void filterTickets() throws InterruptedException {
+        if (projects.isEmpty()) {
+            filterProjects();
+            return;
+        }
+        String projectUuid = pick(projects);
+        JsonNode body = send(Operation.TICKETS_FILTERED, post(ticketsPath(projectUuid) + "/filtered",
+                Map.of("page", 0, "size", PAGE_SIZE), true));
+        if (body == null) return;
+        tickets.removeIf(ticket -> ticket.projectUuid().equals(projectUuid));
+        for (JsonNode ticket : body.path("data")) {
+            tickets.add(new TicketRef(projectUuid, ticket.path("uuid").asText()));
+        }
+    }
+
+    private void createTicket() throws InterruptedException {
+        if (projects.isEmpty()) {
+            filterProjects();
+            return;
+        }
+        String projectUuid = pick(projects);
+        TicketCreateDTO dto = new TicketCreateDTO("Load test ticket", "Created by the load driver",
+                pick(PRIORITIES), pick(STATUSES), LocalDate.now().plusDays(1 + random.nextInt(90)));
+        JsonNode body = send(Operation.TICKET_CREATE, post(ticketsPath(projectUuid), dto, true));
+        if (body == null) return;
+        TicketRef ticket = new TicketRef(projectUuid, body.path("uuid").asText());
+        created.addLast(ticket);
+        tickets.add(ticket);
+    }
+
+    private void readTicket() throws InterruptedException {
+        if (tickets.isEmpty()) {
+            filterTickets();
+            return;
+        }
+        TicketRef ticket = pick(tickets);
+        send(Operation.TICKET_READ, request(ticketsPath(ticket.projectUuid()) + "/" + ticket.uuid()).GET().build());
+    }
+
+    private void updateTicket() throws InterruptedException {
+        if (tickets.isEmpty()) {
+            filterTickets();
+            return;
+        }
+        TicketRef ticket = pick(tickets);
+        TicketUpdateDTO dto = new TicketUpdateDTO("Updated load test ticket", "Updated by the load driver",
+                pick(PRIORITIES), pick(STATUSES), LocalDate.now().plusDays(1 + random.nextInt(90)));
+        send(Operation.TICKET_UPDATE, request(ticketsPath(ticket.projectUuid()) + "/" + ticket.uuid())
+                .header("Content-Type", "application/json")
+                .PUT(HttpRequest.BodyPublishers.ofString(json(dto)))
+                .build());
+    }
+
+    private void deleteTicket() throws InterruptedException {
+        TicketRef ticket = created.pollLast();
+        if (ticket == null) {
+            createTicket();
+            return;
+        }
+        tickets.remove(ticket);
+        send(Operation.TICKET_DELETE, request(ticketsPath(ticket.projectUuid()) + "/" + ticket.uuid()).DELETE().build());
+    }
+
+    private String ticketsPath(String projectUuid) {
+        return "/api/v1/users/" + userUuid + "/projects/" + projectUuid + "/tickets";
+    }
+
+    private HttpRequest post(String path, Object body, boolean authenticated) {
+        HttpRequest.Builder builder = authenticated ? request(path) : HttpRequest.newBuilder(baseUrl.resolve(path)).timeout(REQUEST_TIMEOUT);
+        return builder.header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(json(body)))
+                .build();
+    }
+
+    private HttpRequest.Builder request(String path) {
+        return HttpRequest.newBuilder(baseUrl.resolve(path))
+                .timeout(REQUEST_TIMEOUT)
+                .header("Authorization", "Bearer " + token);
+    }
+
+    /**
+     * Sends the request and records its latency under the operation. Returns the parsed body of a
+     * successful response, an empty object when it has none, or null when the request failed.
+     */
+    private JsonNode send(Operation operation, HttpRequest request) throws InterruptedException {
+        long start = System.nanoTime();
+        HttpResponse<String> response;
+        try {
+            response = client.send(request, HttpResponse.BodyHandlers.ofString());
+        } catch (IOException e) {
+            recorder.record(operation, System.nanoTime() - start, false);
+            return null;
+        }
+        boolean success = response.statusCode() < 400;
+        recorder.record(operation, System.nanoTime() - start, success);
+        if (!success) return null;
+        try {
+            return response.body().isEmpty() ? objectMapper.createObjectNode() : objectMapper.readTree(response.body());
+        } catch (JsonProcessingException e) {
+            return null;
+        }
+    }
+
+    private String json(Object body) {
+        try {
+            return objectMapper.writeValueAsString(body);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException(e);
+        }
+    }
+
+    private <T> T pick(List<T> values) {
+        return values.get(random.nextInt(values.size()));
+    }
+
+    private String pick(String[] values) {
+        return values[random.nextInt(values.length)];
+    }
+}
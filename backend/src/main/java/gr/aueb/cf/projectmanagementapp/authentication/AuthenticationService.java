@@ -1,11 +1,14 @@
 package gr.aueb.cf.projectmanagementapp.authentication;
 
+import gr.aueb.cf.projectmanagementapp.core.MetricsConfig;
 import gr.aueb.cf.projectmanagementapp.core.exceptions.AppObjectNotAuthorizedException;
+import gr.aueb.cf.projectmanagementapp.core.exceptions.AppServiceUnavailableException;
 import gr.aueb.cf.projectmanagementapp.dto.AuthenticationRequestDTO;
 import gr.aueb.cf.projectmanagementapp.dto.AuthenticationResponseDTO;
 import gr.aueb.cf.projectmanagementapp.model.User;
 import gr.aueb.cf.projectmanagementapp.repository.UserRepository;
 import gr.aueb.cf.projectmanagementapp.security.JwtService;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.BadCredentialsException;
@@ -18,6 +21,7 @@ import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 
 @Service
+@Timed(MetricsConfig.SERVICE_TIMER)
 @RequiredArgsConstructor
 public class AuthenticationService {
     private static final int MAX_FAILED_ATTEMPTS = 5;
@@ -26,6 +30,7 @@ public class AuthenticationService {
     private final JwtService jwtService;
     private final AuthenticationManager authenticationManager;
     private final UserRepository userRepository;
+    private final LoginAttemptTracker loginAttemptTracker;
 
     public AuthenticationResponseDTO authenticate(AuthenticationRequestDTO dto)
             throws AppObjectNotAuthorizedException {
@@ -55,12 +60,12 @@ public class AuthenticationService {
             String token = jwtService.generateToken(authentication.getName(), user.getUuid());
             return new AuthenticationResponseDTO(token);
         } catch (BadCredentialsException e) {
-            // Increment failed attempts
-            increaseFailedAttempts(user);
-            if (user.getLoginConsecutiveFailAttempts() >= MAX_FAILED_ATTEMPTS) {
-                lockUser(user);
+            // Count the failure in memory; the row is only written when the account gets locked
+            int failedAttempts = loginAttemptTracker.recordFailure(user.getUsername(), user.getLoginConsecutiveFailAttempts());
+            if (failedAttempts >= MAX_FAILED_ATTEMPTS) {
+                lockUser(user, failedAttempts);
             }
-            throw new AppObjectNotAuthorizedException("User", "Invalid credentials. Remaining attempts: " + (MAX_FAILED_ATTEMPTS - user.getLoginConsecutiveFailAttempts()));
+            throw new AppObjectNotAuthorizedException("User", "Invalid credentials. Remaining attempts: " + Math.max(0, MAX_FAILED_ATTEMPTS - failedAttempts));
         }
     }
 
@@ -69,6 +74,9 @@ public class AuthenticationService {
             Authentication authentication = authenticationManager.authenticate(
                     new UsernamePasswordAuthenticationToken(username, password));
             return authentication.isAuthenticated();
+        } catch (AppServiceUnavailableException e) {
+            // Saturated password hashing is not a wrong password
+            throw e;
         } catch (Exception e) {
             return false;
         }
@@ -84,23 +92,24 @@ public class AuthenticationService {
         return diffInMinutes >= LOCK_TIME_DURATION;
     }
 
-    private void lockUser(User user) {
+    private void lockUser(User user, int failedAttempts) {
+        user.setLoginConsecutiveFailAttempts(failedAttempts);
         user.lockAccount();
         userRepository.save(user);
+        loginAttemptTracker.reset(user.getUsername());
     }
 
     private void unlockUser(User user) {
         user.unlockAccount();
         userRepository.save(user);
+        loginAttemptTracker.reset(user.getUsername());
     }
 
     private void resetFailedAttempts(User user) {
+        loginAttemptTracker.reset(user.getUsername());
+        Integer persisted = user.getLoginConsecutiveFailAttempts();
+        if (persisted == null || persisted == 0) return;
         user.resetFailedAttempts();
         userRepository.save(user);
     }
-
-    private void increaseFailedAttempts(User user) {
-        user.setLoginConsecutiveFailAttempts(user.getLoginConsecutiveFailAttempts() + 1);
-        userRepository.save(user);
-    }
 }
@@ -1,21 +1,27 @@
 package gr.aueb.cf.projectmanagementapp.authentication;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import gr.aueb.cf.projectmanagementapp.core.MetricsConfig;
 import gr.aueb.cf.projectmanagementapp.model.User;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.core.GrantedAuthority;
 import org.springframework.stereotype.Service;
 
 @Service
+@Timed(MetricsConfig.AUTHORIZATION_TIMER)
 @RequiredArgsConstructor
 public class AuthorizationService {
+    // Weak keys compare by identity, so each principal instance computes its mask once and the entry goes away with it
+    private final Cache<User, PermissionMask> permissionMasks = Caffeine.newBuilder()
+            .weakKeys()
+            .build();
 
     public boolean hasOwnership(User requester, String targetUuid) {
         return requester.getUuid().equals(targetUuid);
     }
 
     public boolean hasAuthority(User requester, String authority) {
-        return requester.getAuthorities().stream()
-                .map(GrantedAuthority::getAuthority)
-                .anyMatch(authority::equals);
+        return permissionMasks.get(requester, PermissionMask::of).has(authority);
     }
 }
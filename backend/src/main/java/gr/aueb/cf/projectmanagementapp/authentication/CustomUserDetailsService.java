@@ -1,6 +1,8 @@
 package gr.aueb.cf.projectmanagementapp.authentication;
 
+import gr.aueb.cf.projectmanagementapp.core.MetricsConfig;
 import gr.aueb.cf.projectmanagementapp.repository.UserRepository;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
@@ -8,13 +10,14 @@ import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 
 @Service
+@Timed(MetricsConfig.SERVICE_TIMER)
 @RequiredArgsConstructor
 public class CustomUserDetailsService implements UserDetailsService {
     private final UserRepository userRepository;
 
     @Override
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
-        return userRepository.findByUsername(username)
+        return userRepository.findWithAuthoritiesByUsername(username)
                 .orElseThrow(() -> new UsernameNotFoundException(username));
     }
 }
@@ -2,6 +2,7 @@ package gr.aueb.cf.projectmanagementapp.authentication;
 
 import gr.aueb.cf.projectmanagementapp.model.User;
 import gr.aueb.cf.projectmanagementapp.security.JwtService;
+import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -27,6 +28,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     private static final Logger LOGGER = LoggerFactory.getLogger(JwtAuthenticationFilter.class);
     private final JwtService jwtService;
     private final UserDetailsService userDetailsService;
+    private final PrincipalCache principalCache;
 
     @Override
     protected void doFilterInternal(
@@ -46,15 +48,17 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         jwt = authHeader.substring(7);
 
         try {
-            username = jwtService.extractSubject(jwt);
+            // Verify and decode the token once, then validate against the parsed claims
+            Claims claims = jwtService.parseClaims(jwt);
+            username = claims.getSubject();
 
 
             if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-                UserDetails userDetails = userDetailsService.loadUserByUsername(username);
-                User user = (User) userDetails;
+                User user = principalCache.get(username, name -> (User) userDetailsService.loadUserByUsername(name));
+                UserDetails userDetails = user;
 
                 if (!userDetails.isEnabled()) {
-                    LOGGER.warn("User is deactivated: " + username);
+                    LOGGER.warn("User is deactivated: {}", username);
                     response.setStatus(HttpStatus.UNAUTHORIZED.value());
                     response.setContentType("application/json");
                     String jsonBody = "{\"code\": \"userDisabled\", \"description\": \"User is deactivated\"}";
@@ -62,7 +66,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                     return;
                 }
 
-                if (jwtService.isTokenValid(jwt, userDetails, user.getPasswordLastModified())) {
+                if (jwtService.isTokenValid(claims, userDetails, user.getPasswordLastModified())) {
                     UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
                             userDetails,
                             null,
@@ -71,18 +75,19 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                     authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
                     SecurityContextHolder.getContext().setAuthentication(authToken);
                 } else {
-                    LOGGER.warn("Token is not valid" + request.getRequestURI());
+                    LOGGER.warn("Token is not valid for {}", request.getRequestURI());
                 }
             }
         } catch (ExpiredJwtException e) {
-            LOGGER.warn("WARN: Expired token ", e);
+            // Routine for clients that keep stale tokens, so no stack trace
+            LOGGER.warn("Expired token for {}: {}", request.getRequestURI(), e.getMessage());
             response.setStatus(HttpStatus.UNAUTHORIZED.value());
             response.setContentType("application/json");
             String jsonBody = "{\"code\": \"expired token\", \"message\"" + e.getMessage() + "\"}";
             response.getWriter().write(jsonBody);
             return;
         } catch (Exception e) {
-            LOGGER.warn("WARN: Something went wrong while parsing JWT ", e);
+            LOGGER.warn("Something went wrong while parsing JWT for {}", request.getRequestURI(), e);
             response.setStatus(HttpStatus.UNAUTHORIZED.value());
             response.setContentType("application/json");
             String jsonBody = "{\"code\": \"invalidToken\", \"description\"" + e.getMessage() + "\"}";
@@ -0,0 +1,57 @@
+package gr.aueb.cf.projectmanagementapp.authentication;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * In-memory consecutive login failure counters, keyed by username. Counting here instead of on the
+ * {@code users} row means a failed login no longer costs an UPDATE; {@link AuthenticationService}
+ * only writes the row when an account is locked or unlocked.
+ * <p>A counter decays once no failure has been recorded for {@code security.login-attempts.window},
+ * and the map is bounded so username spraying cannot grow it without limit. Counters are per instance
+ * and start over on restart from the count persisted with the last lock.</p>
+ */
+@Component
+public class LoginAttemptTracker {
+    private final Cache<String, Integer> failures;
+
+    @Autowired
+    public LoginAttemptTracker(@Value("${security.login-attempts.window:PT15M}") Duration window,
+                               @Value("${security.login-attempts.max-size:100000}") long maxSize) {
+        this(window, maxSize, Ticker.systemTicker());
+    }
+
+    LoginAttemptTracker(Duration window, long maxSize, Ticker ticker) {
+        this.failures = Caffeine.newBuilder()
+                .expireAfterWrite(window)
+                .maximumSize(maxSize)
+                .ticker(ticker)
+                .build();
+    }
+
+    /**
+     * Atomically counts a failed login.
+     *
+     * @param persistedAttempts the count stored on the user row, used when no counter is held yet
+     * @return the number of consecutive failures including this one
+     */
+    public int recordFailure(String username, Integer persistedAttempts) {
+        int baseline = persistedAttempts == null ? 0 : persistedAttempts;
+        return failures.asMap().merge(username, baseline + 1, (current, ignored) -> current + 1);
+    }
+
+    public int getFailures(String username) {
+        Integer count = failures.getIfPresent(username);
+        return count == null ? 0 : count;
+    }
+
+    public void reset(String username) {
+        failures.invalidate(username);
+    }
+}
@@ -0,0 +1,54 @@
+package gr.aueb.cf.projectmanagementapp.authentication;
+
+import gr.aueb.cf.projectmanagementapp.core.enums.Action;
+import gr.aueb.cf.projectmanagementapp.core.enums.Resource;
+import gr.aueb.cf.projectmanagementapp.model.Role;
+import gr.aueb.cf.projectmanagementapp.model.User;
+import gr.aueb.cf.projectmanagementapp.model.static_data.Permission;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Immutable bit set of the effective permissions of a user. Every {@link Resource} x {@link Action}
+ * pair owns one bit, so an authority check is a map lookup and a bitwise AND.
+ */
+public final class PermissionMask {
+    private static final Map<String, Integer> BIT_BY_AUTHORITY = buildBitIndex();
+
+    private final long bits;
+
+    private PermissionMask(long bits) {
+        this.bits = bits;
+    }
+
+    public static PermissionMask of(User user) {
+        long bits = 0L;
+        for (Role role : user.getAllRoles()) {
+            for (Permission permission : role.getAllPermissions()) {
+                if (permission.getName() == null) continue;
+                Integer bit = BIT_BY_AUTHORITY.get(permission.getName());
+                if (bit != null) bits |= 1L << bit;
+            }
+        }
+        return new PermissionMask(bits);
+    }
+
+    public boolean has(String authority) {
+        if (authority == null) return false;
+        Integer bit = BIT_BY_AUTHORITY.get(authority);
+        return bit != null && (bits & (1L << bit)) != 0;
+    }
+
+    private static Map<String, Integer> buildBitIndex() {
+        Map<String, Integer> index = new HashMap<>();
+        int actions = Action.values().length;
+        for (Resource resource : Resource.values()) {
+            for (Action action : Action.values()) {
+                // Same naming scheme as Permission#onCreate
+                index.put(action.name() + "_" + resource.name(), resource.ordinal() * actions + action.ordinal());
+            }
+        }
+        return Map.copyOf(index);
+    }
+}
@@ -0,0 +1,57 @@
+package gr.aueb.cf.projectmanagementapp.authentication;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import gr.aueb.cf.projectmanagementapp.core.TransactionCallbacks;
+import gr.aueb.cf.projectmanagementapp.model.User;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+/**
+ * Bounded, time-expiring cache of the principals resolved by {@link JwtAuthenticationFilter}.
+ * <p>Entries are keyed by username and carry the user's {@code passwordLastModified}, which the filter
+ * still compares against the token issue time. Services that change a user's enabled flag, roles or
+ * password must evict the affected entries. Hit/miss counts are published as {@code cache.*} meters
+ * with {@code cache=principals}.</p>
+ */
+@Component
+public class PrincipalCache {
+    private static final String CACHE_NAME = "principals";
+
+    private final Cache<String, User> cache;
+
+    public PrincipalCache(@Value("${security.principal-cache.ttl:PT30S}") Duration ttl,
+                          @Value("${security.principal-cache.max-size:10000}") long maxSize,
+                          MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .maximumSize(maxSize)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    public User get(String username, Function<String, User> loader) {
+        return cache.get(username, loader);
+    }
+
+    /**
+     * Evicts the user immediately and, when called inside a transaction, once more after commit so that
+     * a concurrent request cannot re-cache the state that is about to be replaced.
+     */
+    public void evict(String username) {
+        if (username == null) return;
+        cache.invalidate(username);
+        TransactionCallbacks.afterCommit(() -> cache.invalidate(username));
+    }
+
+    public void evictAll() {
+        cache.invalidateAll();
+        TransactionCallbacks.afterCommit(cache::invalidateAll);
+    }
+}
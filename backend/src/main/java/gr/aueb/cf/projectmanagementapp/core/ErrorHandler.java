@@ -3,6 +3,7 @@ package gr.aueb.cf.projectmanagementapp.core;
 import gr.aueb.cf.projectmanagementapp.core.exceptions.*;
 import gr.aueb.cf.projectmanagementapp.dto.ApiErrorDTO;
 import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.AccessDeniedException;
@@ -61,6 +62,13 @@ public class ErrorHandler extends ResponseEntityExceptionHandler {
         return new ResponseEntity<>(new ApiErrorDTO(e.getCode(), e.getMessage(), System.currentTimeMillis(), request.getRequestURI()), HttpStatus.INTERNAL_SERVER_ERROR);
     }
 
+    @ExceptionHandler({AppServiceUnavailableException.class})
+    public ResponseEntity<ApiErrorDTO> handleServiceUnavailableException(AppServiceUnavailableException e, HttpServletRequest request) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1, e.getRetryAfter().toSeconds())))
+                .body(new ApiErrorDTO(e.getCode(), e.getMessage(), System.currentTimeMillis(), request.getRequestURI()));
+    }
+
     @ExceptionHandler({AccessDeniedException.class})
     public ResponseEntity<ApiErrorDTO> handleAccessDeniedException(AccessDeniedException e, HttpServletRequest request) {
         return new ResponseEntity<>(
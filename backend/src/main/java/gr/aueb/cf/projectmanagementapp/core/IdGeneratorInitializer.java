@@ -0,0 +1,48 @@
+package gr.aueb.cf.projectmanagementapp.core;
+
+import gr.aueb.cf.projectmanagementapp.model.IdGenerators;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Aligns the rows of the id generator table with the data already present, so that databases created
+ * while ids were still {@code AUTO_INCREMENT} columns do not get duplicate keys. A missing row is
+ * created and a row behind {@code MAX(id)} is moved past it. Runs once all singletons exist, before
+ * the web server starts accepting requests.
+ */
+@Component
+@RequiredArgsConstructor
+public class IdGeneratorInitializer implements SmartInitializingSingleton {
+    private static final Logger LOGGER = LoggerFactory.getLogger(IdGeneratorInitializer.class);
+
+    // The generator row of every entity is keyed by its table name
+    static final List<String> TABLES = List.of("users", "roles", "permissions", "projects", "tickets");
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        TABLES.forEach(this::alignGenerator);
+    }
+
+    private void alignGenerator(String table) {
+        long next = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) + 1 FROM " + table, Long.class);
+        Integer rows = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM " + IdGenerators.TABLE + " WHERE " + IdGenerators.PK_COLUMN + " = ?", Integer.class, table);
+        if (rows == null || rows == 0) {
+            jdbcTemplate.update("INSERT INTO " + IdGenerators.TABLE + " (" + IdGenerators.PK_COLUMN + ", " + IdGenerators.VALUE_COLUMN + ") VALUES (?, ?)",
+                    table, next);
+            LOGGER.info("Initialized id generator for {} at {}", table, next);
+            return;
+        }
+        int updated = jdbcTemplate.update("UPDATE " + IdGenerators.TABLE + " SET " + IdGenerators.VALUE_COLUMN + " = ? WHERE "
+                + IdGenerators.PK_COLUMN + " = ? AND " + IdGenerators.VALUE_COLUMN + " < ?", next, table, next);
+        if (updated > 0) LOGGER.warn("Id generator for {} was behind existing data, moved to {}", table, next);
+    }
+}
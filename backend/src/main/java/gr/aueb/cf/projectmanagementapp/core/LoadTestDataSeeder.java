@@ -0,0 +1,162 @@
+package gr.aueb.cf.projectmanagementapp.core;
+
+import gr.aueb.cf.projectmanagementapp.core.enums.ProjectStatus;
+import gr.aueb.cf.projectmanagementapp.core.enums.TicketPriority;
+import gr.aueb.cf.projectmanagementapp.core.enums.TicketStatus;
+import gr.aueb.cf.projectmanagementapp.core.search.TicketSearchIndexInitializer;
+import gr.aueb.cf.projectmanagementapp.model.Project;
+import gr.aueb.cf.projectmanagementapp.model.Role;
+import gr.aueb.cf.projectmanagementapp.model.Ticket;
+import gr.aueb.cf.projectmanagementapp.model.User;
+import gr.aueb.cf.projectmanagementapp.repository.PermissionRepository;
+import gr.aueb.cf.projectmanagementapp.repository.RoleRepository;
+import gr.aueb.cf.projectmanagementapp.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.HashSet;
+import java.util.List;
+
+/**
+ * Fills the database of the {@code loadtest} profile with {@code loadtest.seed.users} verified users,
+ * each owning {@code loadtest.seed.projects-per-user} projects of {@code loadtest.seed.tickets-per-project}
+ * tickets, all sharing the password {@code loadtest.seed.password}. Runs when the application is ready,
+ * so after {@link DataInitializer}; the readiness state only switches to accepting traffic once it
+ * returns, which is what the load driver waits for.
+ * <p>Users are written {@link #CHUNK_SIZE} at a time, each chunk in its own transaction and in JDBC
+ * batches, and the persistence context is cleared between chunks. The ticket search index is rebuilt
+ * at the end since it was filled before the tickets existed.</p>
+ */
+@Component
+@Profile("loadtest")
+public class LoadTestDataSeeder {
+    private static final Logger LOGGER = LoggerFactory.getLogger(LoadTestDataSeeder.class);
+
+    static final String ROLE_NAME = "Load Test User";
+    // Filtering projects needs READ_PROJECT; tickets of owned projects are covered by ownership
+    static final List<String> PERMISSIONS = List.of("READ_PROJECT", "READ_TICKET");
+    static final int CHUNK_SIZE = 100;
+
+    private static final ProjectStatus[] PROJECT_STATUSES = ProjectStatus.values();
+    private static final TicketPriority[] PRIORITIES = TicketPriority.values();
+    private static final TicketStatus[] TICKET_STATUSES = TicketStatus.values();
+    private static final String[] TOPICS = {"login", "logout", "payment", "export", "search", "report", "upload", "email"};
+
+    private final EntityManager entityManager;
+    private final PermissionRepository permissionRepository;
+    private final RoleRepository roleRepository;
+    private final UserRepository userRepository;
+    private final PasswordEncoder passwordEncoder;
+    private final TicketSearchIndexInitializer ticketSearchIndexInitializer;
+    private final TransactionTemplate transactionTemplate;
+    private final int users;
+    private final int projectsPerUser;
+    private final int ticketsPerProject;
+    private final String password;
+
+    public LoadTestDataSeeder(EntityManager entityManager, PermissionRepository permissionRepository,
+                              RoleRepository roleRepository, UserRepository userRepository,
+                              PasswordEncoder passwordEncoder, TicketSearchIndexInitializer ticketSearchIndexInitializer,
+                              PlatformTransactionManager transactionManager,
+                              @Value("${loadtest.seed.users:1000}") int users,
+                              @Value("${loadtest.seed.projects-per-user:5}") int projectsPerUser,
+                              @Value("${loadtest.seed.tickets-per-project:20}") int ticketsPerProject,
+                              @Value("${loadtest.seed.password}") String password) {
+        this.entityManager = entityManager;
+        this.permissionRepository = permissionRepository;
+        this.roleRepository = roleRepository;
+        this.userRepository = userRepository;
+        this.passwordEncoder = passwordEncoder;
+        this.ticketSearchIndexInitializer = ticketSearchIndexInitializer;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.users = users;
+        this.projectsPerUser = projectsPerUser;
+        this.ticketsPerProject = ticketsPerProject;
+        this.password = password;
+    }
+
+    /**
+     * Username of the seeded user with the given index, from 0 to {@code loadtest.seed.users - 1}.
+     */
+    public static String username(int index) {
+        return "user" + index + "@loadtest.local";
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void seed() {
+        if (userRepository.findByUsername(username(0)).isPresent()) {
+            LOGGER.info("Load test data already present - skipping");
+            return;
+        }
+
+        long start = System.nanoTime();
+        Long roleId = transactionTemplate.execute(status -> createRole().getId());
+        // One hash for every user; hashing each password would dominate the seeding time
+        String encodedPassword = passwordEncoder.encode(password);
+
+        for (int from = 0; from < users; from += CHUNK_SIZE) {
+            int to = Math.min(from + CHUNK_SIZE, users);
+            int first = from;
+            transactionTemplate.executeWithoutResult(status -> {
+                seedUsers(first, to, entityManager.find(Role.class, roleId), encodedPassword);
+                entityManager.flush();
+                entityManager.clear();
+            });
+        }
+        LOGGER.info("Seeded {} users, {} projects and {} tickets in {} ms", users, (long) users * projectsPerUser,
+                (long) users * projectsPerUser * ticketsPerProject, (System.nanoTime() - start) / 1_000_000);
+
+        ticketSearchIndexInitializer.rebuild();
+    }
+
+    private Role createRole() {
+        Role role = new Role(null, ROLE_NAME, new HashSet<>(), new HashSet<>());
+        permissionRepository.findByNameIn(PERMISSIONS).forEach(role::addPermission);
+        return roleRepository.save(role);
+    }
+
+    private void seedUsers(int from, int to, Role role, String encodedPassword) {
+        for (int i = from; i < to; i++) {
+            User user = User.builder()
+                    .username(username(i))
+                    .password(encodedPassword)
+                    .firstname("Load")
+                    .lastname("Tester" + i)
+                    .enabled(true)
+                    .verified(true)
+                    .build();
+            user.addRole(role);
+            entityManager.persist(user);
+
+            for (int p = 0; p < projectsPerUser; p++) {
+                Project project = new Project();
+                project.setName("Project " + p + " of user " + i);
+                project.setDescription("Seeded project");
+                project.setStatus(PROJECT_STATUSES[p % PROJECT_STATUSES.length]);
+                user.addProject(project);
+                entityManager.persist(project);
+
+                for (int t = 0; t < ticketsPerProject; t++) {
+                    entityManager.persist(Ticket.builder()
+                            .title("Ticket " + t + ": " + TOPICS[(i + t) % TOPICS.length])
+                            .description("Seeded ticket about " + TOPICS[t % TOPICS.length])
+                            .priority(PRIORITIES[t % PRIORITIES.length])
+                            .status(TICKET_STATUSES[t % TICKET_STATUSES.length])
+                            .expiryDate(LocalDate.now().plusDays(1 + t % 90))
+                            .project(project)
+                            .build());
+                }
+            }
+        }
+    }
+}
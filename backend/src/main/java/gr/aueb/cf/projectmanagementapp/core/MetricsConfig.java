@@ -0,0 +1,57 @@
+package gr.aueb.cf.projectmanagementapp.core;
+
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.config.MeterFilter;
+import io.micrometer.core.instrument.distribution.DistributionStatisticConfig;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.Set;
+
+/**
+ * Latency timers scraped from {@code /actuator/prometheus}:
+ * <ul>
+ *     <li>{@code http.server.requests}, recorded by Spring MVC per handler (tags {@code method}, {@code uri},
+ *     {@code status}, {@code outcome}, {@code exception})</li>
+ *     <li>{@value #SERVICE_TIMER}, every public method of the services annotated with
+ *     {@code @Timed(MetricsConfig.SERVICE_TIMER)} (tags {@code class}, {@code method}, {@code exception})</li>
+ *     <li>{@value #AUTHORIZATION_TIMER}, the {@code AuthorizationService} checks behind {@code @PreAuthorize}</li>
+ *     <li>{@code hikaricp.connections.acquire}, the time spent waiting for a pooled connection</li>
+ *     <li>{@code jwt.parse} and {@code password.hashing}, registered by {@code JwtService} and
+ *     {@code OffloadingPasswordEncoder} themselves</li>
+ * </ul>
+ * All of them publish percentile histograms, so percentiles can be aggregated across instances.
+ */
+@Configuration
+public class MetricsConfig {
+    public static final String SERVICE_TIMER = "service.method";
+    public static final String AUTHORIZATION_TIMER = "authorization.check";
+
+    static final Set<String> HISTOGRAM_TIMERS = Set.of(
+            "http.server.requests",
+            "hikaricp.connections.acquire",
+            SERVICE_TIMER,
+            AUTHORIZATION_TIMER
+    );
+
+    @Bean
+    public TimedAspect timedAspect(MeterRegistry meterRegistry) {
+        return new TimedAspect(meterRegistry);
+    }
+
+    @Bean
+    public MeterFilter latencyHistograms() {
+        return new MeterFilter() {
+            @Override
+            public DistributionStatisticConfig configure(Meter.Id id, DistributionStatisticConfig config) {
+                if (id.getType() != Meter.Type.TIMER || !HISTOGRAM_TIMERS.contains(id.getName())) return config;
+                return DistributionStatisticConfig.builder()
+                        .percentilesHistogram(true)
+                        .build()
+                        .merge(config);
+            }
+        };
+    }
+}
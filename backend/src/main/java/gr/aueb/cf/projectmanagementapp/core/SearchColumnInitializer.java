@@ -0,0 +1,33 @@
+package gr.aueb.cf.projectmanagementapp.core;
+
+import gr.aueb.cf.projectmanagementapp.model.SearchColumns;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Fills the normalized search columns of rows written before those columns existed. The entities
+ * keep them current from then on, so only rows with a {@code NULL} search value are touched and the
+ * update is a no-op on every later startup.
+ */
+@Component
+@RequiredArgsConstructor
+public class SearchColumnInitializer implements SmartInitializingSingleton {
+    private static final Logger LOGGER = LoggerFactory.getLogger(SearchColumnInitializer.class);
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        SearchColumns.ALL.forEach(this::backfill);
+    }
+
+    private void backfill(SearchColumns.Column column) {
+        int updated = jdbcTemplate.update("UPDATE " + column.table() + " SET " + column.column() + " = LOWER(" + column.source()
+                + ") WHERE " + column.column() + " IS NULL AND " + column.source() + " IS NOT NULL");
+        if (updated > 0) LOGGER.info("Backfilled {}.{} for {} rows", column.table(), column.column(), updated);
+    }
+}
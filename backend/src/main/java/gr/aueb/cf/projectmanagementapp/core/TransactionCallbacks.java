@@ -0,0 +1,30 @@
+package gr.aueb.cf.projectmanagementapp.core;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Work that must only follow a successful commit, such as refreshing caches and the search index after
+ * the database write they mirror.
+ */
+public final class TransactionCallbacks {
+
+    private TransactionCallbacks() {}
+
+    /**
+     * Runs the action once the current transaction commits; it is dropped on rollback. Outside a
+     * transaction it runs right away.
+     */
+    public static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
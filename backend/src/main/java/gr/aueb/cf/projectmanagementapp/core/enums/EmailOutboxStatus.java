@@ -0,0 +1,8 @@
+package gr.aueb.cf.projectmanagementapp.core.enums;
+
+public enum EmailOutboxStatus {
+    PENDING,
+    SENDING,
+    SENT,
+    FAILED,
+}
@@ -0,0 +1,24 @@
+package gr.aueb.cf.projectmanagementapp.core.exceptions;
+
+import lombok.Getter;
+
+import java.time.Duration;
+
+/**
+ * Signals that a bounded resource is saturated and the request should be retried later. Unchecked,
+ * unlike the other application exceptions, because it is raised behind interfaces such as
+ * {@code PasswordEncoder} that cannot declare checked exceptions.
+ */
+@Getter
+public class AppServiceUnavailableException extends RuntimeException {
+    private static final String DEFAULT_CODE = "Unavailable";
+
+    private final String code;
+    private final Duration retryAfter;
+
+    public AppServiceUnavailableException(String code, String message, Duration retryAfter) {
+        super(message);
+        this.code = code + DEFAULT_CODE;
+        this.retryAfter = retryAfter;
+    }
+}
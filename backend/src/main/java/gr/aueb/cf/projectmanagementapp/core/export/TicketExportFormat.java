@@ -0,0 +1,22 @@
+package gr.aueb.cf.projectmanagementapp.core.export;
+
+import gr.aueb.cf.projectmanagementapp.core.exceptions.AppObjectInvalidArgumentException;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum TicketExportFormat {
+    NDJSON("application/x-ndjson", "ndjson"),
+    CSV("text/csv", "csv");
+
+    private final String mediaType;
+    private final String extension;
+
+    public static TicketExportFormat fromValue(String value) throws AppObjectInvalidArgumentException {
+        for (TicketExportFormat format : values()) {
+            if (format.extension.equalsIgnoreCase(value)) return format;
+        }
+        throw new AppObjectInvalidArgumentException("ExportFormat", "Export format " + value + " is not supported. Use ndjson or csv");
+    }
+}
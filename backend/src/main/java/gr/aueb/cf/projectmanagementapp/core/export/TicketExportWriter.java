@@ -0,0 +1,69 @@
+package gr.aueb.cf.projectmanagementapp.core.export;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import gr.aueb.cf.projectmanagementapp.dto.TicketReadOnlyDTO;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * Writes tickets one row at a time as they are pulled from the stream, flushing periodically so
+ * the client receives data while the database cursor is still being read. Only the current row and
+ * the writer buffer are held in memory.
+ */
+@Component
+@RequiredArgsConstructor
+public class TicketExportWriter {
+    static final int FLUSH_EVERY = 1000;
+    private static final String CSV_HEADER = "id,uuid,title,description,priority,status,expiryDate";
+
+    private final ObjectMapper objectMapper;
+
+    public void write(Stream<TicketReadOnlyDTO> tickets, TicketExportFormat format, OutputStream out) throws IOException {
+        // The output stream belongs to the caller, so it is flushed but never closed here
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        if (format == TicketExportFormat.CSV) {
+            writer.write(CSV_HEADER);
+            writer.write('\n');
+        }
+        long written = 0;
+        Iterator<TicketReadOnlyDTO> iterator = tickets.iterator();
+        while (iterator.hasNext()) {
+            TicketReadOnlyDTO ticket = iterator.next();
+            if (format == TicketExportFormat.CSV) {
+                writeCsvRow(writer, ticket);
+            } else {
+                writer.write(objectMapper.writeValueAsString(ticket));
+            }
+            writer.write('\n');
+            if (++written % FLUSH_EVERY == 0) writer.flush();
+        }
+        writer.flush();
+    }
+
+    private void writeCsvRow(Writer writer, TicketReadOnlyDTO ticket) throws IOException {
+        writer.write(String.valueOf(ticket.id()));
+        writer.write(',');
+        writer.write(csv(ticket.uuid()));
+        writer.write(',');
+        writer.write(csv(ticket.title()));
+        writer.write(',');
+        writer.write(csv(ticket.description()));
+        writer.write(',');
+        writer.write(csv(ticket.priority()));
+        writer.write(',');
+        writer.write(csv(ticket.status()));
+        writer.write(',');
+        writer.write(ticket.expiryDate() == null ? "" : ticket.expiryDate().toString());
+    }
+
+    static String csv(String value) {
+        if (value == null) return "";
+        boolean quote = value.indexOf(',') >= 0 || value.indexOf('"') >= 0 || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0;
+        return quote ? '"' + value.replace("\"", "\"\"") + '"' : value;
+    }
+}
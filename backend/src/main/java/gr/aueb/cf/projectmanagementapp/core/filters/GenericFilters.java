@@ -7,6 +7,8 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 
+import java.util.List;
+
 @Getter
 @Setter
 public abstract class GenericFilters {
@@ -18,6 +20,8 @@ public abstract class GenericFilters {
     private int size;
     private String sortBy;
     private Sort.Direction orderBy;
+    private String cursor;
+    private Boolean withCount;
 
     public int getPageSize() {
         return size <= 0 ? DEFAULT_PAGE_SIZE : size;
@@ -36,6 +40,16 @@ public abstract class GenericFilters {
         return sortBy;
     }
 
+    public boolean isCountRequested() {
+        return withCount == null || withCount;
+    }
+
+    /**
+     * Filter criteria without paging and sorting, used to share cached totals between the pages of the
+     * same list. Multi-valued criteria are passed through {@link #normalized(List)}.
+     */
+    public abstract List<Object> getCountKey();
+
     public Pageable getPageable() {
         return PageRequest.of(getPage(), getPageSize(), getSort());
     }
@@ -43,4 +57,18 @@ public abstract class GenericFilters {
     public Sort getSort() {
         return Sort.by(getSortDirection(), getSortField());
     }
+
+    /**
+     * Sort used in cursor mode. The id is appended as a tie-breaker so that every row has a unique
+     * position, which the seek predicate of {@link KeysetCursor} relies on.
+     */
+    public Sort getKeysetSort() {
+        if (DEFAULT_SORT_FIELD.equals(getSortField())) return getSort();
+        return getSort().and(Sort.by(getSortDirection(), DEFAULT_SORT_FIELD));
+    }
+
+    protected static List<String> normalized(List<String> values) {
+        if (values == null || values.isEmpty()) return null;
+        return values.stream().distinct().sorted().toList();
+    }
 }
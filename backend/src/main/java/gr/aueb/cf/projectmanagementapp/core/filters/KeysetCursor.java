@@ -0,0 +1,103 @@
+package gr.aueb.cf.projectmanagementapp.core.filters;
+
+import gr.aueb.cf.projectmanagementapp.core.exceptions.AppObjectInvalidArgumentException;
+import org.springframework.beans.BeanWrapperImpl;
+import org.springframework.data.domain.Sort;
+
+import java.lang.reflect.RecordComponent;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.Set;
+
+/**
+ * Position of the last row of a cursor page: the value of the sort field and the id of that row.
+ * The cursor is handed to clients as an opaque Base64 token and is only valid for the sort it was
+ * issued for.
+ */
+public record KeysetCursor(String sortField, Sort.Direction direction, String value, Long id) {
+    private static final String SEPARATOR = "|";
+    private static final String NULL_VALUE = "\u0000";
+
+    /**
+     * Position of {@code row}, an entity or a read-only DTO record.
+     */
+    public static KeysetCursor of(Object row, String sortField, Sort.Direction direction) {
+        return new KeysetCursor(sortField, direction, asString(property(row, sortField)), (Long) property(row, "id"));
+    }
+
+    /**
+     * Cursor pages are read through a projection and the cursor is built from the returned DTO, so the
+     * sort field must be one of the projection's {@code sortFields}, present under the same name on the
+     * entity and the DTO.
+     */
+    public static void requireSortable(Set<String> sortFields, String sortField) throws AppObjectInvalidArgumentException {
+        if (!sortFields.contains(sortField)) {
+            throw new AppObjectInvalidArgumentException("Cursor", "Cursor pagination cannot sort by " + sortField);
+        }
+    }
+
+    public static KeysetCursor decode(String token, String sortField, Sort.Direction direction) throws AppObjectInvalidArgumentException {
+        if (token == null || token.isBlank()) return null;
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = decoded.split("\\" + SEPARATOR, 4);
+            if (parts.length != 4) throw new IllegalArgumentException("Malformed cursor");
+            if (!parts[0].equals(sortField) || Sort.Direction.valueOf(parts[1]) != direction) {
+                throw new AppObjectInvalidArgumentException("Cursor", "Cursor was issued for a different sort order");
+            }
+            String value = NULL_VALUE.equals(parts[3]) ? null : parts[3];
+            return new KeysetCursor(parts[0], direction, value, Long.valueOf(parts[2]));
+        } catch (IllegalArgumentException e) {
+            throw new AppObjectInvalidArgumentException("Cursor", "Cursor " + token + " is not valid");
+        }
+    }
+
+    public String encode() {
+        String raw = sortField + SEPARATOR + direction.name() + SEPARATOR + id + SEPARATOR + (value == null ? NULL_VALUE : value);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Converts the stored string back to the Java type of the sorted attribute, so the seek predicate
+     * binds a parameter of the column type.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public Comparable<?> typedValue(Class<?> type) {
+        if (value == null) return null;
+        if (type.isEnum()) return Enum.valueOf((Class<? extends Enum>) type, value);
+        if (type == Long.class) return Long.valueOf(value);
+        if (type == Integer.class) return Integer.valueOf(value);
+        if (type == Boolean.class) return Boolean.valueOf(value);
+        if (type == LocalDate.class) return LocalDate.parse(value);
+        if (type == LocalDateTime.class) return LocalDateTime.parse(value);
+        if (type == Instant.class) return Instant.parse(value);
+        return value;
+    }
+
+    private static Object property(Object row, String name) {
+        if (!row.getClass().isRecord()) return new BeanWrapperImpl(row).getPropertyValue(name);
+        RecordComponent component = component(row.getClass(), name);
+        if (component == null) throw new IllegalArgumentException(row.getClass().getSimpleName() + " has no field " + name);
+        try {
+            return component.getAccessor().invoke(row);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static RecordComponent component(Class<?> recordType, String name) {
+        for (RecordComponent component : recordType.getRecordComponents()) {
+            if (component.getName().equals(name)) return component;
+        }
+        return null;
+    }
+
+    private static String asString(Object value) {
+        if (value == null) return null;
+        if (value instanceof Enum<?> e) return e.name();
+        return value.toString();
+    }
+}
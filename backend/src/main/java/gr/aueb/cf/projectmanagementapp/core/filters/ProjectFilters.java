@@ -3,6 +3,7 @@ package gr.aueb.cf.projectmanagementapp.core.filters;
 import lombok.*;
 import org.springframework.lang.Nullable;
 
+import java.util.Arrays;
 import java.util.List;
 
 @Getter
@@ -25,4 +26,9 @@ public class ProjectFilters extends GenericFilters{
 
     @Nullable
     String ownerUuid;
+
+    @Override
+    public List<Object> getCountKey() {
+        return Arrays.asList(uuid, name, isDeleted, normalized(status), ownerUuid);
+    }
 }
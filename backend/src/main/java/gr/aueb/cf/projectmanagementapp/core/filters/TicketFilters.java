@@ -4,6 +4,7 @@ import lombok.*;
 import org.springframework.lang.Nullable;
 
 import java.time.LocalDate;
+import java.util.Arrays;
 import java.util.List;
 
 @Getter
@@ -32,4 +33,17 @@ public class TicketFilters extends GenericFilters{
 
     @Nullable
     String ownerUuid;
+
+    // Full-text query; when present, results are ranked by TicketSearchIndex instead of sorted
+    @Nullable
+    String q;
+
+    public boolean isSearch() {
+        return q != null && !q.isBlank();
+    }
+
+    @Override
+    public List<Object> getCountKey() {
+        return Arrays.asList(uuid, title, normalized(status), normalized(priority), expiryDate, projectUuid, ownerUuid, q);
+    }
 }
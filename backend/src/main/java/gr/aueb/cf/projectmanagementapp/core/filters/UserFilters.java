@@ -3,6 +3,7 @@ package gr.aueb.cf.projectmanagementapp.core.filters;
 import lombok.*;
 import org.springframework.lang.Nullable;
 
+import java.util.Arrays;
 import java.util.List;
 
 @Getter
@@ -31,4 +32,9 @@ public class UserFilters extends GenericFilters {
 
     @Nullable
     List<String> permissions;
+
+    @Override
+    public List<Object> getCountKey() {
+        return Arrays.asList(uuid, username, lastname, enabled, isDeleted, verified, normalized(permissions));
+    }
 }
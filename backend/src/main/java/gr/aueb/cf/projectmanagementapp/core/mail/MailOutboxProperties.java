@@ -0,0 +1,21 @@
+package gr.aueb.cf.projectmanagementapp.core.mail;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "mail.outbox")
+public class MailOutboxProperties {
+    private int batchSize = 50;
+    private int maxAttempts = 6;
+    private Duration initialBackoff = Duration.ofSeconds(30);
+    private Duration maxBackoff = Duration.ofHours(1);
+    private Duration lease = Duration.ofMinutes(5);
+    private Duration retention = Duration.ofDays(7);
+}
@@ -0,0 +1,27 @@
+package gr.aueb.cf.projectmanagementapp.core.search;
+
+import gr.aueb.cf.projectmanagementapp.core.enums.TicketPriority;
+import gr.aueb.cf.projectmanagementapp.core.enums.TicketStatus;
+import gr.aueb.cf.projectmanagementapp.model.Ticket;
+
+import java.time.LocalDate;
+
+/**
+ * The fields of a ticket that {@link TicketSearchIndex} indexes. The project uuid is carried separately
+ * so that indexing a ticket never has to initialize its lazy project.
+ */
+public record TicketSearchDocument(
+        Long id,
+        String uuid,
+        String title,
+        String description,
+        TicketPriority priority,
+        TicketStatus status,
+        LocalDate expiryDate,
+        String projectUuid
+) {
+    public static TicketSearchDocument of(Ticket ticket, String projectUuid) {
+        return new TicketSearchDocument(ticket.getId(), ticket.getUuid(), ticket.getTitle(), ticket.getDescription(),
+                ticket.getPriority(), ticket.getStatus(), ticket.getExpiryDate(), projectUuid);
+    }
+}
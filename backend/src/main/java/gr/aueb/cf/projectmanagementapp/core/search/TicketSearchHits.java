@@ -0,0 +1,13 @@
+package gr.aueb.cf.projectmanagementapp.core.search;
+
+import java.util.List;
+
+/**
+ * One page of ticket ids in relevance order. {@code totalHits} is null when no count was requested.
+ */
+public record TicketSearchHits(List<Long> ids, Long totalHits, boolean hasNext) {
+
+    public static TicketSearchHits empty(boolean withCount) {
+        return new TicketSearchHits(List.of(), withCount ? 0L : null, false);
+    }
+}
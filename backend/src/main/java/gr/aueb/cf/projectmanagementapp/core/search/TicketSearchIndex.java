@@ -0,0 +1,268 @@
+package gr.aueb.cf.projectmanagementapp.core.search;
+
+import gr.aueb.cf.projectmanagementapp.core.TransactionCallbacks;
+import gr.aueb.cf.projectmanagementapp.core.filters.TicketFilters;
+import jakarta.annotation.PreDestroy;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.standard.StandardAnalyzer;
+import org.apache.lucene.analysis.tokenattributes.CharTermAttribute;
+import org.apache.lucene.document.*;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.StoredFields;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.*;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Stream;
+
+/**
+ * In-process Lucene index over ticket titles and descriptions. It is rebuilt from the database at
+ * startup by {@link TicketSearchIndexInitializer} and kept current by the ticket service, which hands
+ * every write over after its transaction commits. Each write refreshes the searcher before returning, so
+ * the next search sees it; the non-blocking refresh would skip while another thread is refreshing and
+ * leave the write invisible until the one after.
+ * <p>The index only ranks: searches return ticket ids, and the caller loads those rows with its own
+ * ownership check. Deletes that bypass the ticket service, such as removing a user with all of their
+ * projects, read the ids of the tickets they drop first and remove them here the same way.</p>
+ */
+@Component
+public class TicketSearchIndex {
+    private static final Logger LOGGER = LoggerFactory.getLogger(TicketSearchIndex.class);
+
+    // Deepest hit that can be paged to; deeper relevance pages are not useful and cost a full collection
+    public static final int MAX_RESULT_WINDOW = 10_000;
+    private static final int MAX_QUERY_TERMS = 32;
+    private static final float TITLE_BOOST = 2.0f;
+
+    static final String ID = "id";
+    static final String UUID = "uuid";
+    static final String TITLE = "title";
+    static final String TITLE_KEYWORD = "title_keyword";
+    static final String DESCRIPTION = "description";
+    static final String PRIORITY = "priority";
+    static final String STATUS = "status";
+    static final String EXPIRY_DATE = "expiry_date";
+    static final String PROJECT_UUID = "project_uuid";
+
+    private final Analyzer analyzer = new StandardAnalyzer();
+    private final Directory directory;
+    private final IndexWriter writer;
+    private final SearcherManager searcherManager;
+
+    /**
+     * Keeps the index under {@code search.tickets.index-path}, memory-mapped, or on the heap when the
+     * path is blank. Either way it starts empty, since it is rebuilt on every startup.
+     */
+    @Autowired
+    public TicketSearchIndex(@Value("${search.tickets.index-path:}") String indexPath) throws IOException {
+        this(StringUtils.isBlank(indexPath) ? new ByteBuffersDirectory() : FSDirectory.open(Path.of(indexPath)));
+    }
+
+    public TicketSearchIndex(Directory directory) throws IOException {
+        this.directory = directory;
+        this.writer = new IndexWriter(directory, new IndexWriterConfig(analyzer).setOpenMode(IndexWriterConfig.OpenMode.CREATE));
+        this.searcherManager = new SearcherManager(writer, new SearcherFactory());
+    }
+
+    /**
+     * Replaces the whole index with the given tickets.
+     */
+    public long rebuild(Stream<TicketSearchDocument> tickets) {
+        try {
+            writer.deleteAll();
+            long count = 0;
+            for (TicketSearchDocument ticket : (Iterable<TicketSearchDocument>) tickets::iterator) {
+                writer.addDocument(toDocument(ticket));
+                count++;
+            }
+            writer.commit();
+            searcherManager.maybeRefreshBlocking();
+            return count;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Adds or replaces the ticket once the current transaction commits, or right away outside one.
+     */
+    public void index(TicketSearchDocument ticket) {
+        afterCommit(() -> {
+            writer.updateDocument(new Term(ID, String.valueOf(ticket.id())), toDocument(ticket));
+            searcherManager.maybeRefreshBlocking();
+        });
+    }
+
+    /**
+     * Removes the ticket once the current transaction commits, or right away outside one.
+     */
+    public void remove(Long ticketId) {
+        afterCommit(() -> {
+            writer.deleteDocuments(new Term(ID, String.valueOf(ticketId)));
+            searcherManager.maybeRefreshBlocking();
+        });
+    }
+
+    /**
+     * Removes the tickets once the current transaction commits, or right away outside one.
+     */
+    public void removeAll(Collection<Long> ticketIds) {
+        if (ticketIds.isEmpty()) return;
+        afterCommit(() -> {
+            writer.deleteDocuments(ticketIds.stream().map(id -> new Term(ID, String.valueOf(id))).toArray(Term[]::new));
+            searcherManager.maybeRefreshBlocking();
+        });
+    }
+
+    /**
+     * Ids of one page of the project's tickets matching {@code q}, best match first. Every term of
+     * {@code q} must appear in the title or the description; title matches rank higher. The other
+     * filters are applied as non-scoring clauses. The page must start within the first
+     * {@link #MAX_RESULT_WINDOW} hits; callers reject deeper pages before searching.
+     */
+    public TicketSearchHits search(TicketFilters filters) {
+        int from = filters.getPage() * filters.getPageSize();
+        int to = from + filters.getPageSize();
+        if (from >= MAX_RESULT_WINDOW) {
+            throw new IllegalArgumentException("Search page starts at hit " + from + ", past the first " + MAX_RESULT_WINDOW);
+        }
+        Query text = textQuery(filters.getQ());
+        if (text == null) return TicketSearchHits.empty(filters.isCountRequested());
+        Query query = withFilters(text, filters);
+
+        try {
+            IndexSearcher searcher = searcherManager.acquire();
+            try {
+                ScoreDoc[] scoreDocs = searcher.search(query, Math.min(to + 1, MAX_RESULT_WINDOW)).scoreDocs;
+                StoredFields storedFields = searcher.storedFields();
+                List<Long> ids = new ArrayList<>(filters.getPageSize());
+                for (int i = from; i < Math.min(to, scoreDocs.length); i++) {
+                    ids.add(Long.valueOf(storedFields.document(scoreDocs[i].doc).get(ID)));
+                }
+                Long total = filters.isCountRequested() ? (long) searcher.count(query) : null;
+                return new TicketSearchHits(ids, total, scoreDocs.length > to);
+            } finally {
+                searcherManager.release(searcher);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @PreDestroy
+    public void close() throws IOException {
+        searcherManager.close();
+        writer.close();
+        directory.close();
+        analyzer.close();
+    }
+
+    private Query textQuery(String q) {
+        List<String> terms = analyze(q);
+        if (terms.isEmpty()) return null;
+        BooleanQuery.Builder query = new BooleanQuery.Builder();
+        for (String term : terms) {
+            query.add(new BooleanQuery.Builder()
+                    .add(new BoostQuery(new TermQuery(new Term(TITLE, term)), TITLE_BOOST), BooleanClause.Occur.SHOULD)
+                    .add(new TermQuery(new Term(DESCRIPTION, term)), BooleanClause.Occur.SHOULD)
+                    .build(), BooleanClause.Occur.MUST);
+        }
+        return query.build();
+    }
+
+    private static Query withFilters(Query text, TicketFilters filters) {
+        BooleanQuery.Builder query = new BooleanQuery.Builder().add(text, BooleanClause.Occur.MUST);
+        if (StringUtils.isNotBlank(filters.getProjectUuid())) {
+            query.add(new TermQuery(new Term(PROJECT_UUID, filters.getProjectUuid())), BooleanClause.Occur.FILTER);
+        }
+        if (StringUtils.isNotBlank(filters.getUuid())) {
+            query.add(new PrefixQuery(new Term(UUID, filters.getUuid().toLowerCase(Locale.ROOT))), BooleanClause.Occur.FILTER);
+        }
+        if (StringUtils.isNotBlank(filters.getTitle())) {
+            query.add(new PrefixQuery(new Term(TITLE_KEYWORD, filters.getTitle().toLowerCase(Locale.ROOT))), BooleanClause.Occur.FILTER);
+        }
+        if (filters.getStatus() != null && !filters.getStatus().isEmpty()) {
+            query.add(anyOf(STATUS, filters.getStatus()), BooleanClause.Occur.FILTER);
+        }
+        if (filters.getPriority() != null && !filters.getPriority().isEmpty()) {
+            query.add(anyOf(PRIORITY, filters.getPriority()), BooleanClause.Occur.FILTER);
+        }
+        if (filters.getExpiryDate() != null) {
+            query.add(LongPoint.newRangeQuery(EXPIRY_DATE, Long.MIN_VALUE, filters.getExpiryDate().toEpochDay()), BooleanClause.Occur.FILTER);
+        }
+        return query.build();
+    }
+
+    private static Query anyOf(String field, List<String> values) {
+        BooleanQuery.Builder query = new BooleanQuery.Builder();
+        values.stream().distinct().forEach(value -> query.add(new TermQuery(new Term(field, value)), BooleanClause.Occur.SHOULD));
+        return query.build();
+    }
+
+    private List<String> analyze(String text) {
+        List<String> terms = new ArrayList<>();
+        if (StringUtils.isBlank(text)) return terms;
+        try (TokenStream stream = analyzer.tokenStream(DESCRIPTION, text)) {
+            CharTermAttribute term = stream.addAttribute(CharTermAttribute.class);
+            stream.reset();
+            while (stream.incrementToken() && terms.size() < MAX_QUERY_TERMS) {
+                if (!terms.contains(term.toString())) terms.add(term.toString());
+            }
+            stream.end();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return terms;
+    }
+
+    private static Document toDocument(TicketSearchDocument ticket) {
+        Document document = new Document();
+        document.add(new StringField(ID, String.valueOf(ticket.id()), Field.Store.YES));
+        document.add(new StringField(UUID, ticket.uuid().toLowerCase(Locale.ROOT), Field.Store.NO));
+        document.add(new StringField(PROJECT_UUID, ticket.projectUuid(), Field.Store.NO));
+        if (ticket.title() != null) {
+            document.add(new TextField(TITLE, ticket.title(), Field.Store.NO));
+            document.add(new StringField(TITLE_KEYWORD, ticket.title().toLowerCase(Locale.ROOT), Field.Store.NO));
+        }
+        if (ticket.description() != null) document.add(new TextField(DESCRIPTION, ticket.description(), Field.Store.NO));
+        if (ticket.priority() != null) document.add(new StringField(PRIORITY, ticket.priority().name(), Field.Store.NO));
+        if (ticket.status() != null) document.add(new StringField(STATUS, ticket.status().name(), Field.Store.NO));
+        if (ticket.expiryDate() != null) document.add(new LongPoint(EXPIRY_DATE, ticket.expiryDate().toEpochDay()));
+        return document;
+    }
+
+    private static void afterCommit(IndexUpdate update) {
+        TransactionCallbacks.afterCommit(() -> apply(update));
+    }
+
+    private static void apply(IndexUpdate update) {
+        try {
+            update.run();
+        } catch (IOException e) {
+            // The database write already committed; a missed update only affects ranking until the next rebuild
+            LOGGER.error("Failed to update the ticket search index", e);
+        }
+    }
+
+    @FunctionalInterface
+    private interface IndexUpdate {
+        void run() throws IOException;
+    }
+}
@@ -0,0 +1,50 @@
+package gr.aueb.cf.projectmanagementapp.core.search;
+
+import gr.aueb.cf.projectmanagementapp.repository.TicketRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.stream.Stream;
+
+/**
+ * Fills the {@link TicketSearchIndex} from the tickets table. Runs once all singletons exist, before
+ * the web server starts accepting requests, so searches never see a half-built index.
+ */
+@Component
+public class TicketSearchIndexInitializer implements SmartInitializingSingleton {
+    private static final Logger LOGGER = LoggerFactory.getLogger(TicketSearchIndexInitializer.class);
+
+    private final TicketSearchIndex ticketSearchIndex;
+    private final TicketRepository ticketRepository;
+    private final TransactionTemplate readOnly;
+
+    public TicketSearchIndexInitializer(TicketSearchIndex ticketSearchIndex, TicketRepository ticketRepository,
+                                        PlatformTransactionManager transactionManager) {
+        this.ticketSearchIndex = ticketSearchIndex;
+        this.ticketRepository = ticketRepository;
+        this.readOnly = new TransactionTemplate(transactionManager);
+        this.readOnly.setReadOnly(true);
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        rebuild();
+    }
+
+    /**
+     * Replaces the index with the current contents of the tickets table.
+     */
+    public void rebuild() {
+        long start = System.nanoTime();
+        Long indexed = readOnly.execute(status -> {
+            try (Stream<TicketSearchDocument> tickets = ticketRepository.streamSearchDocuments()) {
+                return ticketSearchIndex.rebuild(tickets);
+            }
+        });
+        LOGGER.info("Indexed {} tickets for search in {} ms", indexed, (System.nanoTime() - start) / 1_000_000);
+    }
+}
@@ -0,0 +1,47 @@
+package gr.aueb.cf.projectmanagementapp.core.specifications;
+
+import gr.aueb.cf.projectmanagementapp.core.filters.KeysetCursor;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+public class KeysetSpecification {
+
+    private KeysetSpecification() {}
+
+    /**
+     * Seek predicate for rows strictly after the cursor in (sortField, id) order. Nulls sort first in
+     * ascending and last in descending order, as they do in MySQL.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public static <T> Specification<T> after(KeysetCursor cursor) {
+        return (root, query, builder) -> {
+            if (cursor == null) return builder.conjunction();
+            boolean ascending = cursor.direction() == Sort.Direction.ASC;
+            Path<Long> id = root.get("id");
+            Predicate idAfter = ascending ? builder.greaterThan(id, cursor.id()) : builder.lessThan(id, cursor.id());
+            if ("id".equals(cursor.sortField())) return idAfter;
+
+            Path<Comparable> field = root.get(cursor.sortField());
+            Comparable value = cursor.typedValue(field.getJavaType());
+            if (value == null) {
+                // Cursor sits inside the null block
+                Predicate sameBlock = builder.and(builder.isNull(field), idAfter);
+                return ascending ? builder.or(sameBlock, builder.isNotNull(field)) : sameBlock;
+            }
+            Predicate beyond = builder.or(
+                    isAfter(builder, field, value, ascending),
+                    builder.and(builder.equal(field, value), idAfter)
+            );
+            return ascending ? beyond : builder.or(beyond, builder.isNull(field));
+        };
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Predicate isAfter(CriteriaBuilder builder, Expression<Comparable> field, Comparable value, boolean ascending) {
+        return ascending ? builder.greaterThan(field, value) : builder.lessThan(field, value);
+    }
+}
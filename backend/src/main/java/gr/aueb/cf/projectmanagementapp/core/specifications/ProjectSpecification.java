@@ -1,24 +1,26 @@
 package gr.aueb.cf.projectmanagementapp.core.specifications;
 
 import gr.aueb.cf.projectmanagementapp.model.Project;
+import gr.aueb.cf.projectmanagementapp.model.SearchColumns;
 import gr.aueb.cf.projectmanagementapp.model.User;
 import jakarta.persistence.criteria.Join;
 import org.springframework.data.jpa.domain.Specification;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 public class ProjectSpecification {
-    private static final Set<String> allowedLikeFields = Set.of("uuid", "name");
+    private static final Map<String, String> likeFieldColumns = Map.of("uuid", "uuid", "name", "nameSearch");
     private static final Set<String> allowedBooleanFields = Set.of("isDeleted");
 
     private ProjectSpecification() {}
 
     public static Specification<Project> projectsFieldLike(String field, String value) {
         return ((root, query, builder) -> {
-            if (field == null || field.isBlank() || !allowedLikeFields.contains(field)) return builder.conjunction();
+            if (field == null || field.isBlank() || !likeFieldColumns.containsKey(field)) return builder.conjunction();
             if (value == null || value.isBlank()) return builder.conjunction();
-            return builder.like(builder.upper(root.get(field)), value.toUpperCase() + "%");
+            return builder.like(root.get(likeFieldColumns.get(field)), SearchColumns.normalize(value) + "%");
         });
     }
 
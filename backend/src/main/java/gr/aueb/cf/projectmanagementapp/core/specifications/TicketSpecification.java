@@ -1,6 +1,7 @@
 package gr.aueb.cf.projectmanagementapp.core.specifications;
 
 import gr.aueb.cf.projectmanagementapp.model.Project;
+import gr.aueb.cf.projectmanagementapp.model.SearchColumns;
 import gr.aueb.cf.projectmanagementapp.model.Ticket;
 import gr.aueb.cf.projectmanagementapp.model.User;
 import jakarta.persistence.criteria.Join;
@@ -8,18 +9,18 @@ import org.springframework.data.jpa.domain.Specification;
 
 import java.time.LocalDate;
 import java.util.List;
-import java.util.Set;
+import java.util.Map;
 
 public class TicketSpecification {
-    private static final Set<String> allowedLikeFields = Set.of("uuid", "title");
+    private static final Map<String, String> likeFieldColumns = Map.of("uuid", "uuid", "title", "titleSearch");
 
     private TicketSpecification() {}
 
     public static Specification<Ticket> ticketsFieldLike(String field, String value) {
         return ((root, query, builder) -> {
-            if (field == null || field.isBlank() || !allowedLikeFields.contains(field)) return builder.conjunction();
+            if (field == null || field.isBlank() || !likeFieldColumns.containsKey(field)) return builder.conjunction();
             if (value == null || value.isBlank()) return builder.conjunction();
-            return builder.like(builder.upper(root.get(field)), value.toUpperCase() + "%");
+            return builder.like(root.get(likeFieldColumns.get(field)), SearchColumns.normalize(value) + "%");
         });
     }
 
@@ -1,16 +1,21 @@
 package gr.aueb.cf.projectmanagementapp.core.specifications;
 
 import gr.aueb.cf.projectmanagementapp.model.Role;
+import gr.aueb.cf.projectmanagementapp.model.SearchColumns;
 import gr.aueb.cf.projectmanagementapp.model.User;
 import gr.aueb.cf.projectmanagementapp.model.static_data.Permission;
 import jakarta.persistence.criteria.Join;
 import org.springframework.data.jpa.domain.Specification;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 public class UserSpecification {
-    private static final Set<String> allowedLikeFields = Set.of("uuid", "username", "lastname");
+    private static final Map<String, String> likeFieldColumns = Map.of(
+            "uuid", "uuid",
+            "username", "usernameSearch",
+            "lastname", "lastnameSearch");
     private static final Set<String> allowedBooleanFields = Set.of("verified", "enabled", "isDeleted");
 
     private UserSpecification() {
@@ -19,9 +24,9 @@ public class UserSpecification {
 
     public static Specification<User> usersFieldLike(String field, String value) {
         return ((root, query, builder) -> {
-            if (field == null || field.isBlank() || !allowedLikeFields.contains(field)) return builder.conjunction();
+            if (field == null || field.isBlank() || !likeFieldColumns.containsKey(field)) return builder.conjunction();
             if (value == null || value.isBlank()) return builder.conjunction();
-            return builder.like(builder.upper(root.get(field)), value.toUpperCase() + "%");
+            return builder.like(root.get(likeFieldColumns.get(field)), SearchColumns.normalize(value) + "%");
         });
     }
 
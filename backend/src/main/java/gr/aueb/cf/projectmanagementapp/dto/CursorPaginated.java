@@ -0,0 +1,32 @@
+package gr.aueb.cf.projectmanagementapp.dto;
+
+import gr.aueb.cf.projectmanagementapp.core.filters.GenericFilters;
+import gr.aueb.cf.projectmanagementapp.core.filters.KeysetCursor;
+
+import java.util.List;
+import java.util.function.Function;
+
+public record CursorPaginated<T>(
+        List<T> data,
+        String nextCursor,
+        int pageSize,
+        boolean hasNext
+) {
+    /**
+     * Builds a page from rows fetched with a limit of {@code pageSize + 1}. The extra row only signals
+     * that another page exists and is not returned.
+     */
+    public static <T> CursorPaginated<T> of(List<T> rows, GenericFilters filters) {
+        return of(rows, filters, Function.identity());
+    }
+
+    public static <E, T> CursorPaginated<T> of(List<E> rows, GenericFilters filters, Function<E, T> mapper) {
+        int pageSize = filters.getPageSize();
+        boolean hasNext = rows.size() > pageSize;
+        List<E> page = hasNext ? rows.subList(0, pageSize) : rows;
+        String nextCursor = hasNext
+                ? KeysetCursor.of(page.getLast(), filters.getSortField(), filters.getSortDirection()).encode()
+                : null;
+        return new CursorPaginated<>(page.stream().map(mapper).toList(), nextCursor, pageSize, hasNext);
+    }
+}
@@ -1,19 +1,27 @@
 package gr.aueb.cf.projectmanagementapp.dto;
 
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 
 import java.util.List;
 
 public record Paginated<T> (
         List<T> data,
-        long totalItems,
-        int totalPages,
+        Long totalItems,
+        Integer totalPages,
         int numberOfElements,
         int currentPage,
-        int pageSize
+        int pageSize,
+        boolean hasNext
 ){
     public Paginated(Page<T> page) {
-        this(page.getContent(), page.getTotalElements(), page.getTotalPages(), page.getNumber(), page.getPageable().getPageNumber(), page.getNumberOfElements());
+        this(page.getContent(), page.getTotalElements(), page.getTotalPages(), page.getNumberOfElements(), page.getNumber(), page.getSize(), page.hasNext());
     }
-}
 
+    /**
+     * Page requested without a total count; {@code totalItems} and {@code totalPages} are left null.
+     */
+    public Paginated(Slice<T> slice) {
+        this(slice.getContent(), null, null, slice.getNumberOfElements(), slice.getNumber(), slice.getSize(), slice.hasNext());
+    }
+}
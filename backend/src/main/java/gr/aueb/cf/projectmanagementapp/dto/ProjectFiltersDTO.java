@@ -10,10 +10,11 @@ public record ProjectFiltersDTO(
         String uuid,
         String name,
         Boolean isDeleted,
-        List<String> status
-
+        List<String> status,
+        String cursor,
+        Boolean withCount
 ) {
     public ProjectFiltersDTO() {
-        this(null, null, null, null, null, null, null, null);
+        this(null, null, null, null, null, null, null, null, null, null);
     }
 }
@@ -1,5 +1,7 @@
 package gr.aueb.cf.projectmanagementapp.dto;
 
+import gr.aueb.cf.projectmanagementapp.core.enums.ProjectStatus;
+
 public record ProjectReadOnlyDTO(
         Long id,
         String uuid,
@@ -9,4 +11,10 @@ public record ProjectReadOnlyDTO(
         String status,
         Boolean deleted
 ) {
+    /**
+     * Used by the constructor expression of {@code ReadOnlyProjections#PROJECT}.
+     */
+    public ProjectReadOnlyDTO(Long id, String uuid, String name, String description, String ownerUuid, ProjectStatus status, Boolean deleted) {
+        this(id, uuid, name, description, ownerUuid, status == null ? null : status.name(), deleted);
+    }
 }
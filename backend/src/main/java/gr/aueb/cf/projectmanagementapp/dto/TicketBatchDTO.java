@@ -0,0 +1,36 @@
+package gr.aueb.cf.projectmanagementapp.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+public record TicketBatchDTO(
+        @Schema(description = "Tickets to create in the project.")
+        @Size(max = 500, message = "At most 500 tickets can be created per batch.")
+        @Valid
+        List<TicketCreateDTO> create,
+
+        @Schema(description = "Tickets of the project to patch.")
+        @Size(max = 500, message = "At most 500 tickets can be patched per batch.")
+        @Valid
+        List<TicketBatchPatchDTO> patch,
+
+        @Schema(description = "UUIDs of tickets of the project to delete.")
+        @Size(max = 500, message = "At most 500 tickets can be deleted per batch.")
+        List<@NotBlank String> delete
+) {
+    public List<TicketCreateDTO> createOrEmpty() {
+        return create == null ? List.of() : create;
+    }
+
+    public List<TicketBatchPatchDTO> patchOrEmpty() {
+        return patch == null ? List.of() : patch;
+    }
+
+    public List<String> deleteOrEmpty() {
+        return delete == null ? List.of() : delete;
+    }
+}
@@ -0,0 +1,31 @@
+package gr.aueb.cf.projectmanagementapp.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+public record TicketBatchItemResultDTO(
+        @Schema(description = "The operation of the item.", examples = {"CREATE", "PATCH", "DELETE"})
+        String operation,
+
+        @Schema(description = "Position of the item in its operation list of the request.", example = "0")
+        int index,
+
+        @Schema(description = "The UUID of the affected ticket.")
+        String uuid,
+
+        @Schema(description = "Whether the item was applied.")
+        boolean success,
+
+        @Schema(description = "The ticket after a successful create or patch.")
+        TicketReadOnlyDTO ticket,
+
+        @Schema(description = "The reason a failed item was skipped.")
+        String error
+) {
+    public static TicketBatchItemResultDTO applied(String operation, int index, String uuid, TicketReadOnlyDTO ticket) {
+        return new TicketBatchItemResultDTO(operation, index, uuid, true, ticket, null);
+    }
+
+    public static TicketBatchItemResultDTO failed(String operation, int index, String uuid, String error) {
+        return new TicketBatchItemResultDTO(operation, index, uuid, false, null, error);
+    }
+}
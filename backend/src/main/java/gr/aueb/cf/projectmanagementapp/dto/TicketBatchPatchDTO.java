@@ -0,0 +1,18 @@
+package gr.aueb.cf.projectmanagementapp.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+
+public record TicketBatchPatchDTO(
+        @Schema(description = "The UUID of the ticket to patch.", example = "baba3f82-7b0f-4440-9893-a2f76169802c")
+        @NotBlank(message = "Ticket uuid is a required field.")
+        String uuid,
+
+        @Schema(description = "The fields to change. Null fields are left untouched.")
+        @NotNull(message = "Changes is a required field.")
+        @Valid
+        TicketPatchDTO changes
+) {
+}
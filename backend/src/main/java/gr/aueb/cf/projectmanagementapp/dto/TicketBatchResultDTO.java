@@ -0,0 +1,15 @@
+package gr.aueb.cf.projectmanagementapp.dto;
+
+import java.util.List;
+
+public record TicketBatchResultDTO(
+        int succeeded,
+        int failed,
+        List<TicketBatchItemResultDTO> results
+) {
+    public TicketBatchResultDTO(List<TicketBatchItemResultDTO> results) {
+        this((int) results.stream().filter(TicketBatchItemResultDTO::success).count(),
+                (int) results.stream().filter(result -> !result.success()).count(),
+                results);
+    }
+}
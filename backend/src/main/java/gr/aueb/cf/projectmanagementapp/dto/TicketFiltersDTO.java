@@ -15,10 +15,12 @@ public record TicketFiltersDTO(
         List<String> status,
         List<String> priority,
         @JsonFormat(pattern = "yyyy-MM-dd")
-        LocalDate expiryDate
-
+        LocalDate expiryDate,
+        String cursor,
+        Boolean withCount,
+        String q
 ) {
     public TicketFiltersDTO() {
-        this(null, null, null, null, null, null, null, null, null);
+        this(null, null, null, null, null, null, null, null, null, null, null, null);
     }
 }
@@ -1,6 +1,9 @@
 package gr.aueb.cf.projectmanagementapp.dto;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
+import gr.aueb.cf.projectmanagementapp.core.enums.TicketPriority;
+import gr.aueb.cf.projectmanagementapp.core.enums.TicketStatus;
+
 import java.time.LocalDate;
 
 public record TicketReadOnlyDTO(
@@ -13,4 +16,10 @@ public record TicketReadOnlyDTO(
         @JsonFormat(pattern = "yyyy-MM-dd")
         LocalDate expiryDate
 ) {
+    /**
+     * Used by the constructor expression of {@code ReadOnlyProjections#TICKET}.
+     */
+    public TicketReadOnlyDTO(Long id, String uuid, String title, String description, TicketPriority priority, TicketStatus status, LocalDate expiryDate) {
+        this(id, uuid, title, description, priority == null ? null : priority.name(), status == null ? null : status.name(), expiryDate);
+    }
 }
@@ -13,10 +13,11 @@ public record UserFiltersDTO(
         Boolean enabled,
         Boolean verified,
         Boolean isDeleted,
-        List<String> permissions
-
+        List<String> permissions,
+        String cursor,
+        Boolean withCount
 ) {
     public UserFiltersDTO() {
-        this(null, null, null, null, null, null, null, null, null, null, null);
+        this(null, null, null, null, null, null, null, null, null, null, null, null, null);
     }
 }
@@ -112,6 +112,12 @@ public class Mapper {
         if (dto.orderBy() != null) {
             userFilters.setOrderBy(Sort.Direction.valueOf(dto.orderBy()));
         }
+        if (dto.cursor() != null) {
+            userFilters.setCursor(dto.cursor());
+        }
+        if (dto.withCount() != null) {
+            userFilters.setWithCount(dto.withCount());
+        }
         if (dto.username() != null) {
             userFilters.setUsername(dto.username());
         }
@@ -158,7 +164,7 @@ public class Mapper {
 
     public Project mapToProject(ProjectCreateDTO dto) {
         return new Project(
-                null, null, dto.name(), dto.description(), null, null, ProjectStatus.valueOf(dto.status()), null, null
+                null, null, dto.name(), dto.description(), null, null, ProjectStatus.valueOf(dto.status()), null, null, null
         );
     }
 
@@ -214,6 +220,12 @@ public class Mapper {
         if (dto.orderBy() != null) {
             projectFilters.setOrderBy(Sort.Direction.valueOf(dto.orderBy()));
         }
+        if (dto.cursor() != null) {
+            projectFilters.setCursor(dto.cursor());
+        }
+        if (dto.withCount() != null) {
+            projectFilters.setWithCount(dto.withCount());
+        }
         if (dto.uuid() != null) {
             projectFilters.setUuid(dto.uuid());
         }
@@ -242,7 +254,7 @@ public class Mapper {
         return new Ticket(
                 null, null, dto.title(), dto.description(),
                 TicketPriority.valueOf(dto.priority()), TicketStatus.valueOf(dto.status()),
-                dto.expiryDate(), null
+                dto.expiryDate(), null, null
         );
     }
 
@@ -288,6 +300,12 @@ public class Mapper {
         if (dto.orderBy() != null) {
             ticketFilters.setOrderBy(Sort.Direction.valueOf(dto.orderBy()));
         }
+        if (dto.cursor() != null) {
+            ticketFilters.setCursor(dto.cursor());
+        }
+        if (dto.withCount() != null) {
+            ticketFilters.setWithCount(dto.withCount());
+        }
         if (dto.uuid() != null) {
             ticketFilters.setUuid(dto.uuid());
         }
@@ -303,6 +321,9 @@ public class Mapper {
         if (dto.expiryDate() != null) {
             ticketFilters.setExpiryDate(dto.expiryDate());
         }
+        if (dto.q() != null) {
+            ticketFilters.setQ(dto.q());
+        }
         if (ownerUuid != null) {
             ticketFilters.setOwnerUuid(ownerUuid);
         }
@@ -0,0 +1,17 @@
+package gr.aueb.cf.projectmanagementapp.model;
+
+import java.util.List;
+
+/**
+ * Second-level cache regions of the authorization data. Sizes and expiry are configured per region in
+ * {@code application.conf}; entries not listed there fall back to the {@code default} settings.
+ */
+public final class CacheRegions {
+    public static final String ROLES = "roles";
+    public static final String PERMISSIONS = "permissions";
+    public static final String ROLE_PERMISSIONS = "role-permissions";
+    public static final String USER_ROLES = "user-roles";
+    public static final List<String> ALL = List.of(ROLES, PERMISSIONS, ROLE_PERMISSIONS, USER_ROLES);
+
+    private CacheRegions() {}
+}
@@ -0,0 +1,57 @@
+package gr.aueb.cf.projectmanagementapp.model;
+
+import gr.aueb.cf.projectmanagementapp.core.enums.EmailOutboxStatus;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Table(name = "email_outbox",
+        indexes = {
+                @Index(name = "idx_email_outbox_status_next_attempt", columnList = "status, next_attempt_at")
+        })
+public class EmailOutboxMessage extends AbstractEntity {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private String recipient;
+
+    @Column(nullable = false)
+    private String subject;
+
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String body;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    @Builder.Default
+    private EmailOutboxStatus status = EmailOutboxStatus.PENDING;
+
+    @Column(nullable = false)
+    @Builder.Default
+    private int attempts = 0;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "sent_at")
+    private LocalDateTime sentAt;
+
+    @Column(name = "last_error", length = 1000)
+    private String lastError;
+
+    @PrePersist
+    protected void onCreate() {
+        if (nextAttemptAt == null) {
+            nextAttemptAt = LocalDateTime.now();
+        }
+    }
+}
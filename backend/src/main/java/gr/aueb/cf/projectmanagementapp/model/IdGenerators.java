@@ -0,0 +1,15 @@
+package gr.aueb.cf.projectmanagementapp.model;
+
+/**
+ * Shared settings of the table-based id generators. Each entity keeps one row in {@link #TABLE}, keyed
+ * by its table name, and reserves {@link #ALLOCATION_SIZE} ids per round trip (pooled-lo optimizer),
+ * so inserts can be JDBC-batched, which {@code GenerationType.IDENTITY} prevents.
+ */
+public final class IdGenerators {
+    public static final String TABLE = "id_generators";
+    public static final String PK_COLUMN = "sequence_name";
+    public static final String VALUE_COLUMN = "next_val";
+    public static final int ALLOCATION_SIZE = 50;
+
+    private IdGenerators() {}
+}
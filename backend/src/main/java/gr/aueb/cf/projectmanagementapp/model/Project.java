@@ -20,11 +20,14 @@ import java.util.UUID;
         indexes = {
                 @Index(name = "idx_project_uuid", columnList = "uuid"),
                 @Index(name = "idx_project_owner", columnList = "user_id"),
-                @Index(name = "idx_project_status", columnList = "status")
+                @Index(name = "idx_project_status", columnList = "status"),
+                @Index(name = "idx_project_name_search", columnList = "name_search")
         })
 public class Project extends AbstractEntity {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "project_id_generator")
+    @TableGenerator(name = "project_id_generator", table = IdGenerators.TABLE, pkColumnName = IdGenerators.PK_COLUMN,
+            valueColumnName = IdGenerators.VALUE_COLUMN, pkColumnValue = "projects", allocationSize = IdGenerators.ALLOCATION_SIZE)
     private Long id;
 
     @Column(nullable = false, updatable = false, unique = true)
@@ -54,11 +57,22 @@ public class Project extends AbstractEntity {
     @OneToMany(mappedBy = "project", orphanRemoval = true)
     private Set<Ticket> tickets = new HashSet<>();
 
+    // Lowercased copy of name for indexed prefix search, maintained on every write
+    @Setter(AccessLevel.NONE)
+    @Column(name = "name_search")
+    private String nameSearch;
+
     @PrePersist
     protected void onCreate() {
         if (uuid == null) uuid = UUID.randomUUID().toString();
         if (isDeleted == null) isDeleted = false;
         if (status == null) status = ProjectStatus.OPEN;
+        normalizeSearchColumns();
+    }
+
+    @PreUpdate
+    protected void normalizeSearchColumns() {
+        nameSearch = SearchColumns.normalize(name);
     }
 
     // Manage project tickets helper methods
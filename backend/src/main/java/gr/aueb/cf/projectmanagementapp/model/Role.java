@@ -3,12 +3,16 @@ package gr.aueb.cf.projectmanagementapp.model;
 import gr.aueb.cf.projectmanagementapp.model.static_data.Permission;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.Set;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.ROLES)
 @Getter
 @Setter
 @NoArgsConstructor
@@ -19,7 +23,9 @@ import java.util.Set;
         })
 public class Role {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "role_id_generator")
+    @TableGenerator(name = "role_id_generator", table = IdGenerators.TABLE, pkColumnName = IdGenerators.PK_COLUMN,
+            valueColumnName = IdGenerators.VALUE_COLUMN, pkColumnValue = "roles", allocationSize = IdGenerators.ALLOCATION_SIZE)
     private Long id;
 
     @Column(nullable = false, unique = true)
@@ -30,8 +36,9 @@ public class Role {
     private Set<User> users = new HashSet<>();
 
     @Getter(AccessLevel.PROTECTED)
-    @ManyToMany(fetch = FetchType.EAGER)
+    @ManyToMany(fetch = FetchType.LAZY)
     @JoinTable(name = "roles_permissions")
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.ROLE_PERMISSIONS)
     private Set<Permission> permissions = new HashSet<>();
 
     public Set<Permission> getAllPermissions() {
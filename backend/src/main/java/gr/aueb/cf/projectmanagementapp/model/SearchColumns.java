@@ -0,0 +1,32 @@
+package gr.aueb.cf.projectmanagementapp.model;
+
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Lowercased copies of the columns the filters match by prefix. Comparing {@code UPPER(column)} keeps
+ * the database from using an index, so each entity stores the normalized value next to the original,
+ * indexes it, and the specifications match {@code search_column LIKE 'value%'} with a normalized value.
+ */
+public final class SearchColumns {
+
+    public record Column(String table, String column, String source) {}
+
+    public static final List<Column> ALL = List.of(
+            new Column("users", "username_search", "username"),
+            new Column("users", "lastname_search", "lastname"),
+            new Column("projects", "name_search", "name"),
+            new Column("tickets", "title_search", "title")
+    );
+
+    private SearchColumns() {}
+
+    /**
+     * Normalizes a prefix filter value the way the search columns store it. The specifications' like
+     * filters map each field to its search column and compare it with the normalized value; uuids are
+     * generated lowercase, so they are matched on their own column.
+     */
+    public static String normalize(String value) {
+        return value == null ? null : value.toLowerCase(Locale.ROOT);
+    }
+}
@@ -19,11 +19,14 @@ import java.util.UUID;
                 @Index(name = "idx_ticket_uuid", columnList = "uuid"),
                 @Index(name = "idx_ticket_project", columnList = "project_id"),
                 @Index(name = "idx_ticket_status", columnList = "status"),
-                @Index(name = "idx_ticket_priority", columnList = "priority")
+                @Index(name = "idx_ticket_priority", columnList = "priority"),
+                @Index(name = "idx_ticket_title_search", columnList = "title_search")
         })
 public class Ticket extends AbstractEntity {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "ticket_id_generator")
+    @TableGenerator(name = "ticket_id_generator", table = IdGenerators.TABLE, pkColumnName = IdGenerators.PK_COLUMN,
+            valueColumnName = IdGenerators.VALUE_COLUMN, pkColumnValue = "tickets", allocationSize = IdGenerators.ALLOCATION_SIZE)
     private Long id;
 
     @Column(nullable = false, updatable = false, unique = true)
@@ -44,15 +47,26 @@ public class Ticket extends AbstractEntity {
     @Column(name = "expiry_date", nullable = false)
     private LocalDate expiryDate;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "project_id", nullable = false)
     private Project project;
 
+    // Lowercased copy of title for indexed prefix search, maintained on every write
+    @Setter(AccessLevel.NONE)
+    @Column(name = "title_search")
+    private String titleSearch;
+
     @PrePersist
     protected void onCreate() {
         if (uuid == null) uuid = UUID.randomUUID().toString();
         if (priority == null) priority = TicketPriority.MEDIUM;
         if (status == null) status = TicketStatus.OPEN;
+        normalizeSearchColumns();
+    }
+
+    @PreUpdate
+    protected void normalizeSearchColumns() {
+        titleSearch = SearchColumns.normalize(title);
     }
 
 }
@@ -2,6 +2,8 @@ package gr.aueb.cf.projectmanagementapp.model;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.ColumnDefault;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
@@ -19,18 +21,32 @@ import java.util.stream.Collectors;
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
+@NamedEntityGraph(
+        name = User.AUTHORITIES_GRAPH,
+        attributeNodes = @NamedAttributeNode(value = "roles", subgraph = "role-permissions"),
+        subgraphs = @NamedSubgraph(name = "role-permissions", attributeNodes = @NamedAttributeNode("permissions"))
+)
 @Table(name = "users",
         indexes = {
                 @Index(name = "idx_user_username", columnList = "username"),
                 @Index(name = "idx_user_uuid", columnList = "uuid"),
+                @Index(name = "idx_user_username_search", columnList = "username_search"),
+                @Index(name = "idx_user_lastname_search", columnList = "lastname_search")
         })
 public class User extends AbstractEntity implements UserDetails {
 
+    /**
+     * Fetch graph of the roles and their permissions, for the lookups that build {@link #getAuthorities()}.
+     */
+    public static final String AUTHORITIES_GRAPH = "User.authorities";
+
     private static final int MAX_FAILED_ATTEMPTS = 5;
     private static final int MAX_PASSWORD_VALIDITY_DAYS = 90;
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "user_id_generator")
+    @TableGenerator(name = "user_id_generator", table = IdGenerators.TABLE, pkColumnName = IdGenerators.PK_COLUMN,
+            valueColumnName = IdGenerators.VALUE_COLUMN, pkColumnValue = "users", allocationSize = IdGenerators.ALLOCATION_SIZE)
     private Long id;
 
     @Column(unique = true, updatable = false)
@@ -87,13 +103,14 @@ public class User extends AbstractEntity implements UserDetails {
 
     @Builder.Default
     @Getter(AccessLevel.PRIVATE)
-    @ManyToMany(fetch = FetchType.EAGER)
+    @ManyToMany(fetch = FetchType.LAZY)
     @JoinTable(
             name = "users_roles",
             joinColumns = @JoinColumn(name = "user_id"),
             inverseJoinColumns = @JoinColumn(name = "role_id"),
             indexes = @Index(name = "idx_user_role", columnList = "user_id,role_id")
     )
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.USER_ROLES)
     private Set<Role> roles = new HashSet<>();
 
     @Builder.Default
@@ -101,6 +118,15 @@ public class User extends AbstractEntity implements UserDetails {
     @OneToMany(mappedBy = "owner", orphanRemoval = true)
     private Set<Project> projects = new HashSet<>();
 
+    // Lowercased copies of username and lastname for indexed prefix search, maintained on every write
+    @Setter(AccessLevel.NONE)
+    @Column(name = "username_search")
+    private String usernameSearch;
+
+    @Setter(AccessLevel.NONE)
+    @Column(name = "lastname_search")
+    private String lastnameSearch;
+
     public Collection<? extends GrantedAuthority> getAuthorities() {
         return this.roles.stream()
                 .flatMap(role -> role.getAllPermissions().stream())
@@ -137,6 +163,13 @@ public class User extends AbstractEntity implements UserDetails {
         if (verified == null) verified = false;
         if (accountNonLocked == null) accountNonLocked = true;
         if (isDeleted == null) isDeleted = false;
+        normalizeSearchColumns();
+    }
+
+    @PreUpdate
+    protected void normalizeSearchColumns() {
+        usernameSearch = SearchColumns.normalize(username);
+        lastnameSearch = SearchColumns.normalize(lastname);
     }
 
     // Helper methods for business logic
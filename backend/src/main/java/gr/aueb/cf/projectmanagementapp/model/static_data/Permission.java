@@ -2,14 +2,20 @@ package gr.aueb.cf.projectmanagementapp.model.static_data;
 
 import gr.aueb.cf.projectmanagementapp.core.enums.Action;
 import gr.aueb.cf.projectmanagementapp.core.enums.Resource;
+import gr.aueb.cf.projectmanagementapp.model.CacheRegions;
+import gr.aueb.cf.projectmanagementapp.model.IdGenerators;
 import gr.aueb.cf.projectmanagementapp.model.Role;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.util.HashSet;
 import java.util.Set;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.PERMISSIONS)
 @Getter
 @Setter
 @NoArgsConstructor
@@ -22,7 +28,9 @@ import java.util.Set;
 )
 public class Permission {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "permission_id_generator")
+    @TableGenerator(name = "permission_id_generator", table = IdGenerators.TABLE, pkColumnName = IdGenerators.PK_COLUMN,
+            valueColumnName = IdGenerators.VALUE_COLUMN, pkColumnValue = "permissions", allocationSize = IdGenerators.ALLOCATION_SIZE)
     private Long id;
 
     @Column(nullable = false, unique = true)
@@ -0,0 +1,30 @@
+package gr.aueb.cf.projectmanagementapp.repository;
+
+import gr.aueb.cf.projectmanagementapp.core.enums.EmailOutboxStatus;
+import gr.aueb.cf.projectmanagementapp.model.EmailOutboxMessage;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.*;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface EmailOutboxRepository extends JpaRepository<EmailOutboxMessage, Long> {
+
+    /**
+     * Locks the next due messages, skipping rows already claimed by another instance's dispatcher.
+     * Held only long enough to mark them {@code SENDING}; a {@code SENDING} row is due again once its lease
+     * ({@code nextAttemptAt}) runs out.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT m FROM EmailOutboxMessage m WHERE m.status IN :statuses AND m.nextAttemptAt <= :now ORDER BY m.nextAttemptAt, m.id")
+    List<EmailOutboxMessage> findDueForUpdate(@Param("statuses") Collection<EmailOutboxStatus> statuses, @Param("now") LocalDateTime now, Pageable pageable);
+
+    @Modifying
+    @Query("DELETE FROM EmailOutboxMessage m WHERE m.status = :status AND m.sentAt < :before")
+    int deleteByStatusAndSentAtBefore(@Param("status") EmailOutboxStatus status, @Param("before") LocalDateTime before);
+}
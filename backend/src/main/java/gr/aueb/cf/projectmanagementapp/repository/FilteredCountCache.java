@@ -0,0 +1,43 @@
+package gr.aueb.cf.projectmanagementapp.repository;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.function.LongSupplier;
+
+/**
+ * Short-lived cache of the total counts behind paginated list screens, keyed by entity type and the
+ * normalized filter criteria (paging and sorting excluded). Counts are approximate for at most the
+ * configured TTL after a write. Hit/miss counts are published with {@code cache=filteredCounts}.
+ */
+@Component
+public class FilteredCountCache {
+    private static final String CACHE_NAME = "filteredCounts";
+
+    private final Cache<List<Object>, Long> cache;
+
+    public FilteredCountCache(@Value("${pagination.count-cache.ttl:PT15S}") Duration ttl,
+                              @Value("${pagination.count-cache.max-size:5000}") long maxSize,
+                              MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .maximumSize(maxSize)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    public long get(Class<?> type, Object countKey, LongSupplier counter) {
+        return cache.get(List.of(type, countKey), key -> counter.getAsLong());
+    }
+
+    public void put(Class<?> type, Object countKey, long count) {
+        cache.put(List.of(type, countKey), count);
+    }
+}
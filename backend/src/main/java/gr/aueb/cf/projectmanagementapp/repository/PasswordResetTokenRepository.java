@@ -3,9 +3,17 @@ package gr.aueb.cf.projectmanagementapp.repository;
 import gr.aueb.cf.projectmanagementapp.model.PasswordResetToken;
 import gr.aueb.cf.projectmanagementapp.model.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.Optional;
 
 public interface PasswordResetTokenRepository extends JpaRepository<PasswordResetToken, Long> {
     Optional<PasswordResetToken> findByToken(String token);
+
+    @Modifying
+    @Query("DELETE FROM PasswordResetToken t WHERE t.user.id IN :userIds")
+    int deleteAllByUserIdIn(@Param("userIds") Collection<Long> userIds);
 }
@@ -1,11 +1,19 @@
 package gr.aueb.cf.projectmanagementapp.repository;
 
 import gr.aueb.cf.projectmanagementapp.model.static_data.Permission;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 
 import java.util.List;
 import java.util.Set;
 
 public interface PermissionRepository extends JpaRepository<Permission, Long> {
+    @Override
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    List<Permission> findAll();
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Set<Permission> findByNameIn(List<String> names);
 }
@@ -3,10 +3,35 @@ package gr.aueb.cf.projectmanagementapp.repository;
 import gr.aueb.cf.projectmanagementapp.model.Project;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.Optional;
 
 public interface ProjectRepository extends JpaRepository<Project, Long>, JpaSpecificationExecutor<Project> {
     Optional<Project> findByUuidAndOwnerUuid(String projectUuid, String ownerUuid);
     Boolean existsByUuidAndOwnerUuid(String projectUuid, String ownerUuid);
+
+    /**
+     * Resolves the user and the id of their project in one round trip. Empty when the user does not
+     * exist; the project id is {@code null} when the user exists but does not own the project.
+     */
+    @Query("SELECT new gr.aueb.cf.projectmanagementapp.repository.ProjectTicketLookup(u.id, p.id) " +
+            "FROM User u LEFT JOIN Project p ON p.owner = u AND p.uuid = :projectUuid " +
+            "WHERE u.uuid = :userUuid")
+    Optional<ProjectTicketLookup> findProjectLookup(@Param("userUuid") String userUuid, @Param("projectUuid") String projectUuid);
+
+    /**
+     * Deletes the project row without loading it, so its tickets and its owner's projects are never
+     * initialized. Callers must make sure the project has no tickets first.
+     */
+    @Modifying
+    @Query("DELETE FROM Project p WHERE p.id = :id")
+    int deleteProjectById(@Param("id") Long id);
+
+    @Modifying
+    @Query("DELETE FROM Project p WHERE p.owner.id IN :ownerIds")
+    int deleteAllByOwnerIdIn(@Param("ownerIds") Collection<Long> ownerIds);
 }
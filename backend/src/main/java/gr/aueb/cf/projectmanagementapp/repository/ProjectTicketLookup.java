@@ -0,0 +1,23 @@
+package gr.aueb.cf.projectmanagementapp.repository;
+
+import gr.aueb.cf.projectmanagementapp.model.Ticket;
+
+/**
+ * Result of resolving a user, one of their projects and optionally a ticket of that project in a
+ * single query. The user row drives the query, so a missing row means a missing user, while a
+ * {@code null} project id or ticket means the project or ticket was not found under it.
+ */
+public record ProjectTicketLookup(Long userId, Long projectId, Ticket ticket) {
+
+    public ProjectTicketLookup(Long userId, Long projectId) {
+        this(userId, projectId, null);
+    }
+
+    public boolean projectFound() {
+        return projectId != null;
+    }
+
+    public boolean ticketFound() {
+        return ticket != null;
+    }
+}
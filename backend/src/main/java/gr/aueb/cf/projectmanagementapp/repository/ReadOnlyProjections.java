@@ -0,0 +1,49 @@
+package gr.aueb.cf.projectmanagementapp.repository;
+
+import gr.aueb.cf.projectmanagementapp.dto.ProjectReadOnlyDTO;
+import gr.aueb.cf.projectmanagementapp.dto.TicketReadOnlyDTO;
+import gr.aueb.cf.projectmanagementapp.dto.UserReadOnlyDTO;
+import gr.aueb.cf.projectmanagementapp.model.Project;
+import gr.aueb.cf.projectmanagementapp.model.Ticket;
+import gr.aueb.cf.projectmanagementapp.model.User;
+import gr.aueb.cf.projectmanagementapp.repository.SpecificationQueryExecutor.Projection;
+
+import java.util.Set;
+
+/**
+ * Constructor expressions that build the read-only DTOs straight from the selected columns, so list
+ * queries neither hydrate managed entities nor trigger their eager associations. Each projection must
+ * select the same values, in the same order, as the matching {@code Mapper#mapTo*ReadOnlyDTO}.
+ */
+public final class ReadOnlyProjections {
+
+    /*
+     * Fields cursor pages can sort by: attributes each projection selects from its own entity under the
+     * same name in the DTO, so the sort, the seek predicate and the cursor built from the DTO agree.
+     * Joined or renamed values, such as a project's ownerUuid and deleted, are left out.
+     */
+    public static final Set<String> USER_SORT_FIELDS = Set.of(
+            "id", "uuid", "username", "firstname", "lastname", "enabled", "verified", "isDeleted", "loginConsecutiveFailAttempts");
+    public static final Set<String> PROJECT_SORT_FIELDS = Set.of("id", "uuid", "name", "description", "status");
+    public static final Set<String> TICKET_SORT_FIELDS = Set.of("id", "uuid", "title", "description", "priority", "status", "expiryDate");
+
+    private ReadOnlyProjections() {}
+
+    public static final Projection<User, UserReadOnlyDTO> USER = (root, builder) -> builder.construct(
+            UserReadOnlyDTO.class,
+            root.get("id"), root.get("uuid"), root.get("username"), root.get("firstname"), root.get("lastname"),
+            root.get("enabled"), root.get("verified"), root.get("isDeleted"), root.get("loginConsecutiveFailAttempts")
+    );
+
+    public static final Projection<Project, ProjectReadOnlyDTO> PROJECT = (root, builder) -> builder.construct(
+            ProjectReadOnlyDTO.class,
+            root.get("id"), root.get("uuid"), root.get("name"), root.get("description"),
+            root.join("owner").get("uuid"), root.get("status"), root.get("isDeleted")
+    );
+
+    public static final Projection<Ticket, TicketReadOnlyDTO> TICKET = (root, builder) -> builder.construct(
+            TicketReadOnlyDTO.class,
+            root.get("id"), root.get("uuid"), root.get("title"), root.get("description"),
+            root.get("priority"), root.get("status"), root.get("expiryDate")
+    );
+}
@@ -0,0 +1,109 @@
+package gr.aueb.cf.projectmanagementapp.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.*;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.*;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Runs {@link Specification} queries for the filtered list endpoints without the unconditional
+ * {@code COUNT} that {@code JpaSpecificationExecutor#findAll(Specification, Pageable)} issues.
+ * Results are either managed entities or, through a {@link Projection}, DTOs built by a constructor
+ * expression that only selects the columns they need.
+ */
+@Repository
+@RequiredArgsConstructor
+public class SpecificationQueryExecutor {
+    private final EntityManager entityManager;
+    private final FilteredCountCache countCache;
+
+    /**
+     * Selection of the result rows of a query rooted at {@code T}.
+     */
+    @FunctionalInterface
+    public interface Projection<T, R> {
+        Selection<R> select(Root<T> root, CriteriaBuilder builder);
+    }
+
+    /**
+     * Fetches one row more than the page size to tell whether a next page exists; no count is run.
+     */
+    public <T> Slice<T> findSlice(Class<T> type, Specification<T> spec, Pageable pageable) {
+        return findSlice(type, type, spec, pageable, (root, builder) -> root);
+    }
+
+    public <T, R> Slice<R> findSlice(Class<T> type, Class<R> resultType, Specification<T> spec, Pageable pageable, Projection<T, R> projection) {
+        TypedQuery<R> typedQuery = query(type, resultType, spec, pageable.getSort(), projection);
+        typedQuery.setFirstResult((int) pageable.getOffset());
+        typedQuery.setMaxResults(pageable.getPageSize() + 1);
+        List<R> rows = typedQuery.getResultList();
+
+        boolean hasNext = rows.size() > pageable.getPageSize();
+        return new SliceImpl<>(hasNext ? rows.subList(0, pageable.getPageSize()) : rows, pageable, hasNext);
+    }
+
+    /**
+     * The first {@code limit} rows in {@code sort} order. Used by the cursor endpoints, whose seek
+     * predicate is part of {@code spec}.
+     */
+    public <T, R> List<R> findFirst(Class<T> type, Class<R> resultType, Specification<T> spec, Sort sort, int limit, Projection<T, R> projection) {
+        return query(type, resultType, spec, sort, projection).setMaxResults(limit).getResultList();
+    }
+
+    /**
+     * Every row matching {@code spec}, in {@code sort} order.
+     */
+    public <T, R> List<R> findAll(Class<T> type, Class<R> resultType, Specification<T> spec, Sort sort, Projection<T, R> projection) {
+        return query(type, resultType, spec, sort, projection).getResultList();
+    }
+
+    /**
+     * Same as {@link #findSlice} but with a total. The total is exact when the slice reaches the last
+     * page and otherwise comes from {@link FilteredCountCache}, so repeated page flips over the same
+     * filters run a single count per cache TTL.
+     */
+    public <T> Page<T> findPage(Class<T> type, Specification<T> spec, Pageable pageable, Object countKey) {
+        return findPage(type, type, spec, pageable, countKey, (root, builder) -> root);
+    }
+
+    public <T, R> Page<R> findPage(Class<T> type, Class<R> resultType, Specification<T> spec, Pageable pageable, Object countKey, Projection<T, R> projection) {
+        Slice<R> slice = findSlice(type, resultType, spec, pageable, projection);
+        long total;
+        if (!slice.hasNext() && (slice.hasContent() || pageable.getOffset() == 0)) {
+            total = pageable.getOffset() + slice.getNumberOfElements();
+            countCache.put(type, countKey, total);
+        } else {
+            total = countCache.get(type, countKey, () -> count(type, spec));
+        }
+        return new PageImpl<>(slice.getContent(), pageable, total);
+    }
+
+    private <T, R> TypedQuery<R> query(Class<T> type, Class<R> resultType, Specification<T> spec, Sort sort, Projection<T, R> projection) {
+        CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<R> query = builder.createQuery(resultType);
+        Root<T> root = query.from(type);
+        Predicate predicate = spec.toPredicate(root, query, builder);
+        if (predicate != null) query.where(predicate);
+        query.select(projection.select(root, builder));
+        if (sort.isSorted()) query.orderBy(QueryUtils.toOrders(sort, root, builder));
+        return entityManager.createQuery(query);
+    }
+
+    private <T> long count(Class<T> type, Specification<T> spec) {
+        CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = builder.createQuery(Long.class);
+        Root<T> root = query.from(type);
+        Predicate predicate = spec.toPredicate(root, query, builder);
+        if (predicate != null) query.where(predicate);
+        query.select(query.isDistinct() ? builder.countDistinct(root) : builder.count(root));
+        // Sorting is irrelevant for a count
+        query.orderBy(List.of());
+        return entityManager.createQuery(query).getSingleResult();
+    }
+}
@@ -0,0 +1,67 @@
+package gr.aueb.cf.projectmanagementapp.repository;
+
+import gr.aueb.cf.projectmanagementapp.core.TransactionCallbacks;
+import gr.aueb.cf.projectmanagementapp.model.CacheRegions;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.stereotype.Component;
+
+import java.util.function.ToLongFunction;
+
+/**
+ * Access to the Hibernate second-level cache regions that hold roles and permissions.
+ * <p>{@code READ_WRITE} regions already follow entity writes made through a session; the explicit
+ * eviction after role writes also drops the cached role queries and covers rows changed outside
+ * Hibernate. Hits, misses and puts per region are published as {@code hibernate.second.level.cache.*}
+ * meters, with the query cache under {@code region=query}.</p>
+ */
+@Component
+public class StaticDataCache {
+    private final SessionFactory sessionFactory;
+
+    public StaticDataCache(EntityManagerFactory entityManagerFactory, MeterRegistry meterRegistry) {
+        this.sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+        Statistics statistics = sessionFactory.getStatistics();
+        for (String region : CacheRegions.ALL) {
+            register(meterRegistry, "hibernate.second.level.cache.requests", region, "hit", statistics, CacheRegionStatistics::getHitCount);
+            register(meterRegistry, "hibernate.second.level.cache.requests", region, "miss", statistics, CacheRegionStatistics::getMissCount);
+            register(meterRegistry, "hibernate.second.level.cache.puts", region, null, statistics, CacheRegionStatistics::getPutCount);
+        }
+        FunctionCounter.builder("hibernate.second.level.cache.requests", statistics, Statistics::getQueryCacheHitCount)
+                .tags("region", "query", "result", "hit").register(meterRegistry);
+        FunctionCounter.builder("hibernate.second.level.cache.requests", statistics, Statistics::getQueryCacheMissCount)
+                .tags("region", "query", "result", "miss").register(meterRegistry);
+    }
+
+    /**
+     * Evicts cached roles, their permission sets and the cached query results, immediately and again
+     * after the surrounding transaction commits.
+     */
+    public void evictRoles() {
+        evictRoleRegions();
+        TransactionCallbacks.afterCommit(this::evictRoleRegions);
+    }
+
+    private void evictRoleRegions() {
+        Cache cache = sessionFactory.getCache();
+        cache.evictRegion(CacheRegions.ROLES);
+        cache.evictRegion(CacheRegions.ROLE_PERMISSIONS);
+        cache.evictRegion(CacheRegions.USER_ROLES);
+        cache.evictQueryRegions();
+    }
+
+    private static void register(MeterRegistry meterRegistry, String name, String region, String result,
+                                 Statistics statistics, ToLongFunction<CacheRegionStatistics> value) {
+        FunctionCounter.Builder<Statistics> builder = FunctionCounter.builder(name, statistics, stats -> {
+            CacheRegionStatistics regionStatistics = stats.getDomainDataRegionStatistics(region);
+            return regionStatistics == null ? 0 : value.applyAsLong(regionStatistics);
+        }).tag("region", region);
+        if (result != null) builder.tag("result", result);
+        builder.register(meterRegistry);
+    }
+}
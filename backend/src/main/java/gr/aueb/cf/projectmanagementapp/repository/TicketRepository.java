@@ -1,13 +1,81 @@
 package gr.aueb.cf.projectmanagementapp.repository;
 
+import gr.aueb.cf.projectmanagementapp.core.search.TicketSearchDocument;
+import gr.aueb.cf.projectmanagementapp.dto.TicketReadOnlyDTO;
 import gr.aueb.cf.projectmanagementapp.model.Ticket;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface TicketRepository extends JpaRepository<Ticket, Long>, JpaSpecificationExecutor<Ticket> {
     Optional<Ticket> findByUuidAndProjectUuid(String uuid, String projectUuid);
     List<Ticket> findByProjectUuid(String projectUuid);
+    List<Ticket> findByProjectUuidAndUuidIn(String projectUuid, Collection<String> uuids);
+    boolean existsByProjectId(Long projectId);
+
+    /**
+     * Resolves the user, their project and the project's ticket in one round trip over the uuid and
+     * foreign key indexes. Empty when the user does not exist; otherwise the project id and the ticket
+     * are {@code null} when missing, so callers can still tell which one was not found.
+     */
+    @Query("SELECT new gr.aueb.cf.projectmanagementapp.repository.ProjectTicketLookup(u.id, p.id, t) " +
+            "FROM User u LEFT JOIN Project p ON p.owner = u AND p.uuid = :projectUuid " +
+            "LEFT JOIN Ticket t ON t.project = p AND t.uuid = :ticketUuid " +
+            "WHERE u.uuid = :userUuid")
+    Optional<ProjectTicketLookup> findTicketLookup(@Param("userUuid") String userUuid, @Param("projectUuid") String projectUuid,
+                                                   @Param("ticketUuid") String ticketUuid);
+
+    /**
+     * Forward-only stream of the project's tickets as DTOs, so nothing accumulates in the persistence
+     * context. Must be consumed inside a transaction and closed by the caller.
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT new gr.aueb.cf.projectmanagementapp.dto.TicketReadOnlyDTO(t.id, t.uuid, t.title, t.description, t.priority, t.status, t.expiryDate) " +
+            "FROM Ticket t WHERE t.project.uuid = :projectUuid ORDER BY t.id")
+    Stream<TicketReadOnlyDTO> streamByProjectUuid(@Param("projectUuid") String projectUuid);
+
+    /**
+     * The given tickets of the project as DTOs, provided the project belongs to the owner. Used to load a
+     * page of search hits; the result is in no particular order.
+     */
+    @Query("SELECT new gr.aueb.cf.projectmanagementapp.dto.TicketReadOnlyDTO(t.id, t.uuid, t.title, t.description, t.priority, t.status, t.expiryDate) " +
+            "FROM Ticket t WHERE t.id IN :ids AND t.project.uuid = :projectUuid AND t.project.owner.uuid = :ownerUuid")
+    List<TicketReadOnlyDTO> findReadOnlyByIdIn(@Param("ids") Collection<Long> ids, @Param("projectUuid") String projectUuid,
+                                               @Param("ownerUuid") String ownerUuid);
+
+    /**
+     * Forward-only stream of every ticket with its project uuid, for rebuilding the search index. Must be
+     * consumed inside a transaction and closed by the caller.
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT new gr.aueb.cf.projectmanagementapp.core.search.TicketSearchDocument(t.id, t.uuid, t.title, t.description, t.priority, t.status, t.expiryDate, p.uuid) " +
+            "FROM Ticket t JOIN t.project p")
+    Stream<TicketSearchDocument> streamSearchDocuments();
+
+    /**
+     * Ids of every ticket in the projects of the given owners, read before those tickets are deleted so
+     * they can be dropped from the search index.
+     */
+    @Query("SELECT t.id FROM Ticket t WHERE t.project.owner.id IN :ownerIds")
+    List<Long> findIdsByProjectOwnerIdIn(@Param("ownerIds") Collection<Long> ownerIds);
+
+    @Modifying
+    @Query("DELETE FROM Ticket t WHERE t.project.id IN (SELECT p.id FROM Project p WHERE p.owner.id IN :ownerIds)")
+    int deleteAllByProjectOwnerIdIn(@Param("ownerIds") Collection<Long> ownerIds);
 }
@@ -1,13 +1,38 @@
 package gr.aueb.cf.projectmanagementapp.repository;
 
 import gr.aueb.cf.projectmanagementapp.model.User;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.Optional;
 
 public interface UserRepository extends JpaRepository<User, Long>, JpaSpecificationExecutor<User> {
     Optional<User> findByUuid(String uuid);
     Boolean existsByUuid(String uuid);
     Optional<User> findByUsername(String username);
+
+    // Roles are lazy; these load them with their permissions in the same query for the authority checks
+    @EntityGraph(User.AUTHORITIES_GRAPH)
+    Optional<User> findWithAuthoritiesByUsername(String username);
+
+    @EntityGraph(User.AUTHORITIES_GRAPH)
+    Optional<User> findWithAuthoritiesByUuid(String uuid);
+
+    // Limits second-level cache invalidation to the user-roles collections instead of every region
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "users_roles"))
+    @Query(value = "DELETE FROM users_roles WHERE user_id IN (:userIds)", nativeQuery = true)
+    int deleteRolesByUserIdIn(@Param("userIds") Collection<Long> userIds);
+
+    @Modifying
+    @Query("DELETE FROM User u WHERE u.id IN :userIds")
+    int deleteAllByIdIn(@Param("userIds") Collection<Long> userIds);
 }
@@ -2,13 +2,25 @@ package gr.aueb.cf.projectmanagementapp.repository;
 
 import gr.aueb.cf.projectmanagementapp.model.User;
 import gr.aueb.cf.projectmanagementapp.model.VerificationToken;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 public interface VerificationTokenRepository extends JpaRepository<VerificationToken, Long> {
     Optional<VerificationToken> findByToken(String token);
     List<VerificationToken> findByCreatedAtBefore(LocalDateTime cutoff);
+
+    @Query("SELECT t.user.id FROM VerificationToken t WHERE t.createdAt < :cutoff ORDER BY t.id")
+    List<Long> findUserIdsByCreatedAtBefore(@Param("cutoff") LocalDateTime cutoff, Pageable pageable);
+
+    @Modifying
+    @Query("DELETE FROM VerificationToken t WHERE t.user.id IN :userIds")
+    int deleteAllByUserIdIn(@Param("userIds") Collection<Long> userIds);
 }
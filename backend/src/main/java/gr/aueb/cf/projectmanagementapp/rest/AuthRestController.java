@@ -109,7 +109,7 @@ public class AuthRestController {
 
             // Send the verification token via email
             emailService.sendVerificationEmail(user.username(), token.getToken());
-            LOGGER.info("Verification email sent for user with username={}", user.username());
+            LOGGER.info("Verification email queued for user with username={}", user.username());
             // Send the successful response
             return new ResponseEntity<>(user, HttpStatus.CREATED);
         } catch (AppObjectAlreadyExistsException e) {
@@ -284,7 +284,7 @@ public class AuthRestController {
 
             // Send the reset password token via email
             emailService.sendPasswordResetEmail(username, token.getToken());
-            LOGGER.info("Password reset email sent to user: {}", username);
+            LOGGER.info("Password reset email queued for user: {}", username);
 
             // Send successful response
             return new ResponseEntity<>(
@@ -1,7 +1,9 @@
 package gr.aueb.cf.projectmanagementapp.rest;
 
+import gr.aueb.cf.projectmanagementapp.core.exceptions.AppObjectInvalidArgumentException;
 import gr.aueb.cf.projectmanagementapp.core.exceptions.AppObjectNotFoundException;
 import gr.aueb.cf.projectmanagementapp.core.exceptions.ValidationException;
+import gr.aueb.cf.projectmanagementapp.core.export.TicketExportFormat;
 import gr.aueb.cf.projectmanagementapp.dto.*;
 import gr.aueb.cf.projectmanagementapp.service.UserProjectTicketService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -13,10 +15,12 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.lang.Nullable;
@@ -24,6 +28,8 @@ import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.validation.BindingResult;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 
 @RestController
@@ -102,6 +108,97 @@ public class ProjectTicketRestController {
         }
     }
 
+    @GetMapping("/export")
+    @PreAuthorize("@authorizationService.hasOwnership(authentication.principal, #userUuid) || @authorizationService.hasAuthority(authentication.principal, 'READ_TICKET')")
+    @Operation(
+            summary = "Export all tickets of a specified project of a user",
+            description = "Streams every ticket of the project as NDJSON (one JSON object per line) or CSV. " +
+                    "Rows are written while they are read from the database, so memory use does not grow with the number of tickets.",
+            parameters = {
+                    @Parameter(
+                            name = "userUuid",
+                            description = "The unique identifier of the user. This user is the owner of the project.",
+                            required = true,
+                            example = "baba3f82-7b0f-4440-9893-a2f76169802c",
+                            in = ParameterIn.PATH,
+                            schema = @Schema(type = "string", format = "uuid")
+                    ),
+                    @Parameter(
+                            name = "projectUuid",
+                            description = "The unique identifier of the project to export its tickets",
+                            required = true,
+                            example = "baba3f82-7b0f-4440-9893-a2f76169802c",
+                            in = ParameterIn.PATH,
+                            schema = @Schema(type = "string", format = "uuid")
+                    ),
+                    @Parameter(
+                            name = "format",
+                            description = "Export format",
+                            in = ParameterIn.QUERY,
+                            schema = @Schema(type = "string", allowableValues = {"ndjson", "csv"}, defaultValue = "ndjson")
+                    )
+            },
+            responses = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "Tickets streamed successfully",
+                            content = {
+                                    @Content(mediaType = "application/x-ndjson"),
+                                    @Content(mediaType = "text/csv")
+                            }
+                    ),
+                    @ApiResponse(
+                            responseCode = "400",
+                            description = "Unsupported export format",
+                            content = @Content(
+                                    mediaType = "application/json",
+                                    schema = @Schema(implementation = ApiErrorDTO.class)
+                            )
+                    ),
+                    @ApiResponse(
+                            responseCode = "401",
+                            description = "Token not found or expired. Authentication failed.",
+                            content = @Content(
+                                    mediaType = "application/json",
+                                    schema = @Schema(implementation = ApiErrorDTO.class)
+                            )
+                    ),
+                    @ApiResponse(
+                            responseCode = "403",
+                            description = "Forbidden access. Authenticated user has not permission to access the specific resource.",
+                            content = @Content(
+                                    mediaType = "application/json",
+                                    schema = @Schema(implementation = ApiErrorDTO.class)
+                            )
+                    ),
+                    @ApiResponse(
+                            responseCode = "404",
+                            description = "User or Project not found.",
+                            content = @Content(
+                                    mediaType = "application/json",
+                                    schema = @Schema(implementation = ApiErrorDTO.class))
+                    ),
+            }
+    )
+    public void exportUserProjectTickets(
+            @PathVariable("userUuid") String userUuid,
+            @PathVariable("projectUuid") String projectUuid,
+            @RequestParam(value = "format", defaultValue = "ndjson") String format,
+            HttpServletResponse response) throws AppObjectNotFoundException, AppObjectInvalidArgumentException, IOException {
+        TicketExportFormat exportFormat = TicketExportFormat.fromValue(format);
+        response.setContentType(exportFormat.getMediaType());
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"tickets-" + projectUuid + "." + exportFormat.getExtension() + "\"");
+        try {
+            userProjectTicketService.exportProjectTickets(userUuid, projectUuid, exportFormat, response.getOutputStream());
+        } catch (AppObjectNotFoundException e) {
+            LOGGER.error("Error exporting project tickets", e);
+            // Nothing has been written yet, drop the export headers before the error body
+            response.reset();
+            throw e;
+        }
+    }
+
     @PostMapping
     @PreAuthorize("@authorizationService.hasOwnership(authentication.principal, #userUuid) || @authorizationService.hasAuthority(authentication.principal, 'CREATE_TICKET')")
     @Operation(
@@ -192,11 +289,105 @@ public class ProjectTicketRestController {
         }
     }
 
+    @PostMapping("/batch")
+    @PreAuthorize("@authorizationService.hasOwnership(authentication.principal, #userUuid) || (" +
+            "(#batchDTO.createOrEmpty().isEmpty() || @authorizationService.hasAuthority(authentication.principal, 'CREATE_TICKET')) && " +
+            "(#batchDTO.patchOrEmpty().isEmpty() || @authorizationService.hasAuthority(authentication.principal, 'UPDATE_TICKET')) && " +
+            "(#batchDTO.deleteOrEmpty().isEmpty() || @authorizationService.hasAuthority(authentication.principal, 'DELETE_TICKET')))")
+    @Operation(
+            summary = "Create, patch and delete tickets of a specified project of a user in one request",
+            description = "Applies the creates, then the patches, then the deletes in a single transaction. " +
+                    "Ownership is validated once for the whole batch. A patch or delete referring to a ticket that does not belong to the project " +
+                    "is reported as a failed item and does not abort the rest of the batch. Non-owners need the authority of every operation present.",
+            parameters = {
+                    @Parameter(
+                            name = "userUuid",
+                            description = "The unique identifier of the user. This user is the owner of the project.",
+                            required = true,
+                            example = "baba3f82-7b0f-4440-9893-a2f76169802c",
+                            in = ParameterIn.PATH,
+                            schema = @Schema(type = "string", format = "uuid")
+                    ),
+                    @Parameter(
+                            name = "projectUuid",
+                            description = "The unique identifier of the project whose tickets are changed",
+                            required = true,
+                            example = "baba3f82-7b0f-4440-9893-a2f76169802c",
+                            in = ParameterIn.PATH,
+                            schema = @Schema(type = "string", format = "uuid")
+                    )
+            },
+            requestBody = @io.swagger.v3.oas.annotations.parameters.RequestBody(
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = TicketBatchDTO.class)
+                    )
+            ),
+            responses = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "Batch applied. Per-item results report which items failed.",
+                            content = @Content(
+                                    mediaType = "application/json",
+                                    schema = @Schema(implementation = TicketBatchResultDTO.class)
+                            )
+                    ),
+                    @ApiResponse(
+                            responseCode = "400",
+                            description = "Validation error",
+                            content = @Content(
+                                    mediaType = "application/json",
+                                    schema = @Schema(implementation = ApiErrorDTO.class)
+                            )
+                    ),
+                    @ApiResponse(
+                            responseCode = "401",
+                            description = "Token not found or expired. Authentication failed.",
+                            content = @Content(
+                                    mediaType = "application/json",
+                                    schema = @Schema(implementation = ApiErrorDTO.class)
+                            )
+                    ),
+                    @ApiResponse(
+                            responseCode = "403",
+                            description = "Forbidden access. Authenticated user has not permission to access the specific resource.",
+                            content = @Content(
+                                    mediaType = "application/json",
+                                    schema = @Schema(implementation = ApiErrorDTO.class)
+                            )
+                    ),
+                    @ApiResponse(
+                            responseCode = "404",
+                            description = "User or Project not found.",
+                            content = @Content(
+                                    mediaType = "application/json",
+                                    schema = @Schema(implementation = ApiErrorDTO.class))
+                    ),
+            }
+    )
+    public ResponseEntity<TicketBatchResultDTO> applyUserProjectTicketBatch(
+            @PathVariable("userUuid") String userUuid,
+            @PathVariable("projectUuid") String projectUuid,
+            @Valid @RequestBody TicketBatchDTO batchDTO,
+            BindingResult bindingResult
+    ) throws ValidationException, AppObjectNotFoundException {
+        if (bindingResult.hasErrors()) {
+            LOGGER.warn("Validation errors in ticket batch: {}", bindingResult.getAllErrors());
+            throw new ValidationException(bindingResult);
+        }
+        try {
+            return ResponseEntity.ok(userProjectTicketService.applyProjectTicketBatch(userUuid, projectUuid, batchDTO));
+        } catch (AppObjectNotFoundException e) {
+            LOGGER.error("Error applying project ticket batch", e);
+            throw e;
+        }
+    }
+
     @PostMapping("/filtered")
     @PreAuthorize("@authorizationService.hasOwnership(authentication.principal, #userUuid) || @authorizationService.hasAuthority(authentication.principal, 'READ_TICKET')")
     @Operation(
             summary = "Get filtered tickets (paginated)",
-            description = "Returns a paginated list of tickets matching provided filters. Only accessible by users with READ_TICKET permission.",
+            description = "Returns a paginated list of tickets matching provided filters. When q is given, tickets whose title or description contain all of its words are returned, most relevant first. Only accessible by users with READ_TICKET permission.",
             requestBody = @io.swagger.v3.oas.annotations.parameters.RequestBody(
                     content = @Content(
                             schema = @Schema(implementation = TicketFiltersDTO.class)
@@ -229,6 +420,14 @@ public class ProjectTicketRestController {
                                     )
                             )
                     ),
+                    @ApiResponse(
+                            responseCode = "400",
+                            description = "Page is past the first 10000 full-text search results",
+                            content = @Content(
+                                    mediaType = "application/json",
+                                    schema = @Schema(implementation = ApiErrorDTO.class)
+                            )
+                    ),
                     @ApiResponse(
                             responseCode = "401",
                             description = "Token not found or expired. Authentication failed.",
@@ -251,11 +450,83 @@ public class ProjectTicketRestController {
             @PathVariable("userUuid") String userUuid,
             @PathVariable("projectUuid") String projectUuid,
             @Nullable @RequestBody TicketFiltersDTO filters
-    ) {
+    ) throws AppObjectInvalidArgumentException {
         if (filters == null) filters = new TicketFiltersDTO();
         return new ResponseEntity<>(userProjectTicketService.findUserProjectTicketsFilteredPaginated(filters, userUuid, projectUuid), HttpStatus.OK);
     }
 
+    @PostMapping("/filtered/cursor")
+    @PreAuthorize("@authorizationService.hasOwnership(authentication.principal, #userUuid) || @authorizationService.hasAuthority(authentication.principal, 'READ_TICKET')")
+    @Operation(
+            summary = "Get filtered tickets (cursor paginated)",
+            description = "Returns a page of tickets matching provided filters using keyset pagination. No total count is computed. Pass the returned nextCursor as cursor to fetch the next page; the sortBy and orderBy values must stay the same across pages. Only accessible by users with READ_TICKET permission.",
+            requestBody = @io.swagger.v3.oas.annotations.parameters.RequestBody(
+                    content = @Content(
+                            schema = @Schema(implementation = TicketFiltersDTO.class)
+                    )
+            ),
+            parameters = {
+                    @Parameter(
+                            name = "userUuid",
+                            description = "The unique identifier of the user. This user is the owner of the project.",
+                            required = true,
+                            example = "baba3f82-7b0f-4440-9893-a2f76169802c",
+                            in = ParameterIn.PATH,
+                            schema = @Schema(type = "string", format = "uuid")
+                    ),
+                    @Parameter(
+                            name = "projectUuid",
+                            description = "The unique identifier of the project. This projects belongs to the user with the specified userUuid.",
+                            required = true,
+                            example = "baba3f82-7b0f-4440-9893-a2f76169802c",
+                            in = ParameterIn.PATH,
+                            schema = @Schema(type = "string", format = "uuid")
+                    ),
+            },
+            responses = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "Filtered tickets retrieved successfully",
+                            content = @Content(
+                                    schema = @Schema(implementation = CursorPaginated.class
+                                    )
+                            )
+                    ),
+                    @ApiResponse(
+                            responseCode = "400",
+                            description = "Invalid cursor",
+                            content = @Content(
+                                    mediaType = "application/json",
+                                    schema = @Schema(implementation = ApiErrorDTO.class)
+                            )
+                    ),
+                    @ApiResponse(
+                            responseCode = "401",
+                            description = "Token not found or expired. Authentication failed.",
+                            content = @Content(
+                                    mediaType = "application/json",
+                                    schema = @Schema(implementation = ApiErrorDTO.class)
+                            )
+                    ),
+                    @ApiResponse(
+                            responseCode = "403",
+                            description = "Forbidden access. Authenticated user has not permission to access the specific resources.",
+                            content = @Content(
+                                    mediaType = "application/json",
+                                    schema = @Schema(implementation = ApiErrorDTO.class)
+                            )
+                    ),
+            }
+    )
+    public ResponseEntity<CursorPaginated<TicketReadOnlyDTO>> getFilteredTicketsCursor(
+            @PathVariable("userUuid") String userUuid,
+            @PathVariable("projectUuid") String projectUuid,
+            @Nullable @RequestBody TicketFiltersDTO filters
+    ) throws AppObjectInvalidArgumentException {
+        if (filters == null) filters = new TicketFiltersDTO();
+        return new ResponseEntity<>(userProjectTicketService.findUserProjectTicketsFilteredCursor(filters, userUuid, projectUuid), HttpStatus.OK);
+    }
+
     @GetMapping("/{ticketUuid}")
     @PreAuthorize("@authorizationService.hasOwnership(authentication.principal, #userUuid) || @authorizationService.hasAuthority(authentication.principal, 'READ_TICKET')")
     @Operation(
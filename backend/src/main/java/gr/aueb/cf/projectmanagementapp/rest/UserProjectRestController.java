@@ -1,6 +1,7 @@
 package gr.aueb.cf.projectmanagementapp.rest;
 
 import gr.aueb.cf.projectmanagementapp.core.exceptions.AppObjectDeletionConflictException;
+import gr.aueb.cf.projectmanagementapp.core.exceptions.AppObjectInvalidArgumentException;
 import gr.aueb.cf.projectmanagementapp.core.exceptions.AppObjectNotFoundException;
 import gr.aueb.cf.projectmanagementapp.core.exceptions.ValidationException;
 import gr.aueb.cf.projectmanagementapp.dto.*;
@@ -232,6 +233,69 @@ public class UserProjectRestController {
         return new ResponseEntity<>(userProjectService.findUserProjectsFilteredPaginated(filters, userUuid), HttpStatus.OK);
     }
 
+    @PostMapping("/filtered/cursor")
+    @PreAuthorize("@authorizationService.hasAuthority(authentication.principal, 'READ_PROJECT')")
+    @Operation(
+            summary = "Get filtered projects (cursor paginated)",
+            description = "Returns a page of projects matching provided filters using keyset pagination. No total count is computed. Pass the returned nextCursor as cursor to fetch the next page; the sortBy and orderBy values must stay the same across pages. Only accessible by users with READ_PROJECT permission.",
+            requestBody = @io.swagger.v3.oas.annotations.parameters.RequestBody(
+                    content = @Content(
+                            schema = @Schema(implementation = ProjectFiltersDTO.class)
+                    )
+            ),
+            parameters = {
+                    @Parameter(
+                            name = "userUuid",
+                            description = "The unique identifier of the user. This user is the owner of the project.",
+                            required = true,
+                            example = "baba3f82-7b0f-4440-9893-a2f76169802c",
+                            in = ParameterIn.PATH,
+                            schema = @Schema(type = "string", format = "uuid")
+                    ),
+            },
+            responses = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "Filtered projects retrieved successfully",
+                            content = @Content(
+                                    schema = @Schema(implementation = CursorPaginated.class
+                                    )
+                            )
+                    ),
+                    @ApiResponse(
+                            responseCode = "400",
+                            description = "Invalid cursor",
+                            content = @Content(
+                                    mediaType = "application/json",
+                                    schema = @Schema(implementation = ApiErrorDTO.class)
+                            )
+                    ),
+                    @ApiResponse(
+                            responseCode = "401",
+                            description = "Token not found or expired. Authentication failed.",
+                            content = @Content(
+                                    mediaType = "application/json",
+                                    schema = @Schema(implementation = ApiErrorDTO.class)
+                            )
+                    ),
+                    @ApiResponse(
+                            responseCode = "403",
+                            description = "Forbidden access. Authenticated user has not permission to access the specific resources.",
+                            content = @Content(
+                                    mediaType = "application/json",
+                                    schema = @Schema(implementation = ApiErrorDTO.class)
+                            )
+                    ),
+            }
+    )
+    public ResponseEntity<CursorPaginated<ProjectReadOnlyDTO>> getFilteredProjectsCursor(
+            @PathVariable("userUuid") String userUuid,
+            @Nullable @RequestBody ProjectFiltersDTO filters
+    ) throws AppObjectInvalidArgumentException {
+        if (filters == null) filters = new ProjectFiltersDTO();
+        return new ResponseEntity<>(userProjectService.findUserProjectsFilteredCursor(filters, userUuid), HttpStatus.OK);
+    }
+
 
     @GetMapping("/{projectUuid}")
     @PreAuthorize("@authorizationService.hasAuthority(authentication.principal, 'READ_PROJECT') || @authorizationService.hasOwnership(authentication.principal, #userUuid)")
@@ -116,6 +116,58 @@ public class UserRestController {
         return new ResponseEntity<>(userService.findUsersFilteredPaginated(filters), HttpStatus.OK);
     }
 
+    @PostMapping("/filtered/cursor")
+    @PreAuthorize("@authorizationService.hasAuthority(authentication.principal, 'READ_USER')")
+    @Operation(
+            summary = "Get filtered users (cursor paginated)",
+            description = "Returns a page of users matching provided filters using keyset pagination. No total count is computed. Pass the returned nextCursor as cursor to fetch the next page; the sortBy and orderBy values must stay the same across pages. Only accessible by users with READ_USER permission.",
+            requestBody = @io.swagger.v3.oas.annotations.parameters.RequestBody(
+                    content = @Content(
+                            schema = @Schema(implementation = UserFiltersDTO.class)
+                    )
+            ),
+            responses = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "Filtered users retrieved successfully",
+                            content = @Content(
+                                    schema = @Schema(implementation = CursorPaginated.class
+                                    )
+                            )
+                    ),
+                    @ApiResponse(
+                            responseCode = "400",
+                            description = "Invalid cursor",
+                            content = @Content(
+                                    mediaType = "application/json",
+                                    schema = @Schema(implementation = ApiErrorDTO.class)
+                            )
+                    ),
+                    @ApiResponse(
+                            responseCode = "401",
+                            description = "Token not found or expired. Authentication failed.",
+                            content = @Content(
+                                    mediaType = "application/json",
+                                    schema = @Schema(implementation = ApiErrorDTO.class)
+                            )
+                    ),
+                    @ApiResponse(
+                            responseCode = "403",
+                            description = "Forbidden access. Authenticated user has not permission to access the specific resources.",
+                            content = @Content(
+                                    mediaType = "application/json",
+                                    schema = @Schema(implementation = ApiErrorDTO.class)
+                            )
+                    ),
+            }
+    )
+    public ResponseEntity<CursorPaginated<UserReadOnlyDTO>> getFilteredUsersCursor(
+            @Nullable @RequestBody UserFiltersDTO filters
+    ) throws AppObjectInvalidArgumentException {
+        if (filters == null) filters = new UserFiltersDTO();
+        return new ResponseEntity<>(userService.findUsersFilteredCursor(filters), HttpStatus.OK);
+    }
+
     @PostMapping
     @PreAuthorize("@authorizationService.hasAuthority(authentication.principal, 'CREATE_USER')")
     @Operation(
@@ -1,9 +1,12 @@
 package gr.aueb.cf.projectmanagementapp.security;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
@@ -12,17 +15,35 @@ import javax.crypto.SecretKey;
 import java.time.Instant;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 
+/**
+ * Issues and verifies the HS256 access tokens. Verification is timed as {@code jwt.parse}, tagged
+ * {@code outcome=valid|invalid}, since every authenticated request pays for it before any handler runs.
+ */
 @Service
 public class JwtService {
-
-    // Strong security 384-bits = 48 bytes = 64 Base64URL characters
-    @Value("${jwt.secret}")
-    private String secretKey;
+    static final String PARSE_TIMER = "jwt.parse";
 
     private long jwtExpiration = 10800000;  // 3 hours in milliseconds
 
+    // Both are immutable and thread-safe, so they are built once instead of on every token operation
+    private final SecretKey signingKey;
+    private final JwtParser jwtParser;
+    private final Timer validParseTimer;
+    private final Timer invalidParseTimer;
+
+    // Strong security 384-bits = 48 bytes = 64 Base64URL characters
+    public JwtService(@Value("${jwt.secret}") String secretKey, MeterRegistry meterRegistry) {
+        this.signingKey = Keys.hmacShaKeyFor(Decoders.BASE64.decode(secretKey));
+        this.jwtParser = Jwts.parser()
+                .verifyWith(signingKey)
+                .build();
+        this.validParseTimer = Timer.builder(PARSE_TIMER).tag("outcome", "valid").publishPercentileHistogram().register(meterRegistry);
+        this.invalidParseTimer = Timer.builder(PARSE_TIMER).tag("outcome", "invalid").publishPercentileHistogram().register(meterRegistry);
+    }
+
     public String generateToken(String username, String userUuid) {
         var claims = new HashMap<String, Object>();
         claims.put("userUuid", userUuid);
@@ -33,18 +54,40 @@ public class JwtService {
                 .subject(username)
                 .issuedAt(new Date(System.currentTimeMillis()))
                 .expiration(new Date(System.currentTimeMillis() + jwtExpiration))
-                .signWith(getSigningKey(), Jwts.SIG.HS256)
+                .signWith(signingKey, Jwts.SIG.HS256)
                 .compact();
     }
 
+    /**
+     * Verifies the signature of the token and returns its claims. Callers that need more than one
+     * claim should parse once and work on the returned {@link Claims}.
+     */
+    public Claims parseClaims(String token) {
+        long start = System.nanoTime();
+        Timer timer = invalidParseTimer;
+        try {
+            Claims claims = jwtParser
+                    .parseSignedClaims(token)
+                    .getPayload();
+            timer = validParseTimer;
+            return claims;
+        } finally {
+            timer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    public boolean isTokenValid(Claims claims, UserDetails userDetails, Instant lastPasswordChange) {
+        return claims.getSubject().equals(userDetails.getUsername())
+                && !claims.getExpiration().before(new Date())
+                && claims.getIssuedAt().toInstant().isAfter(lastPasswordChange);
+    }
+
     public Boolean isTokenValid(String token, UserDetails userDetails, Instant lastPasswordChange) {
-        final String subject = extractSubject(token);
-        final Date issuedAt = extractIssuedAt(token);
-        return subject.equals(userDetails.getUsername()) && !isTokenExpired(token) && issuedAt.toInstant().isAfter(lastPasswordChange);
+        return isTokenValid(parseClaims(token), userDetails, lastPasswordChange);
     }
 
     public String getStringClaim(String token, String claim) {
-        return extractAllClaims(token).get(claim, String.class);
+        return parseClaims(token).get(claim, String.class);
     }
 
     public String extractSubject(String token) {
@@ -52,35 +95,10 @@ public class JwtService {
     }
 
     public <T> T extractClaim(String token, Function<Claims, T> claimsResolver) {
-        final Claims claims = extractAllClaims(token);
-        return claimsResolver.apply(claims);
+        return claimsResolver.apply(parseClaims(token));
     }
 
     public Date extractIssuedAt(String token) {
         return extractClaim(token, Claims::getIssuedAt);
     }
-
-    private boolean isTokenExpired(String token) {
-        return extractExpiration(token).before(new Date());
-    }
-
-    private Date extractExpiration(String token) {
-        return extractClaim(token, Claims::getExpiration);
-    }
-
-    private Claims extractAllClaims(String token) {
-        SecretKey key = getSigningKey();
-        return Jwts
-                .parser()
-                .verifyWith(key)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
-    }
-
-
-    private SecretKey getSigningKey() {
-        byte[] keyBytes = Decoders.BASE64.decode(secretKey);
-        return Keys.hmacShaKeyFor(keyBytes);
-    }
 }
@@ -0,0 +1,102 @@
+package gr.aueb.cf.projectmanagementapp.security;
+
+import gr.aueb.cf.projectmanagementapp.core.exceptions.AppServiceUnavailableException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.*;
+import java.util.function.Supplier;
+
+/**
+ * Runs the hashing and verification of a delegate {@link PasswordEncoder} on a dedicated, fixed-size
+ * pool with a bounded queue, so a login burst cannot pin every request thread on BCrypt. The caller
+ * waits for the result; when the queue is full, or the result does not arrive within {@code maxWait},
+ * an {@link AppServiceUnavailableException} is thrown and answered with 503 and {@code Retry-After}.
+ * <p>Meters: {@code password.hashing} (tag {@code operation}), {@code password.hashing.queue.wait},
+ * {@code password.hashing.queue.depth} and {@code password.hashing.rejected}.</p>
+ */
+public class OffloadingPasswordEncoder implements PasswordEncoder, AutoCloseable {
+    private final PasswordEncoder delegate;
+    private final ThreadPoolExecutor executor;
+    private final Duration maxWait;
+    private final Duration retryAfter;
+    private final Timer encodeTimer;
+    private final Timer matchesTimer;
+    private final Timer queueWaitTimer;
+    private final Counter rejected;
+
+    public OffloadingPasswordEncoder(PasswordEncoder delegate, int threads, int queueCapacity, Duration maxWait,
+                                     Duration retryAfter, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.maxWait = maxWait;
+        this.retryAfter = retryAfter;
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                Thread.ofPlatform().name("password-hashing-", 0).daemon(true).factory(),
+                new ThreadPoolExecutor.AbortPolicy());
+        this.encodeTimer = Timer.builder("password.hashing").tag("operation", "encode").publishPercentileHistogram().register(meterRegistry);
+        this.matchesTimer = Timer.builder("password.hashing").tag("operation", "matches").publishPercentileHistogram().register(meterRegistry);
+        this.queueWaitTimer = Timer.builder("password.hashing.queue.wait").register(meterRegistry);
+        this.rejected = meterRegistry.counter("password.hashing.rejected");
+        Gauge.builder("password.hashing.queue.depth", executor, pool -> pool.getQueue().size()).register(meterRegistry);
+        Gauge.builder("password.hashing.active", executor, ThreadPoolExecutor::getActiveCount).register(meterRegistry);
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return offload(encodeTimer, () -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return offload(matchesTimer, () -> delegate.matches(rawPassword, encodedPassword));
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+
+    private <T> T offload(Timer timer, Supplier<T> task) {
+        long submittedAt = System.nanoTime();
+        Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                queueWaitTimer.record(System.nanoTime() - submittedAt, TimeUnit.NANOSECONDS);
+                return timer.record(task);
+            });
+        } catch (RejectedExecutionException e) {
+            throw saturated();
+        }
+        try {
+            return future.get(maxWait.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            // Drops the task if it is still queued; a running hash cannot be interrupted
+            future.cancel(true);
+            throw saturated();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            future.cancel(true);
+            throw saturated();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) throw runtimeException;
+            if (e.getCause() instanceof Error error) throw error;
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    private AppServiceUnavailableException saturated() {
+        rejected.increment();
+        return new AppServiceUnavailableException("PasswordHashing",
+                "Too many concurrent password operations. Please retry shortly.", retryAfter);
+    }
+}
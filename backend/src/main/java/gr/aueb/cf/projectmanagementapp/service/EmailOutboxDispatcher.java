@@ -0,0 +1,142 @@
+package gr.aueb.cf.projectmanagementapp.service;
+
+import gr.aueb.cf.projectmanagementapp.core.enums.EmailOutboxStatus;
+import gr.aueb.cf.projectmanagementapp.core.mail.MailOutboxProperties;
+import gr.aueb.cf.projectmanagementapp.model.EmailOutboxMessage;
+import gr.aueb.cf.projectmanagementapp.repository.EmailOutboxRepository;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Background delivery of the email outbox filled by {@link EmailService}.
+ * <ul>
+ *   <li>Due messages are claimed in batches with {@code SKIP LOCKED} and marked {@code SENDING} under a lease, so several
+ *   instances never send the same row</li>
+ *   <li>A batch is handed to {@link JavaMailSender#send(SimpleMailMessage...)}, which reuses one SMTP connection for all of it</li>
+ *   <li>Failed messages are retried with exponential backoff until {@code mail.outbox.max-attempts} is reached</li>
+ * </ul>
+ * <p><b>Scheduling:</b> Polls every {@code mail.outbox.poll-interval} (default 5 seconds) after the previous run completes</p>
+ */
+@Service
+@RequiredArgsConstructor
+public class EmailOutboxDispatcher {
+
+    private static final int MAX_ERROR_LENGTH = 1000;
+    private static final List<EmailOutboxStatus> CLAIMABLE = List.of(EmailOutboxStatus.PENDING, EmailOutboxStatus.SENDING);
+    private final EmailOutboxRepository emailOutboxRepository;
+    private final JavaMailSender mailSender;
+    private final MailOutboxProperties properties;
+    private final TransactionTemplate transactionTemplate;
+    private static final Logger LOGGER = LoggerFactory.getLogger(EmailOutboxDispatcher.class);
+
+    /**
+     * Sends one batch of due messages and records the outcome of each. The batch is claimed and the
+     * outcomes are recorded in two short transactions; no row lock or connection is held while SMTP runs.
+     *
+     * @return the number of messages processed
+     */
+    @Scheduled(fixedDelayString = "${mail.outbox.poll-interval:PT5S}")
+    public int dispatchPendingEmails() {
+        List<EmailOutboxMessage> due = transactionTemplate.execute(status -> claimDueEmails(LocalDateTime.now()));
+        if (due == null || due.isEmpty()) return 0;
+
+        List<SimpleMailMessage> messages = new ArrayList<>(due.size());
+        for (EmailOutboxMessage outboxMessage : due) {
+            SimpleMailMessage message = new SimpleMailMessage();
+            message.setTo(outboxMessage.getRecipient());
+            message.setSubject(outboxMessage.getSubject());
+            message.setText(outboxMessage.getBody());
+            messages.add(message);
+        }
+
+        Map<Object, Exception> failures = Map.of();
+        Exception batchFailure = null;
+        try {
+            mailSender.send(messages.toArray(SimpleMailMessage[]::new));
+        } catch (MailSendException e) {
+            // Only the listed messages failed; an empty map means all were sent but closing the connection failed
+            failures = e.getFailedMessages();
+        } catch (MailException e) {
+            batchFailure = e;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        int sent = 0;
+        for (int i = 0; i < due.size(); i++) {
+            EmailOutboxMessage outboxMessage = due.get(i);
+            Exception failure = batchFailure != null ? batchFailure : failures.get(messages.get(i));
+            if (failure == null) {
+                outboxMessage.setStatus(EmailOutboxStatus.SENT);
+                outboxMessage.setSentAt(now);
+                outboxMessage.setAttempts(outboxMessage.getAttempts() + 1);
+                outboxMessage.setLastError(null);
+                sent++;
+            } else {
+                recordFailedAttempt(outboxMessage, failure, now);
+            }
+        }
+        transactionTemplate.executeWithoutResult(status -> emailOutboxRepository.saveAll(due));
+        LOGGER.info("Email outbox batch processed: {} sent, {} failed", sent, due.size() - sent);
+        return due.size();
+    }
+
+    /**
+     * Marks the next due messages {@code SENDING} with a lease of {@code mail.outbox.lease}. If this instance
+     * dies before recording the outcome, the messages are claimed again once the lease runs out, so
+     * delivery is at least once.
+     */
+    private List<EmailOutboxMessage> claimDueEmails(LocalDateTime now) {
+        List<EmailOutboxMessage> due = emailOutboxRepository.findDueForUpdate(CLAIMABLE, now, PageRequest.of(0, properties.getBatchSize()));
+        for (EmailOutboxMessage outboxMessage : due) {
+            outboxMessage.setStatus(EmailOutboxStatus.SENDING);
+            outboxMessage.setNextAttemptAt(now.plus(properties.getLease()));
+        }
+        return due;
+    }
+
+    /**
+     * Removes delivered messages older than {@code mail.outbox.retention}.
+     */
+    @Scheduled(cron = "0 30 3 * * *") // Runs every day at 03:30
+    @Transactional
+    public void purgeSentEmails() {
+        int deleted = emailOutboxRepository.deleteByStatusAndSentAtBefore(EmailOutboxStatus.SENT, LocalDateTime.now().minus(properties.getRetention()));
+        LOGGER.info("Purged {} sent emails from the outbox", deleted);
+    }
+
+    private void recordFailedAttempt(EmailOutboxMessage outboxMessage, Exception failure, LocalDateTime now) {
+        int attempts = outboxMessage.getAttempts() + 1;
+        outboxMessage.setAttempts(attempts);
+        String error = String.valueOf(failure.getMessage());
+        outboxMessage.setLastError(error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error);
+        if (attempts >= properties.getMaxAttempts()) {
+            outboxMessage.setStatus(EmailOutboxStatus.FAILED);
+            LOGGER.error("Giving up on email {} to {} after {} attempts", outboxMessage.getId(), outboxMessage.getRecipient(), attempts, failure);
+            return;
+        }
+        outboxMessage.setStatus(EmailOutboxStatus.PENDING);
+        outboxMessage.setNextAttemptAt(now.plus(backoff(attempts)));
+        LOGGER.warn("Email {} to {} failed on attempt {}: {}", outboxMessage.getId(), outboxMessage.getRecipient(), attempts, error);
+    }
+
+    Duration backoff(int attempts) {
+        Duration delay = properties.getInitialBackoff().multipliedBy(1L << Math.min(attempts - 1, 20));
+        return delay.compareTo(properties.getMaxBackoff()) > 0 ? properties.getMaxBackoff() : delay;
+    }
+}
@@ -1,44 +1,46 @@
 package gr.aueb.cf.projectmanagementapp.service;
 
+import gr.aueb.cf.projectmanagementapp.core.MetricsConfig;
 import gr.aueb.cf.projectmanagementapp.core.exceptions.AppServerException;
+import gr.aueb.cf.projectmanagementapp.model.EmailOutboxMessage;
+import gr.aueb.cf.projectmanagementapp.repository.EmailOutboxRepository;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
-import org.springframework.mail.SimpleMailMessage;
-import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.stereotype.Service;
 
+/**
+ * Queues transactional emails in the outbox table. Delivery, batching and retries are handled by
+ * {@link EmailOutboxDispatcher}, so callers never wait on the SMTP server.
+ */
 @Service
+@Timed(MetricsConfig.SERVICE_TIMER)
 @RequiredArgsConstructor
 public class EmailService {
 
-    private final JavaMailSender mailSender;
+    private final EmailOutboxRepository emailOutboxRepository;
 
     public void sendVerificationEmail(String to, String token) throws AppServerException {
-        SimpleMailMessage message = new SimpleMailMessage();
-        message.setTo(to);
-        message.setSubject("Verification Email");
-        message.setText("To verify your account, use the below token:\n\n"
+        enqueue(to, "Verification Email", "To verify your account, use the below token:\n\n"
                 + "http://localhost:5173/auth/verify-account?token="  + token
                 + "\n\nThis token will expire in 24 hours.");
-
-        try {
-            mailSender.send(message);
-        } catch (Exception e) {
-            throw new AppServerException("EmailServiceException", e.getMessage());
-        }
     }
 
     public void sendPasswordResetEmail(String to, String token) throws AppServerException {
-        SimpleMailMessage message = new SimpleMailMessage();
-        message.setTo(to);
-        message.setSubject("Password Reset Request");
-        message.setText("To reset your password, use the below token:\n\n"
+        enqueue(to, "Password Reset Request", "To reset your password, use the below token:\n\n"
                 + "http://localhost:5173/auth/reset-password?token="  + token
                 + "\n\nThis token will expire in 30 minutes.");
+    }
 
+    private void enqueue(String to, String subject, String body) throws AppServerException {
+        EmailOutboxMessage message = EmailOutboxMessage.builder()
+                .recipient(to)
+                .subject(subject)
+                .body(body)
+                .build();
         try {
-            mailSender.send(message);
+            emailOutboxRepository.save(message);
         } catch (Exception e) {
             throw new AppServerException("EmailServiceException", e.getMessage());
         }
     }
-}
\ No newline at end of file
+}
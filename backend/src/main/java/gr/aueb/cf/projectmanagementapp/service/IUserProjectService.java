@@ -1,6 +1,7 @@
 package gr.aueb.cf.projectmanagementapp.service;
 
 import gr.aueb.cf.projectmanagementapp.core.exceptions.AppObjectDeletionConflictException;
+import gr.aueb.cf.projectmanagementapp.core.exceptions.AppObjectInvalidArgumentException;
 import gr.aueb.cf.projectmanagementapp.core.exceptions.AppObjectNotFoundException;
 import gr.aueb.cf.projectmanagementapp.dto.*;
 
@@ -9,6 +10,7 @@ import java.util.List;
 public interface IUserProjectService {
     List<ProjectReadOnlyDTO> findAllUserProjects(String userUuid) throws AppObjectNotFoundException;
     Paginated<ProjectReadOnlyDTO> findUserProjectsFilteredPaginated(ProjectFiltersDTO filters, String userUuid);
+    CursorPaginated<ProjectReadOnlyDTO> findUserProjectsFilteredCursor(ProjectFiltersDTO filters, String userUuid) throws AppObjectInvalidArgumentException;
     ProjectReadOnlyDTO findUserProjectByUuid(String userUuid, String projectUuid) throws AppObjectNotFoundException;
     ProjectReadOnlyDTO createUserProject(String userUuid, ProjectCreateDTO project) throws AppObjectNotFoundException;
     ProjectReadOnlyDTO updateUserProject(String userUuid, String projectUuid, ProjectUpdateDTO project) throws AppObjectNotFoundException;
@@ -1,16 +1,23 @@
 package gr.aueb.cf.projectmanagementapp.service;
 
+import gr.aueb.cf.projectmanagementapp.core.exceptions.AppObjectInvalidArgumentException;
 import gr.aueb.cf.projectmanagementapp.core.exceptions.AppObjectNotFoundException;
+import gr.aueb.cf.projectmanagementapp.core.export.TicketExportFormat;
 import gr.aueb.cf.projectmanagementapp.dto.*;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.List;
 
 public interface IUserProjectTicketService {
     List<TicketReadOnlyDTO> getProjectTickets(String userUuid, String projectUuid) throws AppObjectNotFoundException;
-    Paginated<TicketReadOnlyDTO> findUserProjectTicketsFilteredPaginated(TicketFiltersDTO filters, String userUuid, String projectUuid);
+    void exportProjectTickets(String userUuid, String projectUuid, TicketExportFormat format, OutputStream out) throws AppObjectNotFoundException, IOException;
+    Paginated<TicketReadOnlyDTO> findUserProjectTicketsFilteredPaginated(TicketFiltersDTO filters, String userUuid, String projectUuid) throws AppObjectInvalidArgumentException;
+    CursorPaginated<TicketReadOnlyDTO> findUserProjectTicketsFilteredCursor(TicketFiltersDTO filters, String userUuid, String projectUuid) throws AppObjectInvalidArgumentException;
     TicketReadOnlyDTO getProjectTicketByUuid(String userUuid, String projectUuid, String ticketUuid) throws AppObjectNotFoundException;
     TicketReadOnlyDTO createProjectTicket(String userUuid, String projectUuid, TicketCreateDTO createDTO) throws AppObjectNotFoundException;
     TicketReadOnlyDTO updateProjectTicket(String userUuid, String projectUuid, String ticketUuid, TicketUpdateDTO updateDTO) throws AppObjectNotFoundException;
     TicketReadOnlyDTO updateProjectTicket(String userUuid, String projectUuid, String ticketUuid, TicketPatchDTO patchDTO) throws AppObjectNotFoundException;
+    TicketBatchResultDTO applyProjectTicketBatch(String userUuid, String projectUuid, TicketBatchDTO batchDTO) throws AppObjectNotFoundException;
     void deleteProjectTicket(String userUuid, String projectUuid, String ticketUuid) throws AppObjectNotFoundException;
 }
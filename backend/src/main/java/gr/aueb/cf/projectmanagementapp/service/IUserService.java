@@ -1,6 +1,7 @@
 package gr.aueb.cf.projectmanagementapp.service;
 
 import gr.aueb.cf.projectmanagementapp.core.exceptions.AppObjectAlreadyExistsException;
+import gr.aueb.cf.projectmanagementapp.core.exceptions.AppObjectInvalidArgumentException;
 import gr.aueb.cf.projectmanagementapp.core.exceptions.AppObjectNotAuthorizedException;
 import gr.aueb.cf.projectmanagementapp.core.exceptions.AppObjectNotFoundException;
 import gr.aueb.cf.projectmanagementapp.dto.*;
@@ -12,6 +13,7 @@ import java.util.List;
 public interface IUserService {
     List<UserReadOnlyDTO> findAllUsers();
     Paginated<UserReadOnlyDTO> findUsersFilteredPaginated(UserFiltersDTO filters);
+    CursorPaginated<UserReadOnlyDTO> findUsersFilteredCursor(UserFiltersDTO filters) throws AppObjectInvalidArgumentException;
     UserReadOnlyDTO findUserByUuid(String uuid) throws AppObjectNotFoundException;
     UserReadOnlyDTO registerUser(UserRegisterDTO dto) throws AppObjectAlreadyExistsException;
     UserReadOnlyDTO insertVerifiedUser(UserRegisterDTO dto) throws AppObjectAlreadyExistsException;
@@ -1,17 +1,20 @@
 package gr.aueb.cf.projectmanagementapp.service;
 
+import gr.aueb.cf.projectmanagementapp.core.MetricsConfig;
 import gr.aueb.cf.projectmanagementapp.core.exceptions.AppObjectNotFoundException;
 import gr.aueb.cf.projectmanagementapp.core.exceptions.AppServerException;
 import gr.aueb.cf.projectmanagementapp.model.PasswordResetToken;
 import gr.aueb.cf.projectmanagementapp.model.User;
 import gr.aueb.cf.projectmanagementapp.repository.PasswordResetTokenRepository;
 import gr.aueb.cf.projectmanagementapp.repository.UserRepository;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 
 @Service
+@Timed(MetricsConfig.SERVICE_TIMER)
 @RequiredArgsConstructor
 public class PasswordResetTokenService {
 
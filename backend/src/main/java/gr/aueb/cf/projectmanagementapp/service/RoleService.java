@@ -1,5 +1,7 @@
 package gr.aueb.cf.projectmanagementapp.service;
 
+import gr.aueb.cf.projectmanagementapp.authentication.PrincipalCache;
+import gr.aueb.cf.projectmanagementapp.core.MetricsConfig;
 import gr.aueb.cf.projectmanagementapp.core.exceptions.AppObjectAlreadyExistsException;
 import gr.aueb.cf.projectmanagementapp.core.exceptions.AppObjectDeletionConflictException;
 import gr.aueb.cf.projectmanagementapp.core.exceptions.AppObjectInvalidArgumentException;
@@ -12,6 +14,8 @@ import gr.aueb.cf.projectmanagementapp.model.Role;
 import gr.aueb.cf.projectmanagementapp.model.static_data.Permission;
 import gr.aueb.cf.projectmanagementapp.repository.PermissionRepository;
 import gr.aueb.cf.projectmanagementapp.repository.RoleRepository;
+import gr.aueb.cf.projectmanagementapp.repository.StaticDataCache;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -22,21 +26,26 @@ import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
+@Timed(MetricsConfig.SERVICE_TIMER)
 @RequiredArgsConstructor
 public class RoleService implements IRoleService {
     private final RoleRepository roleRepository;
     private final PermissionRepository permissionRepository;
+    private final PrincipalCache principalCache;
+    private final StaticDataCache staticDataCache;
     private final Mapper mapper;
 
+    @Transactional(readOnly = true)
     @Override
     public List<RoleReadOnlyDTO> findAllRoles() {
         List<Role> roles =  roleRepository.findAll();
         return roles.stream().map(mapper::mapToRoleReadOnlyDTO).collect(Collectors.toList());
     }
 
+    @Transactional(readOnly = true)
     @Override
     public RoleReadOnlyDTO findRoleById(Long id) throws AppObjectNotFoundException {
-        Role role = roleRepository.findById(id).orElseThrow(() -> new AppObjectNotFoundException("Role", "Role with id " + id + " not found"));
+        Role role = roleRepository.findWithPermissionsById(id).orElseThrow(() -> new AppObjectNotFoundException("Role", "Role with id " + id + " not found"));
         return mapper.mapToRoleReadOnlyDTO(role);
     }
 
@@ -54,6 +63,7 @@ public class RoleService implements IRoleService {
         }
         Role newRole = new Role(null, dto.name(), null, permissions);
         Role savedRole = roleRepository.save(newRole);
+        staticDataCache.evictRoles();
         return mapper.mapToRoleReadOnlyDTO(savedRole);
     }
 
@@ -74,6 +84,9 @@ public class RoleService implements IRoleService {
         fetchedRole.get().setName(dto.name());
         fetchedRole.get().setPermissions(permissions);
         Role updatedRole = roleRepository.save(fetchedRole.get());
+        // Cached principals carry the role's permissions, so every holder of the role must reload
+        principalCache.evictAll();
+        staticDataCache.evictRoles();
         return mapper.mapToRoleReadOnlyDTO(updatedRole);
     }
 
@@ -83,5 +96,7 @@ public class RoleService implements IRoleService {
         Role role = roleRepository.findById(id).orElseThrow(() -> new AppObjectNotFoundException("Role", "Role with id " + id + " not found"));
         if (!role.getAllUsers().isEmpty()) throw new AppObjectDeletionConflictException("Role", "Role with id " + id + " cannot be deleted as there are users that are assigned with the specified role.");
         roleRepository.delete(role);
+        principalCache.evictAll();
+        staticDataCache.evictRoles();
     }
 }
@@ -1,15 +1,25 @@
 package gr.aueb.cf.projectmanagementapp.service;
 
-import gr.aueb.cf.projectmanagementapp.model.User;
-import gr.aueb.cf.projectmanagementapp.model.VerificationToken;
-import lombok.RequiredArgsConstructor;
+import gr.aueb.cf.projectmanagementapp.core.search.TicketSearchIndex;
+import gr.aueb.cf.projectmanagementapp.repository.PasswordResetTokenRepository;
+import gr.aueb.cf.projectmanagementapp.repository.ProjectRepository;
+import gr.aueb.cf.projectmanagementapp.repository.TicketRepository;
+import gr.aueb.cf.projectmanagementapp.repository.UserRepository;
+import gr.aueb.cf.projectmanagementapp.repository.VerificationTokenRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 /**
  * Scheduled service for cleaning up expired user registrations that weren't activated.
@@ -18,41 +28,125 @@ import java.util.List;
  *   <li>The account registration was never completed (email not verified)</li>
  *   <li>The verification token has expired (default: 24 hours after creation)</li>
  * </ul>
+ * <p>Users are removed in chunks of {@code cleanup.registrations.chunk-size} with bulk {@code DELETE}
+ * statements, each chunk in its own transaction, so a large backlog never holds one long transaction.
+ * Progress is published as the {@code registration.cleanup.*} meters.</p>
  * <p><b>Scheduling:</b> Runs hourly at the top of each hour (HH:00:00)</p>
  */
 @Service
-@RequiredArgsConstructor
 public class UserActivationCleanUpService {
 
-    private final IUserService userService;
     private final VerificationTokenService verificationTokenService;
+    private final VerificationTokenRepository verificationTokenRepository;
+    private final PasswordResetTokenRepository passwordResetTokenRepository;
+    private final TicketRepository ticketRepository;
+    private final TicketSearchIndex ticketSearchIndex;
+    private final ProjectRepository projectRepository;
+    private final UserRepository userRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+    private final int maxChunks;
+    private final Counter deletedUsers;
+    private final Counter chunks;
+    private final Counter skippedUsers;
+    private final Timer chunkTimer;
     private static final Logger LOGGER = LoggerFactory.getLogger(UserActivationCleanUpService.class);
 
+    public UserActivationCleanUpService(VerificationTokenService verificationTokenService,
+                                        VerificationTokenRepository verificationTokenRepository,
+                                        PasswordResetTokenRepository passwordResetTokenRepository,
+                                        TicketRepository ticketRepository,
+                                        TicketSearchIndex ticketSearchIndex,
+                                        ProjectRepository projectRepository,
+                                        UserRepository userRepository,
+                                        TransactionTemplate transactionTemplate,
+                                        MeterRegistry meterRegistry,
+                                        @Value("${cleanup.registrations.chunk-size:500}") int chunkSize,
+                                        @Value("${cleanup.registrations.max-chunks:200}") int maxChunks) {
+        this.verificationTokenService = verificationTokenService;
+        this.verificationTokenRepository = verificationTokenRepository;
+        this.passwordResetTokenRepository = passwordResetTokenRepository;
+        this.ticketRepository = ticketRepository;
+        this.ticketSearchIndex = ticketSearchIndex;
+        this.projectRepository = projectRepository;
+        this.userRepository = userRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.chunkSize = chunkSize;
+        this.maxChunks = maxChunks;
+        this.deletedUsers = meterRegistry.counter("registration.cleanup.users.deleted");
+        this.chunks = meterRegistry.counter("registration.cleanup.chunks");
+        this.skippedUsers = meterRegistry.counter("registration.cleanup.users.skipped");
+        this.chunkTimer = meterRegistry.timer("registration.cleanup.chunk.duration");
+    }
+
     /**
-     * Executes the cleanup process for expired registrations.
+     * Executes the cleanup process for expired registrations. A failing chunk is rolled back and its users
+     * are retried one at a time; users that still fail are logged and skipped for the rest of the run, so
+     * they never hold back the registrations after them. The next run tries them again.
      */
     @Scheduled(cron = "0 0 * * * *") // Runs every hour at minute 0
-    @Transactional
     public void cleanupExpiredRegistrations() {
         LOGGER.info("Starting cleanup of expired user registrations...");
-
-        List<VerificationToken> expiredTokens = verificationTokenService.findAllExpiredTokens();
-
-        expiredTokens.forEach(token -> {
+        Set<Long> skipped = new HashSet<>();
+        long removed = 0;
+        int processedChunks = 0;
+        while (processedChunks < maxChunks) {
+            List<Long> userIds = nextChunk(skipped);
+            if (userIds.isEmpty()) break;
+            int deleted;
             try {
-                User user = token.getUser();
-                LOGGER.info("Deleting unactivated user {} with expired token", user.getUsername());
+                deleted = chunkTimer.record(() -> transactionTemplate.execute(status -> deleteUsers(userIds)));
+            } catch (Exception e) {
+                LOGGER.warn("Cleanup chunk {} failed, retrying its {} registrations one at a time", processedChunks + 1, userIds.size(), e);
+                deleted = deleteOneByOne(userIds, skipped);
+            }
+            processedChunks++;
+            removed += deleted;
+            chunks.increment();
+            deletedUsers.increment(deleted);
+            LOGGER.debug("Cleanup chunk {} removed {} expired registrations", processedChunks, deleted);
+            if (userIds.size() < chunkSize) break;
+        }
+        LOGGER.info("Cleanup completed. Removed {} expired registrations in {} chunks, skipped {}", removed, processedChunks, skipped.size());
+    }
 
-                // Delete in this order to maintain referential integrity
-                verificationTokenService.deleteToken(token);
-                userService.deleteUser(user.getUsername());
+    /**
+     * Ids of the next chunk of expired registrations. Skipped users keep their place at the head of the
+     * token order, so the read is widened by their number and they are filtered out.
+     */
+    private List<Long> nextChunk(Set<Long> skipped) {
+        List<Long> userIds = new ArrayList<>(verificationTokenService.findUserIdsWithExpiredTokens(chunkSize + skipped.size()));
+        userIds.removeAll(skipped);
+        return userIds.size() > chunkSize ? userIds.subList(0, chunkSize) : userIds;
+    }
 
+    private int deleteOneByOne(List<Long> userIds, Set<Long> skipped) {
+        int deleted = 0;
+        for (Long userId : userIds) {
+            try {
+                Integer count = transactionTemplate.execute(status -> deleteUsers(List.of(userId)));
+                if (count != null) deleted += count;
             } catch (Exception e) {
-                LOGGER.error("Error cleaning up expired registration for token {}", token.getId(), e);
+                LOGGER.error("Skipping expired registration of user {}", userId, e);
+                skipped.add(userId);
+                skippedUsers.increment();
             }
-        });
+        }
+        return deleted;
+    }
 
-        LOGGER.info("Cleanup completed. Removed {} expired registrations", expiredTokens.size());
+    /**
+     * Deletes the given expired registrations, children first to satisfy the foreign keys. Their tickets
+     * leave the search index once the chunk commits. Unverified users cannot log in, so none of them is
+     * held by the principal cache.
+     */
+    private int deleteUsers(List<Long> userIds) {
+        verificationTokenRepository.deleteAllByUserIdIn(userIds);
+        passwordResetTokenRepository.deleteAllByUserIdIn(userIds);
+        ticketSearchIndex.removeAll(ticketRepository.findIdsByProjectOwnerIdIn(userIds));
+        ticketRepository.deleteAllByProjectOwnerIdIn(userIds);
+        projectRepository.deleteAllByOwnerIdIn(userIds);
+        userRepository.deleteRolesByUserIdIn(userIds);
+        return userRepository.deleteAllByIdIn(userIds);
     }
 }
-
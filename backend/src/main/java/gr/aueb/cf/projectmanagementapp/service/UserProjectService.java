@@ -1,15 +1,24 @@
 package gr.aueb.cf.projectmanagementapp.service;
 
+import gr.aueb.cf.projectmanagementapp.core.MetricsConfig;
 import gr.aueb.cf.projectmanagementapp.core.exceptions.AppObjectDeletionConflictException;
+import gr.aueb.cf.projectmanagementapp.core.exceptions.AppObjectInvalidArgumentException;
 import gr.aueb.cf.projectmanagementapp.core.exceptions.AppObjectNotFoundException;
+import gr.aueb.cf.projectmanagementapp.core.filters.KeysetCursor;
 import gr.aueb.cf.projectmanagementapp.core.filters.ProjectFilters;
+import gr.aueb.cf.projectmanagementapp.core.specifications.KeysetSpecification;
 import gr.aueb.cf.projectmanagementapp.core.specifications.ProjectSpecification;
 import gr.aueb.cf.projectmanagementapp.dto.*;
 import gr.aueb.cf.projectmanagementapp.mapper.Mapper;
 import gr.aueb.cf.projectmanagementapp.model.Project;
 import gr.aueb.cf.projectmanagementapp.model.User;
 import gr.aueb.cf.projectmanagementapp.repository.ProjectRepository;
+import gr.aueb.cf.projectmanagementapp.repository.ProjectTicketLookup;
+import gr.aueb.cf.projectmanagementapp.repository.ReadOnlyProjections;
+import gr.aueb.cf.projectmanagementapp.repository.SpecificationQueryExecutor;
+import gr.aueb.cf.projectmanagementapp.repository.TicketRepository;
 import gr.aueb.cf.projectmanagementapp.repository.UserRepository;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
@@ -19,10 +28,13 @@ import java.util.List;
 import java.util.stream.Collectors;
 
 @Service
+@Timed(MetricsConfig.SERVICE_TIMER)
 @RequiredArgsConstructor
 public class UserProjectService implements IUserProjectService {
     private final UserRepository userRepository;
     private final ProjectRepository projectRepository;
+    private final TicketRepository ticketRepository;
+    private final SpecificationQueryExecutor specificationQueryExecutor;
     private final Mapper mapper;
 
 
@@ -37,8 +49,23 @@ public class UserProjectService implements IUserProjectService {
     @Override
     public Paginated<ProjectReadOnlyDTO> findUserProjectsFilteredPaginated(ProjectFiltersDTO filters, String userUuid) {
         ProjectFilters projectFilters = mapper.mapToProjectFilters(filters, userUuid);
-        var filtered = projectRepository.findAll(getSpecsFromFilters(projectFilters), projectFilters.getPageable());
-        return new Paginated<>(filtered.map(mapper::mapToProjectReadOnlyDTO));
+        Specification<Project> spec = getSpecsFromFilters(projectFilters);
+        if (!projectFilters.isCountRequested()) {
+            return new Paginated<>(specificationQueryExecutor.findSlice(Project.class, ProjectReadOnlyDTO.class, spec, projectFilters.getPageable(), ReadOnlyProjections.PROJECT));
+        }
+        return new Paginated<>(specificationQueryExecutor.findPage(Project.class, ProjectReadOnlyDTO.class, spec, projectFilters.getPageable(), projectFilters.getCountKey(), ReadOnlyProjections.PROJECT));
+    }
+
+    @Transactional(readOnly = true)
+    @Override
+    public CursorPaginated<ProjectReadOnlyDTO> findUserProjectsFilteredCursor(ProjectFiltersDTO filters, String userUuid) throws AppObjectInvalidArgumentException {
+        ProjectFilters projectFilters = mapper.mapToProjectFilters(filters, userUuid);
+        KeysetCursor.requireSortable(ReadOnlyProjections.PROJECT_SORT_FIELDS, projectFilters.getSortField());
+        KeysetCursor cursor = KeysetCursor.decode(projectFilters.getCursor(), projectFilters.getSortField(), projectFilters.getSortDirection());
+        Specification<Project> spec = getSpecsFromFilters(projectFilters).and(KeysetSpecification.after(cursor));
+        List<ProjectReadOnlyDTO> rows = specificationQueryExecutor.findFirst(Project.class, ProjectReadOnlyDTO.class, spec,
+                projectFilters.getKeysetSort(), projectFilters.getPageSize() + 1, ReadOnlyProjections.PROJECT);
+        return CursorPaginated.of(rows, projectFilters);
     }
 
     @Transactional(readOnly = true)
@@ -75,11 +102,11 @@ public class UserProjectService implements IUserProjectService {
     @Transactional
     @Override
     public void deleteUserProject(String userUuid, String projectUuid) throws AppObjectNotFoundException, AppObjectDeletionConflictException {
-        User user = userRepository.findByUuid(userUuid).orElseThrow(() -> new AppObjectNotFoundException("User", "User " + userUuid + " not found"));
-        Project project = projectRepository.findByUuidAndOwnerUuid(projectUuid, userUuid).orElseThrow(() -> new AppObjectNotFoundException("Project", "Project " + projectUuid + " not found"));
-        if (!project.getAllTickets().isEmpty()) throw new AppObjectDeletionConflictException("Project", "Project cannot be deleted. There are tickets in this project.");
-        user.removeProject(project);
-        userRepository.save(user);
+        // Neither the project's tickets nor the user's projects are loaded: an EXISTS probe guards a direct delete
+        ProjectTicketLookup lookup = projectRepository.findProjectLookup(userUuid, projectUuid).orElseThrow(() -> new AppObjectNotFoundException("User", "User " + userUuid + " not found"));
+        if (!lookup.projectFound()) throw new AppObjectNotFoundException("Project", "Project " + projectUuid + " not found");
+        if (ticketRepository.existsByProjectId(lookup.projectId())) throw new AppObjectDeletionConflictException("Project", "Project cannot be deleted. There are tickets in this project.");
+        projectRepository.deleteProjectById(lookup.projectId());
     }
 
     private Project getValidProject(String userUuid, String projectUuid) throws AppObjectNotFoundException {
@@ -87,7 +114,7 @@ public class UserProjectService implements IUserProjectService {
         return projectRepository.findByUuidAndOwnerUuid(projectUuid, userUuid).orElseThrow(() -> new AppObjectNotFoundException("Project", "Project " + projectUuid + " not found"));
     }
 
-    private Specification<Project> getSpecsFromFilters(ProjectFilters filters) {
+    static Specification<Project> getSpecsFromFilters(ProjectFilters filters) {
         Specification<Project> spec = (root, query, builder) -> null;
         if (filters.getUuid() != null) {
             spec = spec.and(ProjectSpecification.projectsFieldLike("uuid", filters.getUuid()));
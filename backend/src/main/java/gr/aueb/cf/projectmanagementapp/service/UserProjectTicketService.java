@@ -1,8 +1,17 @@
 package gr.aueb.cf.projectmanagementapp.service;
 
+import gr.aueb.cf.projectmanagementapp.core.MetricsConfig;
+import gr.aueb.cf.projectmanagementapp.core.exceptions.AppObjectInvalidArgumentException;
 import gr.aueb.cf.projectmanagementapp.core.exceptions.AppObjectNotFoundException;
+import gr.aueb.cf.projectmanagementapp.core.export.TicketExportFormat;
+import gr.aueb.cf.projectmanagementapp.core.export.TicketExportWriter;
+import gr.aueb.cf.projectmanagementapp.core.filters.KeysetCursor;
 import gr.aueb.cf.projectmanagementapp.core.filters.ProjectFilters;
 import gr.aueb.cf.projectmanagementapp.core.filters.TicketFilters;
+import gr.aueb.cf.projectmanagementapp.core.search.TicketSearchDocument;
+import gr.aueb.cf.projectmanagementapp.core.search.TicketSearchHits;
+import gr.aueb.cf.projectmanagementapp.core.search.TicketSearchIndex;
+import gr.aueb.cf.projectmanagementapp.core.specifications.KeysetSpecification;
 import gr.aueb.cf.projectmanagementapp.core.specifications.ProjectSpecification;
 import gr.aueb.cf.projectmanagementapp.core.specifications.TicketSpecification;
 import gr.aueb.cf.projectmanagementapp.dto.*;
@@ -10,33 +19,42 @@ import gr.aueb.cf.projectmanagementapp.mapper.Mapper;
 import gr.aueb.cf.projectmanagementapp.model.Project;
 import gr.aueb.cf.projectmanagementapp.model.Ticket;
 import gr.aueb.cf.projectmanagementapp.repository.ProjectRepository;
+import gr.aueb.cf.projectmanagementapp.repository.ProjectTicketLookup;
+import gr.aueb.cf.projectmanagementapp.repository.ReadOnlyProjections;
+import gr.aueb.cf.projectmanagementapp.repository.SpecificationQueryExecutor;
 import gr.aueb.cf.projectmanagementapp.repository.TicketRepository;
-import gr.aueb.cf.projectmanagementapp.repository.UserRepository;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.List;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.*;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
+@Timed(MetricsConfig.SERVICE_TIMER)
 @RequiredArgsConstructor
 public class UserProjectTicketService implements IUserProjectTicketService {
-    private final UserRepository userRepository;
     private final ProjectRepository projectRepository;
     private final TicketRepository ticketRepository;
+    private final SpecificationQueryExecutor specificationQueryExecutor;
+    private final TicketExportWriter ticketExportWriter;
+    private final TicketSearchIndex ticketSearchIndex;
     private final Mapper mapper;
 
     @Transactional(readOnly = true)
     @Override
     public List<TicketReadOnlyDTO> getProjectTickets(String userUuid, String projectUuid) throws AppObjectNotFoundException {
-        if (!userRepository.existsByUuid(userUuid)) {
-            throw new AppObjectNotFoundException("User", "User with uuid " + userUuid + " not found");
-        }
-        if (!projectRepository.existsByUuidAndOwnerUuid(projectUuid, userUuid)) {
-            throw new AppObjectNotFoundException("Project", "Project with uuid " + projectUuid + " not found");
-        }
+        validateUserProject(userUuid, projectUuid);
         return ticketRepository.findByProjectUuid(projectUuid).stream()
                 .map(mapper::mapToTicketReadOnlyDTO)
                 .collect(Collectors.toList());
@@ -44,10 +62,38 @@ public class UserProjectTicketService implements IUserProjectTicketService {
 
     @Transactional(readOnly = true)
     @Override
-    public Paginated<TicketReadOnlyDTO> findUserProjectTicketsFilteredPaginated(TicketFiltersDTO filters, String userUuid, String projectUuid) {
+    public void exportProjectTickets(String userUuid, String projectUuid, TicketExportFormat format, OutputStream out) throws AppObjectNotFoundException, IOException {
+        validateUserProject(userUuid, projectUuid);
+        try (Stream<TicketReadOnlyDTO> tickets = ticketRepository.streamByProjectUuid(projectUuid)) {
+            ticketExportWriter.write(tickets, format, out);
+        }
+    }
+
+    @Transactional(readOnly = true)
+    @Override
+    public Paginated<TicketReadOnlyDTO> findUserProjectTicketsFilteredPaginated(TicketFiltersDTO filters, String userUuid, String projectUuid) throws AppObjectInvalidArgumentException {
         TicketFilters ticketFilters = mapper.mapToTicketFilters(filters, userUuid, projectUuid);
-        var filtered = ticketRepository.findAll(getSpecsFromFilters(ticketFilters), ticketFilters.getPageable());
-        return new Paginated<>(filtered.map(mapper::mapToTicketReadOnlyDTO));
+        if (ticketFilters.isSearch()) return searchProjectTickets(ticketFilters);
+        Specification<Ticket> spec = getSpecsFromFilters(ticketFilters);
+        if (!ticketFilters.isCountRequested()) {
+            return new Paginated<>(specificationQueryExecutor.findSlice(Ticket.class, TicketReadOnlyDTO.class, spec, ticketFilters.getPageable(), ReadOnlyProjections.TICKET));
+        }
+        return new Paginated<>(specificationQueryExecutor.findPage(Ticket.class, TicketReadOnlyDTO.class, spec, ticketFilters.getPageable(), ticketFilters.getCountKey(), ReadOnlyProjections.TICKET));
+    }
+
+    @Transactional(readOnly = true)
+    @Override
+    public CursorPaginated<TicketReadOnlyDTO> findUserProjectTicketsFilteredCursor(TicketFiltersDTO filters, String userUuid, String projectUuid) throws AppObjectInvalidArgumentException {
+        TicketFilters ticketFilters = mapper.mapToTicketFilters(filters, userUuid, projectUuid);
+        if (ticketFilters.isSearch()) {
+            throw new AppObjectInvalidArgumentException("Filters", "Full-text search results are ranked and can only be paged by page number");
+        }
+        KeysetCursor.requireSortable(ReadOnlyProjections.TICKET_SORT_FIELDS, ticketFilters.getSortField());
+        KeysetCursor cursor = KeysetCursor.decode(ticketFilters.getCursor(), ticketFilters.getSortField(), ticketFilters.getSortDirection());
+        Specification<Ticket> spec = getSpecsFromFilters(ticketFilters).and(KeysetSpecification.after(cursor));
+        List<TicketReadOnlyDTO> rows = specificationQueryExecutor.findFirst(Ticket.class, TicketReadOnlyDTO.class, spec,
+                ticketFilters.getKeysetSort(), ticketFilters.getPageSize() + 1, ReadOnlyProjections.TICKET);
+        return CursorPaginated.of(rows, ticketFilters);
     }
 
     @Transactional(readOnly = true)
@@ -59,13 +105,12 @@ public class UserProjectTicketService implements IUserProjectTicketService {
     @Transactional
     @Override
     public TicketReadOnlyDTO createProjectTicket(String userUuid, String projectUuid, TicketCreateDTO createDTO) throws AppObjectNotFoundException {
-        if (!userRepository.existsByUuid(userUuid)) {
-            throw new AppObjectNotFoundException("User", "User with uuid " + userUuid + " not found");
-        }
-        Project project = projectRepository.findByUuidAndOwnerUuid(projectUuid, userUuid).orElseThrow(() -> new AppObjectNotFoundException("Project", "Project with uuid " + projectUuid + " not found"));
+        Project project = projectRepository.getReferenceById(validateUserProject(userUuid, projectUuid));
         Ticket toCreate = mapper.mapToTicket(createDTO);
         toCreate.setProject(project);
-        return mapper.mapToTicketReadOnlyDTO(ticketRepository.save(toCreate));
+        Ticket created = ticketRepository.save(toCreate);
+        ticketSearchIndex.index(TicketSearchDocument.of(created, projectUuid));
+        return mapper.mapToTicketReadOnlyDTO(created);
     }
 
     @Transactional
@@ -73,7 +118,9 @@ public class UserProjectTicketService implements IUserProjectTicketService {
     public TicketReadOnlyDTO updateProjectTicket(String userUuid, String projectUuid, String ticketUuid, TicketUpdateDTO updateDTO) throws AppObjectNotFoundException {
         Ticket ticket = getValidatedTicket(userUuid, projectUuid, ticketUuid);
         Ticket toUpdate = mapper.mapToTicket(updateDTO, ticket);
-        return mapper.mapToTicketReadOnlyDTO(ticketRepository.save(toUpdate));
+        Ticket updated = ticketRepository.save(toUpdate);
+        ticketSearchIndex.index(TicketSearchDocument.of(updated, projectUuid));
+        return mapper.mapToTicketReadOnlyDTO(updated);
     }
 
     @Transactional
@@ -81,7 +128,72 @@ public class UserProjectTicketService implements IUserProjectTicketService {
     public TicketReadOnlyDTO updateProjectTicket(String userUuid, String projectUuid, String ticketUuid, TicketPatchDTO patchDTO) throws AppObjectNotFoundException {
         Ticket ticket = getValidatedTicket(userUuid, projectUuid, ticketUuid);
         Ticket toUpdate = mapper.mapToTicket(patchDTO, ticket);
-        return mapper.mapToTicketReadOnlyDTO(ticketRepository.save(toUpdate));
+        Ticket updated = ticketRepository.save(toUpdate);
+        ticketSearchIndex.index(TicketSearchDocument.of(updated, projectUuid));
+        return mapper.mapToTicketReadOnlyDTO(updated);
+    }
+
+    /**
+     * Applies creates, then patches, then deletes in a single transaction. Ownership is checked once and
+     * all tickets referenced by patches and deletes are loaded with one query; a uuid that does not
+     * belong to the project fails its own item without rolling back the rest of the batch.
+     */
+    @Transactional
+    @Override
+    public TicketBatchResultDTO applyProjectTicketBatch(String userUuid, String projectUuid, TicketBatchDTO batchDTO) throws AppObjectNotFoundException {
+        Project project = projectRepository.getReferenceById(validateUserProject(userUuid, projectUuid));
+        List<TicketBatchItemResultDTO> results = new ArrayList<>();
+
+        List<Ticket> toCreate = new ArrayList<>();
+        for (TicketCreateDTO createDTO : batchDTO.createOrEmpty()) {
+            Ticket ticket = mapper.mapToTicket(createDTO);
+            ticket.setProject(project);
+            toCreate.add(ticket);
+        }
+        List<Ticket> created = ticketRepository.saveAll(toCreate);
+        for (int i = 0; i < created.size(); i++) {
+            Ticket ticket = created.get(i);
+            ticketSearchIndex.index(TicketSearchDocument.of(ticket, projectUuid));
+            results.add(TicketBatchItemResultDTO.applied("CREATE", i, ticket.getUuid(), mapper.mapToTicketReadOnlyDTO(ticket)));
+        }
+
+        Set<String> referenced = new HashSet<>();
+        batchDTO.patchOrEmpty().forEach(patch -> referenced.add(patch.uuid()));
+        referenced.addAll(batchDTO.deleteOrEmpty());
+        Map<String, Ticket> existing = referenced.isEmpty()
+                ? new HashMap<>()
+                : ticketRepository.findByProjectUuidAndUuidIn(projectUuid, referenced).stream()
+                        .collect(Collectors.toMap(Ticket::getUuid, Function.identity()));
+
+        List<TicketBatchPatchDTO> patches = batchDTO.patchOrEmpty();
+        for (int i = 0; i < patches.size(); i++) {
+            TicketBatchPatchDTO patch = patches.get(i);
+            Ticket ticket = existing.get(patch.uuid());
+            if (ticket == null) {
+                results.add(TicketBatchItemResultDTO.failed("PATCH", i, patch.uuid(), "Ticket with uuid: " + patch.uuid() + " not found"));
+                continue;
+            }
+            // Managed entity, flushed with the rest of the batch on commit
+            mapper.mapToTicket(patch.changes(), ticket);
+            ticketSearchIndex.index(TicketSearchDocument.of(ticket, projectUuid));
+            results.add(TicketBatchItemResultDTO.applied("PATCH", i, ticket.getUuid(), mapper.mapToTicketReadOnlyDTO(ticket)));
+        }
+
+        List<Ticket> toDelete = new ArrayList<>();
+        List<String> deletes = batchDTO.deleteOrEmpty();
+        for (int i = 0; i < deletes.size(); i++) {
+            String ticketUuid = deletes.get(i);
+            Ticket ticket = existing.remove(ticketUuid);
+            if (ticket == null) {
+                results.add(TicketBatchItemResultDTO.failed("DELETE", i, ticketUuid, "Ticket with uuid: " + ticketUuid + " not found"));
+                continue;
+            }
+            toDelete.add(ticket);
+            ticketSearchIndex.remove(ticket.getId());
+            results.add(TicketBatchItemResultDTO.applied("DELETE", i, ticketUuid, null));
+        }
+        ticketRepository.deleteAll(toDelete);
+        return new TicketBatchResultDTO(results);
     }
 
     @Transactional
@@ -89,28 +201,68 @@ public class UserProjectTicketService implements IUserProjectTicketService {
     public void deleteProjectTicket(String userUuid, String projectUuid, String ticketUuid) throws AppObjectNotFoundException {
         Ticket ticket = getValidatedTicket(userUuid, projectUuid, ticketUuid);
         ticketRepository.delete(ticket);
+        ticketSearchIndex.remove(ticket.getId());
     }
 
-    private Ticket getValidatedTicket(String userUuid, String projectUuid, String ticketUuid) throws AppObjectNotFoundException {
-        if (!userRepository.existsByUuid(userUuid)) {
-            throw new AppObjectNotFoundException("User", "User with uuid " + userUuid + " not found");
+    /**
+     * Ranks the matches in {@link TicketSearchIndex}, then loads the page's rows in one query. The load
+     * re-checks the project and its owner, so hits the index still holds for deleted rows are dropped.
+     * Pages past the index's result window are rejected rather than answered with an empty page and a
+     * wrong total.
+     */
+    private Paginated<TicketReadOnlyDTO> searchProjectTickets(TicketFilters filters) throws AppObjectInvalidArgumentException {
+        if ((long) filters.getPage() * filters.getPageSize() >= TicketSearchIndex.MAX_RESULT_WINDOW) {
+            throw new AppObjectInvalidArgumentException("Filters", "Full-text search can only page through the first "
+                    + TicketSearchIndex.MAX_RESULT_WINDOW + " results; refine the query");
         }
-        if (!projectRepository.existsByUuidAndOwnerUuid(projectUuid, userUuid)) {
-            throw new AppObjectNotFoundException("Project", "Project with uuid " + projectUuid + " not found");
+        TicketSearchHits hits = ticketSearchIndex.search(filters);
+        List<TicketReadOnlyDTO> page = new ArrayList<>(hits.ids().size());
+        if (!hits.ids().isEmpty()) {
+            Map<Long, TicketReadOnlyDTO> rows = ticketRepository.findReadOnlyByIdIn(hits.ids(), filters.getProjectUuid(), filters.getOwnerUuid()).stream()
+                    .collect(Collectors.toMap(TicketReadOnlyDTO::id, Function.identity()));
+            hits.ids().stream().map(rows::get).filter(Objects::nonNull).forEach(page::add);
         }
-        return ticketRepository.findByUuidAndProjectUuid(ticketUuid, projectUuid)
-                .orElseThrow(() -> new AppObjectNotFoundException("Ticket",
-                        "Ticket with uuid: " + ticketUuid + " not found"));
+        // Relevance order, so the page carries no sort
+        Pageable pageable = PageRequest.of(filters.getPage(), filters.getPageSize());
+        if (hits.totalHits() == null) return new Paginated<>(new SliceImpl<>(page, pageable, hits.hasNext()));
+        return new Paginated<>(new PageImpl<>(page, pageable, hits.totalHits()));
     }
 
+    private Ticket getValidatedTicket(String userUuid, String projectUuid, String ticketUuid) throws AppObjectNotFoundException {
+        ProjectTicketLookup lookup = ticketRepository.findTicketLookup(userUuid, projectUuid, ticketUuid)
+                .orElseThrow(() -> userNotFound(userUuid));
+        if (!lookup.projectFound()) throw projectNotFound(projectUuid);
+        if (!lookup.ticketFound()) {
+            throw new AppObjectNotFoundException("Ticket", "Ticket with uuid: " + ticketUuid + " not found");
+        }
+        return lookup.ticket();
+    }
+
+    /**
+     * Checks that the user exists and owns the project with a single query, returning the project id.
+     */
+    private Long validateUserProject(String userUuid, String projectUuid) throws AppObjectNotFoundException {
+        ProjectTicketLookup lookup = projectRepository.findProjectLookup(userUuid, projectUuid)
+                .orElseThrow(() -> userNotFound(userUuid));
+        if (!lookup.projectFound()) throw projectNotFound(projectUuid);
+        return lookup.projectId();
+    }
+
+    private static AppObjectNotFoundException userNotFound(String userUuid) {
+        return new AppObjectNotFoundException("User", "User with uuid " + userUuid + " not found");
+    }
+
+    private static AppObjectNotFoundException projectNotFound(String projectUuid) {
+        return new AppObjectNotFoundException("Project", "Project with uuid " + projectUuid + " not found");
+    }
 
-    private Specification<Ticket> getSpecsFromFilters(TicketFilters filters) {
+    static Specification<Ticket> getSpecsFromFilters(TicketFilters filters) {
         Specification<Ticket> spec = (root, query, builder) -> null;
         if (filters.getUuid() != null) {
             spec = spec.and(TicketSpecification.ticketsFieldLike("uuid", filters.getUuid()));
         }
         if (filters.getTitle() != null) {
-            spec = spec.and(TicketSpecification.ticketsFieldLike("name", filters.getTitle()));
+            spec = spec.and(TicketSpecification.ticketsFieldLike("title", filters.getTitle()));
         }
         if (filters.getStatus() != null) {
             spec = spec.and(TicketSpecification.ticketStatusIn(filters.getStatus()));
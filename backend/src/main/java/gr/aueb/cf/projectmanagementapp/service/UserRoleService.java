@@ -1,5 +1,7 @@
 package gr.aueb.cf.projectmanagementapp.service;
 
+import gr.aueb.cf.projectmanagementapp.authentication.PrincipalCache;
+import gr.aueb.cf.projectmanagementapp.core.MetricsConfig;
 import gr.aueb.cf.projectmanagementapp.core.exceptions.AppObjectNotFoundException;
 import gr.aueb.cf.projectmanagementapp.dto.RoleReadOnlyDTO;
 import gr.aueb.cf.projectmanagementapp.dto.UserRoleInsertDTO;
@@ -8,6 +10,7 @@ import gr.aueb.cf.projectmanagementapp.model.Role;
 import gr.aueb.cf.projectmanagementapp.model.User;
 import gr.aueb.cf.projectmanagementapp.repository.RoleRepository;
 import gr.aueb.cf.projectmanagementapp.repository.UserRepository;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -17,16 +20,18 @@ import java.util.List;
 import java.util.stream.Collectors;
 
 @Service
+@Timed(MetricsConfig.SERVICE_TIMER)
 @RequiredArgsConstructor
 public class UserRoleService implements IUserRoleService {
     private final UserRepository userRepository;
     private final RoleRepository roleRepository;
+    private final PrincipalCache principalCache;
     private final Mapper mapper;
 
     @Transactional(readOnly = true)
     @Override
     public List<RoleReadOnlyDTO> findAllUserRoles(String uuid) throws AppObjectNotFoundException {
-        User user = userRepository.findByUuid(uuid).orElseThrow(() -> new AppObjectNotFoundException("User", "User with username " + uuid + " not found"));
+        User user = userRepository.findWithAuthoritiesByUuid(uuid).orElseThrow(() -> new AppObjectNotFoundException("User", "User with username " + uuid + " not found"));
         return user.getAllRoles().stream().map(mapper::mapToRoleReadOnlyDTO).collect(Collectors.toList());
     }
 
@@ -43,6 +48,7 @@ public class UserRoleService implements IUserRoleService {
             user.addRole(role);
         }
         User updatedUser = userRepository.save(user);
+        principalCache.evict(updatedUser.getUsername());
         return updatedUser.getAllRoles().stream().map(mapper::mapToRoleReadOnlyDTO).collect(Collectors.toList());
     }
 }
@@ -1,43 +1,74 @@
 package gr.aueb.cf.projectmanagementapp.service;
 
 import gr.aueb.cf.projectmanagementapp.authentication.AuthenticationService;
+import gr.aueb.cf.projectmanagementapp.authentication.PrincipalCache;
+import gr.aueb.cf.projectmanagementapp.core.MetricsConfig;
 import gr.aueb.cf.projectmanagementapp.core.exceptions.AppObjectAlreadyExistsException;
+import gr.aueb.cf.projectmanagementapp.core.exceptions.AppObjectInvalidArgumentException;
 import gr.aueb.cf.projectmanagementapp.core.exceptions.AppObjectNotAuthorizedException;
 import gr.aueb.cf.projectmanagementapp.core.exceptions.AppObjectNotFoundException;
+import gr.aueb.cf.projectmanagementapp.core.filters.KeysetCursor;
 import gr.aueb.cf.projectmanagementapp.core.filters.UserFilters;
+import gr.aueb.cf.projectmanagementapp.core.search.TicketSearchIndex;
+import gr.aueb.cf.projectmanagementapp.core.specifications.KeysetSpecification;
 import gr.aueb.cf.projectmanagementapp.core.specifications.UserSpecification;
 import gr.aueb.cf.projectmanagementapp.dto.*;
 import gr.aueb.cf.projectmanagementapp.mapper.Mapper;
 import gr.aueb.cf.projectmanagementapp.model.User;
 import gr.aueb.cf.projectmanagementapp.model.VerificationToken;
+import gr.aueb.cf.projectmanagementapp.repository.ReadOnlyProjections;
+import gr.aueb.cf.projectmanagementapp.repository.SpecificationQueryExecutor;
+import gr.aueb.cf.projectmanagementapp.repository.TicketRepository;
 import gr.aueb.cf.projectmanagementapp.repository.UserRepository;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
-import java.util.stream.Collectors;
 
 @Service
+@Timed(MetricsConfig.SERVICE_TIMER)
 @RequiredArgsConstructor
 public class UserService implements IUserService {
     private final UserRepository userRepository;
     private final AuthenticationService authenticationService;
+    private final PrincipalCache principalCache;
+    private final TicketRepository ticketRepository;
+    private final TicketSearchIndex ticketSearchIndex;
+    private final SpecificationQueryExecutor specificationQueryExecutor;
     private final Mapper mapper;
 
 
+    @Transactional(readOnly = true)
     @Override
     public List<UserReadOnlyDTO> findAllUsers() {
-        return userRepository.findAll().stream().map(mapper::mapToUserReadOnlyDTO).collect(Collectors.toList());
+        return specificationQueryExecutor.findAll(User.class, UserReadOnlyDTO.class, (root, query, builder) -> null, Sort.unsorted(), ReadOnlyProjections.USER);
     }
 
     @Override
     public Paginated<UserReadOnlyDTO> findUsersFilteredPaginated(UserFiltersDTO filters) {
         UserFilters userFilters = mapper.mapToUserFilters(filters);
-        var filtered = userRepository.findAll(getSpecsFromFilters(userFilters), userFilters.getPageable());
-        return new Paginated<>(filtered.map(mapper::mapToUserReadOnlyDTO));
+        Specification<User> spec = getSpecsFromFilters(userFilters);
+        if (!userFilters.isCountRequested()) {
+            return new Paginated<>(specificationQueryExecutor.findSlice(User.class, UserReadOnlyDTO.class, spec, userFilters.getPageable(), ReadOnlyProjections.USER));
+        }
+        return new Paginated<>(specificationQueryExecutor.findPage(User.class, UserReadOnlyDTO.class, spec, userFilters.getPageable(), userFilters.getCountKey(), ReadOnlyProjections.USER));
+    }
+
+    @Transactional(readOnly = true)
+    @Override
+    public CursorPaginated<UserReadOnlyDTO> findUsersFilteredCursor(UserFiltersDTO filters) throws AppObjectInvalidArgumentException {
+        UserFilters userFilters = mapper.mapToUserFilters(filters);
+        KeysetCursor.requireSortable(ReadOnlyProjections.USER_SORT_FIELDS, userFilters.getSortField());
+        KeysetCursor cursor = KeysetCursor.decode(userFilters.getCursor(), userFilters.getSortField(), userFilters.getSortDirection());
+        Specification<User> spec = getSpecsFromFilters(userFilters).and(KeysetSpecification.after(cursor));
+        List<UserReadOnlyDTO> rows = specificationQueryExecutor.findFirst(User.class, UserReadOnlyDTO.class, spec,
+                userFilters.getKeysetSort(), userFilters.getPageSize() + 1, ReadOnlyProjections.USER);
+        return CursorPaginated.of(rows, userFilters);
     }
 
     @Transactional
@@ -92,7 +123,9 @@ public class UserService implements IUserService {
         if (user.isEmpty()) {
             throw new AppObjectNotFoundException("User", "User with username " + username + " not found");
         }
+        removeTickets(user.get());
         userRepository.delete(user.get());
+        principalCache.evict(username);
     }
 
     @Transactional
@@ -102,6 +135,7 @@ public class UserService implements IUserService {
         User updatedUser = mapper.mapToUser(updateDTO, user);
         updatedUser.clearPasswordResetToken();
         userRepository.save(updatedUser);
+        principalCache.evict(updatedUser.getUsername());
     }
 
     @Transactional
@@ -110,6 +144,7 @@ public class UserService implements IUserService {
         user.verifyAccount();
         user.clearVerificationToken();
         userRepository.save(user);
+        principalCache.evict(user.getUsername());
     }
 
     @Transactional(rollbackFor = {AppObjectAlreadyExistsException.class, AppObjectNotFoundException.class})
@@ -120,8 +155,10 @@ public class UserService implements IUserService {
         if (optionalUser.isPresent() && !optionalUser.get().getUuid().equals(fetchedUser.getUuid())) {
             throw new AppObjectAlreadyExistsException("User", "User with username " + dto.username() + " already exists");
         }
+        principalCache.evict(fetchedUser.getUsername());
         User toUpdate = mapper.mapToUser(dto, fetchedUser);
         User updatedUser = userRepository.save(toUpdate);
+        principalCache.evict(updatedUser.getUsername());
         return mapper.mapToUserReadOnlyDTO(updatedUser);
     }
 
@@ -131,6 +168,7 @@ public class UserService implements IUserService {
         User fetchedUser = userRepository.findByUuid(uuid).orElseThrow(() -> new AppObjectNotFoundException("User", "User with username " + uuid + " not found"));
         User toUpdate = mapper.mapToUser(dto, fetchedUser);
         User updatedUser = userRepository.save(toUpdate);
+        principalCache.evict(updatedUser.getUsername());
         return mapper.mapToUserReadOnlyDTO(updatedUser);
     }
 
@@ -145,6 +183,7 @@ public class UserService implements IUserService {
         UserUpdateDTO updateDTO = new UserUpdateDTO(dto.newPassword());
         User updatedUser = mapper.mapToUser(updateDTO, user);
         userRepository.save(updatedUser);
+        principalCache.evict(updatedUser.getUsername());
     }
 
     @Transactional
@@ -154,10 +193,19 @@ public class UserService implements IUserService {
         if (user.isEmpty()) {
             throw new AppObjectNotFoundException("User", "User with uuid " + uuid + " not found");
         }
+        removeTickets(user.get());
         userRepository.delete(user.get());
+        principalCache.evict(user.get().getUsername());
+    }
+
+    /**
+     * Removing a user cascades to their projects and tickets, which the search index has to drop as well.
+     */
+    private void removeTickets(User user) {
+        ticketSearchIndex.removeAll(ticketRepository.findIdsByProjectOwnerIdIn(List.of(user.getId())));
     }
 
-    private Specification<User> getSpecsFromFilters(UserFilters filters) {
+    static Specification<User> getSpecsFromFilters(UserFilters filters) {
         Specification<User> spec = (root, query, builder) -> null;
         if (filters.getUuid() != null) {
             spec = spec.and(UserSpecification.usersFieldLike("uuid", filters.getUuid()));
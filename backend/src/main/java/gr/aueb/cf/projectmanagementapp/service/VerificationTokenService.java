@@ -1,10 +1,13 @@
 package gr.aueb.cf.projectmanagementapp.service;
 
+import gr.aueb.cf.projectmanagementapp.core.MetricsConfig;
 import gr.aueb.cf.projectmanagementapp.core.exceptions.AppObjectNotFoundException;
 import gr.aueb.cf.projectmanagementapp.model.User;
 import gr.aueb.cf.projectmanagementapp.model.VerificationToken;
 import gr.aueb.cf.projectmanagementapp.repository.VerificationTokenRepository;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -12,6 +15,7 @@ import java.time.LocalDateTime;
 import java.util.List;
 
 @Service
+@Timed(MetricsConfig.SERVICE_TIMER)
 @RequiredArgsConstructor
 public class VerificationTokenService {
     private static final int TOKEN_EXPIRATION_HOURS = 24;
@@ -33,6 +37,14 @@ public class VerificationTokenService {
         return verificationTokenRepository.findByCreatedAtBefore(LocalDateTime.now().minusHours(TOKEN_EXPIRATION_HOURS));
     }
 
+    /**
+     * Ids of at most {@code limit} users whose verification token has expired, oldest token first.
+     */
+    @Transactional(readOnly = true)
+    public List<Long> findUserIdsWithExpiredTokens(int limit) {
+        return verificationTokenRepository.findUserIdsByCreatedAtBefore(LocalDateTime.now().minusHours(TOKEN_EXPIRATION_HOURS), PageRequest.of(0, limit));
+    }
+
     @Transactional
     public void deleteToken(VerificationToken token) {
         verificationTokenRepository.delete(token);
@@ -0,0 +1,123 @@
+package gr.aueb.cf.projectmanagementapp.authentication;
+
+import gr.aueb.cf.projectmanagementapp.core.exceptions.AppObjectNotAuthorizedException;
+import gr.aueb.cf.projectmanagementapp.dto.AuthenticationRequestDTO;
+import gr.aueb.cf.projectmanagementapp.model.User;
+import gr.aueb.cf.projectmanagementapp.repository.UserRepository;
+import gr.aueb.cf.projectmanagementapp.security.JwtService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AuthenticationServiceTest {
+
+    @Mock
+    private JwtService jwtService;
+
+    @Mock
+    private AuthenticationManager authenticationManager;
+
+    @Mock
+    private UserRepository userRepository;
+
+    private LoginAttemptTracker loginAttemptTracker;
+    private AuthenticationService authenticationService;
+    private User user;
+    private final AuthenticationRequestDTO request = new AuthenticationRequestDTO("user@mail.com", "wrong");
+
+    @BeforeEach
+    void setUp() {
+        loginAttemptTracker = new LoginAttemptTracker(Duration.ofMinutes(15), 100);
+        authenticationService = new AuthenticationService(jwtService, authenticationManager, userRepository, loginAttemptTracker);
+        user = User.builder()
+                .uuid("user-uuid")
+                .username("user@mail.com")
+                .accountNonLocked(true)
+                .loginConsecutiveFailAttempts(0)
+                .build();
+        when(userRepository.findByUsername("user@mail.com")).thenReturn(Optional.of(user));
+    }
+
+    @Test
+    void testFailedLoginShouldNotWriteUserRowBeforeLock() {
+        when(authenticationManager.authenticate(any())).thenThrow(new BadCredentialsException("Bad credentials"));
+
+        for (int i = 0; i < 4; i++) {
+            assertThrows(AppObjectNotAuthorizedException.class, () -> authenticationService.authenticate(request));
+        }
+
+        verify(userRepository, never()).save(any());
+        assertEquals(4, loginAttemptTracker.getFailures("user@mail.com"));
+        assertTrue(user.isAccountNonLocked());
+    }
+
+    @Test
+    void testFifthFailedLoginShouldLockAndPersistOnce() {
+        when(authenticationManager.authenticate(any())).thenThrow(new BadCredentialsException("Bad credentials"));
+
+        for (int i = 0; i < 5; i++) {
+            assertThrows(AppObjectNotAuthorizedException.class, () -> authenticationService.authenticate(request));
+        }
+
+        verify(userRepository, times(1)).save(user);
+        assertFalse(user.isAccountNonLocked());
+        assertEquals(5, user.getLoginConsecutiveFailAttempts());
+        assertEquals(0, loginAttemptTracker.getFailures("user@mail.com"));
+    }
+
+    @Test
+    void testSuccessfulLoginWithNoFailuresShouldSkipReset() throws AppObjectNotAuthorizedException {
+        when(authenticationManager.authenticate(any()))
+                .thenReturn(new UsernamePasswordAuthenticationToken("user@mail.com", null, List.of()));
+        when(jwtService.generateToken("user@mail.com", "user-uuid")).thenReturn("jwt");
+
+        assertEquals("jwt", authenticationService.authenticate(request).token());
+
+        verify(userRepository, never()).save(any());
+    }
+
+    @Test
+    void testSuccessfulLoginAfterFailuresShouldClearCounterWithoutWrite() throws AppObjectNotAuthorizedException {
+        loginAttemptTracker.recordFailure("user@mail.com", 0);
+        when(authenticationManager.authenticate(any()))
+                .thenReturn(new UsernamePasswordAuthenticationToken("user@mail.com", null, List.of()));
+        when(jwtService.generateToken("user@mail.com", "user-uuid")).thenReturn("jwt");
+
+        authenticationService.authenticate(request);
+
+        verify(userRepository, never()).save(any());
+        assertEquals(0, loginAttemptTracker.getFailures("user@mail.com"));
+    }
+
+    @Test
+    void testLoginAfterLockExpiredShouldPersistUnlock() throws AppObjectNotAuthorizedException {
+        user.lockAccount();
+        user.setLockTime(LocalDateTime.now().minusMinutes(11));
+        user.setLoginConsecutiveFailAttempts(5);
+        when(authenticationManager.authenticate(any()))
+                .thenReturn(new UsernamePasswordAuthenticationToken("user@mail.com", null, List.of()));
+        when(jwtService.generateToken("user@mail.com", "user-uuid")).thenReturn("jwt");
+
+        authenticationService.authenticate(request);
+
+        // Only the unlock is written; the counter is already 0 afterwards
+        verify(userRepository, times(1)).save(user);
+        assertTrue(user.isAccountNonLocked());
+        assertEquals(0, user.getLoginConsecutiveFailAttempts());
+    }
+}
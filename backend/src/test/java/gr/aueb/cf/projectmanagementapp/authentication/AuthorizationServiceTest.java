@@ -0,0 +1,71 @@
+package gr.aueb.cf.projectmanagementapp.authentication;
+
+import gr.aueb.cf.projectmanagementapp.core.enums.Action;
+import gr.aueb.cf.projectmanagementapp.core.enums.Resource;
+import gr.aueb.cf.projectmanagementapp.model.Role;
+import gr.aueb.cf.projectmanagementapp.model.User;
+import gr.aueb.cf.projectmanagementapp.model.static_data.Permission;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AuthorizationServiceTest {
+
+    private AuthorizationService authorizationService;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        authorizationService = new AuthorizationService();
+        Role role = new Role(1L, "Reader", new HashSet<>(), new HashSet<>());
+        role.addPermission(new Permission(1L, "READ_USER", Resource.USER, Action.READ, new HashSet<>()));
+        role.addPermission(new Permission(2L, "DELETE_TICKET", Resource.TICKET, Action.DELETE, new HashSet<>()));
+        user = User.builder().uuid("user-uuid").build();
+        user.addRole(role);
+    }
+
+    @Test
+    void testHasAuthorityWhenPermissionGrantedShouldReturnTrue() {
+        assertTrue(authorizationService.hasAuthority(user, "READ_USER"));
+        assertTrue(authorizationService.hasAuthority(user, "DELETE_TICKET"));
+    }
+
+    @Test
+    void testHasAuthorityWhenPermissionMissingShouldReturnFalse() {
+        assertFalse(authorizationService.hasAuthority(user, "UPDATE_USER"));
+        assertFalse(authorizationService.hasAuthority(user, "READ_TICKET"));
+    }
+
+    @Test
+    void testHasAuthorityWhenAuthorityUnknownShouldReturnFalse() {
+        assertFalse(authorizationService.hasAuthority(user, "ARCHIVE_PROJECT"));
+        assertFalse(authorizationService.hasAuthority(user, null));
+    }
+
+    @Test
+    void testHasAuthorityWhenUserHasNoRolesShouldReturnFalse() {
+        User withoutRoles = User.builder().uuid("other-uuid").build();
+
+        assertFalse(authorizationService.hasAuthority(withoutRoles, "READ_USER"));
+    }
+
+    @Test
+    void testHasAuthorityShouldAgreeWithGrantedAuthorities() {
+        for (Resource resource : Resource.values()) {
+            for (Action action : Action.values()) {
+                String authority = action.name() + "_" + resource.name();
+                boolean expected = user.getAuthorities().stream().anyMatch(a -> authority.equals(a.getAuthority()));
+                assertEquals(expected, authorizationService.hasAuthority(user, authority), authority);
+            }
+        }
+    }
+
+    @Test
+    void testHasOwnershipShouldCompareUuids() {
+        assertTrue(authorizationService.hasOwnership(user, "user-uuid"));
+        assertFalse(authorizationService.hasOwnership(user, "other-uuid"));
+    }
+}
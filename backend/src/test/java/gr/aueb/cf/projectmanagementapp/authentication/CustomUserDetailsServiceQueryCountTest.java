@@ -0,0 +1,75 @@
+package gr.aueb.cf.projectmanagementapp.authentication;
+
+import gr.aueb.cf.projectmanagementapp.core.enums.Action;
+import gr.aueb.cf.projectmanagementapp.core.enums.Resource;
+import gr.aueb.cf.projectmanagementapp.model.Role;
+import gr.aueb.cf.projectmanagementapp.model.User;
+import gr.aueb.cf.projectmanagementapp.model.static_data.Permission;
+import gr.aueb.cf.projectmanagementapp.querycount.QueryCountTest;
+import gr.aueb.cf.projectmanagementapp.querycount.QueryCounter;
+import gr.aueb.cf.projectmanagementapp.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static gr.aueb.cf.projectmanagementapp.querycount.QueryCountFixtures.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+@QueryCountTest
+@Import(CustomUserDetailsService.class)
+class CustomUserDetailsServiceQueryCountTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private QueryCounter queryCounter;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CustomUserDetailsService customUserDetailsService;
+
+    @BeforeEach
+    void setUp() {
+        Permission readUser = permission(entityManager, Action.READ, Resource.USER);
+        Permission readTicket = permission(entityManager, Action.READ, Resource.TICKET);
+        Role admin = role(entityManager, "ADMIN", readUser, readTicket);
+        Role member = role(entityManager, "MEMBER", readTicket);
+        user(entityManager, "alice", admin, member);
+        startCounting(entityManager, queryCounter);
+    }
+
+    @Test
+    void testLoadUserByUsernameShouldFetchRolesAndPermissionsInOneSelect() {
+        UserDetails userDetails = customUserDetailsService.loadUserByUsername("alice");
+
+        assertEquals(1, queryCounter.count(QueryCounter.Type.SELECT, "users_roles"));
+        assertEquals(1, queryCounter.count(QueryCounter.Type.SELECT, "roles_permissions"));
+
+        queryCounter.reset();
+        Set<String> authorities = userDetails.getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority)
+                .collect(Collectors.toSet());
+
+        assertEquals(Set.of("READ_USER", "READ_TICKET"), authorities);
+        assertTrue(queryCounter.getStatements().isEmpty());
+    }
+
+    @Test
+    void testFindByUsernameShouldNotLoadRoles() {
+        User user = userRepository.findByUsername("alice").orElseThrow();
+
+        assertEquals(0, queryCounter.count(QueryCounter.Type.SELECT, "users_roles"));
+        assertFalse(entityManager.getEntityManager().getEntityManagerFactory()
+                .getPersistenceUnitUtil().isLoaded(user, "roles"));
+    }
+}
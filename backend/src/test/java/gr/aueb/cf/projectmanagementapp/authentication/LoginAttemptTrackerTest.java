@@ -0,0 +1,68 @@
+package gr.aueb.cf.projectmanagementapp.authentication;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LoginAttemptTrackerTest {
+
+    private final AtomicLong nanos = new AtomicLong();
+    private LoginAttemptTracker tracker;
+
+    @BeforeEach
+    void setUp() {
+        tracker = new LoginAttemptTracker(Duration.ofMinutes(15), 100, nanos::get);
+    }
+
+    @Test
+    void testRecordFailureShouldCountConsecutiveFailures() {
+        assertEquals(1, tracker.recordFailure("user@mail.com", 0));
+        assertEquals(2, tracker.recordFailure("user@mail.com", 0));
+        assertEquals(0, tracker.getFailures("other@mail.com"));
+    }
+
+    @Test
+    void testRecordFailureShouldStartFromPersistedAttempts() {
+        assertEquals(3, tracker.recordFailure("user@mail.com", 2));
+        assertEquals(4, tracker.recordFailure("user@mail.com", 2));
+        assertEquals(1, tracker.recordFailure("new@mail.com", null));
+    }
+
+    @Test
+    void testFailuresShouldDecayAfterWindow() {
+        tracker.recordFailure("user@mail.com", 0);
+        tracker.recordFailure("user@mail.com", 0);
+
+        nanos.addAndGet(Duration.ofMinutes(16).toNanos());
+
+        assertEquals(0, tracker.getFailures("user@mail.com"));
+        assertEquals(1, tracker.recordFailure("user@mail.com", 0));
+    }
+
+    @Test
+    void testResetShouldClearCounter() {
+        tracker.recordFailure("user@mail.com", 0);
+        tracker.reset("user@mail.com");
+
+        assertEquals(0, tracker.getFailures("user@mail.com"));
+    }
+
+    @Test
+    void testConcurrentFailuresShouldAllBeCounted() throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        for (int i = 0; i < 1000; i++) {
+            executor.submit(() -> tracker.recordFailure("user@mail.com", 0));
+        }
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+
+        assertEquals(1000, tracker.getFailures("user@mail.com"));
+    }
+}
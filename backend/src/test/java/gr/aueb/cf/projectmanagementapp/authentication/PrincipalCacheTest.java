@@ -0,0 +1,69 @@
+package gr.aueb.cf.projectmanagementapp.authentication;
+
+import gr.aueb.cf.projectmanagementapp.model.User;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PrincipalCacheTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private PrincipalCache principalCache;
+    private AtomicInteger loads;
+    private Function<String, User> loader;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        principalCache = new PrincipalCache(Duration.ofMinutes(1), 100, meterRegistry);
+        loads = new AtomicInteger();
+        loader = username -> {
+            loads.incrementAndGet();
+            return User.builder().username(username).build();
+        };
+    }
+
+    @Test
+    void testGetShouldLoadOnceAndServeFromCache() {
+        User first = principalCache.get("user@mail.com", loader);
+        User second = principalCache.get("user@mail.com", loader);
+
+        assertSame(first, second);
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void testEvictShouldForceReload() {
+        principalCache.get("user@mail.com", loader);
+        principalCache.evict("user@mail.com");
+        principalCache.get("user@mail.com", loader);
+
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void testEvictAllShouldForceReloadOfEveryUser() {
+        principalCache.get("first@mail.com", loader);
+        principalCache.get("second@mail.com", loader);
+        principalCache.evictAll();
+        principalCache.get("first@mail.com", loader);
+        principalCache.get("second@mail.com", loader);
+
+        assertEquals(4, loads.get());
+    }
+
+    @Test
+    void testHitAndMissMetricsShouldBeRegistered() {
+        principalCache.get("user@mail.com", loader);
+        principalCache.get("user@mail.com", loader);
+
+        assertEquals(1.0, meterRegistry.get("cache.gets").tag("cache", "principals").tag("result", "hit").functionCounter().count());
+        assertEquals(1.0, meterRegistry.get("cache.gets").tag("cache", "principals").tag("result", "miss").functionCounter().count());
+    }
+}
@@ -0,0 +1,47 @@
+package gr.aueb.cf.projectmanagementapp.core;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class IdGeneratorInitializerTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @InjectMocks
+    private IdGeneratorInitializer idGeneratorInitializer;
+
+    @Test
+    void testAfterSingletonsInstantiatedWhenRowMissingShouldInsertMaxIdPlusOne() {
+        when(jdbcTemplate.queryForObject(startsWith("SELECT COALESCE(MAX(id), 0) + 1 FROM "), eq(Long.class))).thenReturn(42L);
+        when(jdbcTemplate.queryForObject(startsWith("SELECT COUNT(*) FROM id_generators"), eq(Integer.class), anyString())).thenReturn(0);
+
+        idGeneratorInitializer.afterSingletonsInstantiated();
+
+        for (String table : IdGeneratorInitializer.TABLES) {
+            verify(jdbcTemplate).update(startsWith("INSERT INTO id_generators"), eq(table), eq(42L));
+        }
+        verify(jdbcTemplate, never()).update(startsWith("UPDATE"), any(), any(), any());
+    }
+
+    @Test
+    void testAfterSingletonsInstantiatedWhenRowExistsShouldOnlyMoveItForward() {
+        when(jdbcTemplate.queryForObject(startsWith("SELECT COALESCE(MAX(id), 0) + 1 FROM "), eq(Long.class))).thenReturn(7L);
+        when(jdbcTemplate.queryForObject(startsWith("SELECT COUNT(*) FROM id_generators"), eq(Integer.class), anyString())).thenReturn(1);
+
+        idGeneratorInitializer.afterSingletonsInstantiated();
+
+        for (String table : IdGeneratorInitializer.TABLES) {
+            verify(jdbcTemplate).update(contains("next_val < ?"), eq(7L), eq(table), eq(7L));
+        }
+        verify(jdbcTemplate, never()).update(startsWith("INSERT"), any(), any());
+    }
+}
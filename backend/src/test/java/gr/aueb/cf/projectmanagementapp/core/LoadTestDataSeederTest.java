@@ -0,0 +1,112 @@
+package gr.aueb.cf.projectmanagementapp.core;
+
+import gr.aueb.cf.projectmanagementapp.core.enums.Action;
+import gr.aueb.cf.projectmanagementapp.core.enums.Resource;
+import gr.aueb.cf.projectmanagementapp.core.search.TicketSearchIndexInitializer;
+import gr.aueb.cf.projectmanagementapp.model.Project;
+import gr.aueb.cf.projectmanagementapp.model.Role;
+import gr.aueb.cf.projectmanagementapp.model.Ticket;
+import gr.aueb.cf.projectmanagementapp.model.User;
+import gr.aueb.cf.projectmanagementapp.model.static_data.Permission;
+import gr.aueb.cf.projectmanagementapp.repository.PermissionRepository;
+import gr.aueb.cf.projectmanagementapp.repository.RoleRepository;
+import gr.aueb.cf.projectmanagementapp.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class LoadTestDataSeederTest {
+    private static final int USERS = 150;
+    private static final int PROJECTS_PER_USER = 2;
+    private static final int TICKETS_PER_PROJECT = 3;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private PermissionRepository permissionRepository;
+
+    @Mock
+    private RoleRepository roleRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private PasswordEncoder passwordEncoder;
+
+    @Mock
+    private TicketSearchIndexInitializer ticketSearchIndexInitializer;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private LoadTestDataSeeder seeder;
+
+    @BeforeEach
+    void setUp() {
+        seeder = new LoadTestDataSeeder(entityManager, permissionRepository, roleRepository, userRepository,
+                passwordEncoder, ticketSearchIndexInitializer, transactionManager,
+                USERS, PROJECTS_PER_USER, TICKETS_PER_PROJECT, "aA!12345");
+    }
+
+    @Test
+    void testSeedShouldPersistUsersProjectsAndTicketsInChunks() {
+        Permission readProject = new Permission(1L, "READ_PROJECT", Resource.PROJECT, Action.READ, new HashSet<>());
+        Role role = new Role(7L, LoadTestDataSeeder.ROLE_NAME, new HashSet<>(), new HashSet<>());
+        when(userRepository.findByUsername(LoadTestDataSeeder.username(0))).thenReturn(Optional.empty());
+        when(permissionRepository.findByNameIn(LoadTestDataSeeder.PERMISSIONS)).thenReturn(Set.of(readProject));
+        when(roleRepository.save(any(Role.class))).thenReturn(role);
+        when(passwordEncoder.encode("aA!12345")).thenReturn("encoded");
+        when(entityManager.find(Role.class, 7L)).thenReturn(role);
+
+        seeder.seed();
+
+        ArgumentCaptor<Object> persisted = ArgumentCaptor.forClass(Object.class);
+        verify(entityManager, times(USERS * (1 + PROJECTS_PER_USER + PROJECTS_PER_USER * TICKETS_PER_PROJECT)))
+                .persist(persisted.capture());
+        List<User> users = persisted.getAllValues().stream()
+                .filter(User.class::isInstance).map(User.class::cast).toList();
+        assertEquals(USERS, users.size());
+        assertEquals(USERS * PROJECTS_PER_USER, persisted.getAllValues().stream().filter(Project.class::isInstance).count());
+        assertEquals(USERS * PROJECTS_PER_USER * TICKETS_PER_PROJECT, persisted.getAllValues().stream().filter(Ticket.class::isInstance).count());
+
+        User first = users.getFirst();
+        assertEquals(LoadTestDataSeeder.username(0), first.getUsername());
+        assertEquals("encoded", first.getPassword());
+        assertTrue(first.getEnabled());
+        assertTrue(first.getVerified());
+        assertEquals(USERS, role.getAllUsers().size());
+
+        // 150 users in chunks of 100
+        verify(entityManager, times(2)).flush();
+        verify(entityManager, times(2)).clear();
+        verify(passwordEncoder, times(1)).encode(any());
+        verify(ticketSearchIndexInitializer).rebuild();
+    }
+
+    @Test
+    void testSeedShouldSkipWhenUsersAlreadyExist() {
+        when(userRepository.findByUsername(LoadTestDataSeeder.username(0))).thenReturn(Optional.of(new User()));
+
+        seeder.seed();
+
+        verifyNoInteractions(entityManager, roleRepository, passwordEncoder, ticketSearchIndexInitializer);
+    }
+}
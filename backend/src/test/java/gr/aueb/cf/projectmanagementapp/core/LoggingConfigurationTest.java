@@ -0,0 +1,62 @@
+package gr.aueb.cf.projectmanagementapp.core;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.filter.Filter;
+import ch.qos.logback.core.spi.FilterReply;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.logging.LoggingInitializationContext;
+import org.springframework.boot.logging.logback.LogbackLoggingSystem;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LoggingConfigurationTest {
+
+    private LogbackLoggingSystem loggingSystem;
+
+    @BeforeEach
+    void setUp() {
+        loggingSystem = new LogbackLoggingSystem(getClass().getClassLoader());
+        loggingSystem.beforeInitialize();
+        loggingSystem.initialize(new LoggingInitializationContext(new MockEnvironment()), "classpath:logback-spring.xml", null);
+    }
+
+    @AfterEach
+    void tearDown() {
+        loggingSystem.cleanUp();
+    }
+
+    @Test
+    void testErrorQueueShouldOnlyAcceptErrorEvents() {
+        LoggerContext context = (LoggerContext) LoggerFactory.getILoggerFactory();
+        AsyncAppender asyncErrors = (AsyncAppender) context.getLogger(Logger.ROOT_LOGGER_NAME).getAppender("AsyncErrors");
+        assertNotNull(asyncErrors);
+
+        // Runs after the configured filters, so it sees exactly the events the appender goes on to queue
+        List<Level> queued = new CopyOnWriteArrayList<>();
+        asyncErrors.addFilter(new Filter<>() {
+            @Override
+            public FilterReply decide(ILoggingEvent event) {
+                queued.add(event.getLevel());
+                return FilterReply.NEUTRAL;
+            }
+        });
+
+        Logger logger = context.getLogger(LoggingConfigurationTest.class);
+        for (int i = 0; i < 200; i++) logger.info("Burst {}", i);
+        logger.warn("Warning");
+        logger.error("Failure");
+
+        assertEquals(List.of(Level.ERROR), queued);
+    }
+}
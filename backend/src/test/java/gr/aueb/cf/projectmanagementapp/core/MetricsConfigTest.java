@@ -0,0 +1,68 @@
+package gr.aueb.cf.projectmanagementapp.core;
+
+import gr.aueb.cf.projectmanagementapp.authentication.AuthorizationService;
+import gr.aueb.cf.projectmanagementapp.model.User;
+import gr.aueb.cf.projectmanagementapp.security.JwtService;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.prometheusmetrics.PrometheusConfig;
+import io.micrometer.prometheusmetrics.PrometheusMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MetricsConfigTest {
+    private static final String SECRET = "5ce98d378ec88ea09ba8bcd511ef23645f04cc8e70b9134b98723a53c275bbc5";
+
+    private final MetricsConfig metricsConfig = new MetricsConfig();
+
+    private PrometheusMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new PrometheusMeterRegistry(PrometheusConfig.DEFAULT);
+        meterRegistry.config().meterFilter(metricsConfig.latencyHistograms());
+    }
+
+    @Test
+    void testTimedServiceShouldExportHistogramPerMethod() {
+        AspectJProxyFactory factory = new AspectJProxyFactory(new AuthorizationService());
+        factory.addAspect(metricsConfig.timedAspect(meterRegistry));
+        AuthorizationService authorizationService = factory.getProxy();
+
+        authorizationService.hasOwnership(User.builder().uuid("user-uuid").build(), "user-uuid");
+
+        assertEquals(1, meterRegistry.get(MetricsConfig.AUTHORIZATION_TIMER)
+                .tag("class", AuthorizationService.class.getName())
+                .tag("method", "hasOwnership")
+                .timer().count());
+        String scrape = meterRegistry.scrape();
+        assertTrue(scrape.contains("authorization_check_seconds_bucket{"), scrape);
+        assertTrue(scrape.contains("method=\"hasOwnership\""), scrape);
+    }
+
+    @Test
+    void testRequestAndPoolTimersShouldExportHistograms() {
+        Timer.builder("http.server.requests").tag("uri", "/api/v1/users").register(meterRegistry).record(() -> {});
+        Timer.builder("hikaricp.connections.acquire").register(meterRegistry).record(() -> {});
+        Timer.builder("other.timer").register(meterRegistry).record(() -> {});
+
+        String scrape = meterRegistry.scrape();
+        assertTrue(scrape.contains("http_server_requests_seconds_bucket{"), scrape);
+        assertTrue(scrape.contains("hikaricp_connections_acquire_seconds_bucket{"), scrape);
+        assertTrue(scrape.contains("other_timer_seconds_count"), scrape);
+        assertFalse(scrape.contains("other_timer_seconds_bucket"), scrape);
+    }
+
+    @Test
+    void testJwtParsingShouldExportHistogram() {
+        JwtService jwtService = new JwtService(SECRET, meterRegistry);
+
+        jwtService.parseClaims(jwtService.generateToken("user@mail.com", "user-uuid"));
+
+        String scrape = meterRegistry.scrape();
+        assertTrue(scrape.contains("jwt_parse_seconds_bucket{"), scrape);
+        assertTrue(scrape.contains("outcome=\"valid\""), scrape);
+    }
+}
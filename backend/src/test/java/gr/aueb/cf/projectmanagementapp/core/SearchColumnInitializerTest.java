@@ -0,0 +1,31 @@
+package gr.aueb.cf.projectmanagementapp.core;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SearchColumnInitializerTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @InjectMocks
+    private SearchColumnInitializer searchColumnInitializer;
+
+    @Test
+    void testAfterSingletonsInstantiatedShouldOnlyFillMissingSearchValues() {
+        searchColumnInitializer.afterSingletonsInstantiated();
+
+        verify(jdbcTemplate).update("UPDATE users SET username_search = LOWER(username) WHERE username_search IS NULL AND username IS NOT NULL");
+        verify(jdbcTemplate).update("UPDATE users SET lastname_search = LOWER(lastname) WHERE lastname_search IS NULL AND lastname IS NOT NULL");
+        verify(jdbcTemplate).update("UPDATE projects SET name_search = LOWER(name) WHERE name_search IS NULL AND name IS NOT NULL");
+        verify(jdbcTemplate).update("UPDATE tickets SET title_search = LOWER(title) WHERE title_search IS NULL AND title IS NOT NULL");
+        verifyNoMoreInteractions(jdbcTemplate);
+    }
+}
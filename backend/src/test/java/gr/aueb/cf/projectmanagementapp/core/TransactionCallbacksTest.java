@@ -0,0 +1,49 @@
+package gr.aueb.cf.projectmanagementapp.core;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TransactionCallbacksTest {
+
+    private final AtomicInteger runs = new AtomicInteger();
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) TransactionSynchronizationManager.clearSynchronization();
+    }
+
+    @Test
+    void testAfterCommitOutsideTransactionShouldRunImmediately() {
+        TransactionCallbacks.afterCommit(runs::incrementAndGet);
+
+        assertEquals(1, runs.get());
+    }
+
+    @Test
+    void testAfterCommitShouldWaitForCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+
+        TransactionCallbacks.afterCommit(runs::incrementAndGet);
+        assertEquals(0, runs.get());
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        assertEquals(1, runs.get());
+    }
+
+    @Test
+    void testAfterCommitShouldBeDroppedOnRollback() {
+        TransactionSynchronizationManager.initSynchronization();
+
+        TransactionCallbacks.afterCommit(runs::incrementAndGet);
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+        assertEquals(0, runs.get());
+    }
+}
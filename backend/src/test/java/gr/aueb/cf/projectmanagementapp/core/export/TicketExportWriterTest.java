@@ -0,0 +1,104 @@
+package gr.aueb.cf.projectmanagementapp.core.export;
+
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import gr.aueb.cf.projectmanagementapp.core.exceptions.AppObjectInvalidArgumentException;
+import gr.aueb.cf.projectmanagementapp.dto.TicketReadOnlyDTO;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TicketExportWriterTest {
+
+    private final TicketExportWriter writer = new TicketExportWriter(JsonMapper.builder().findAndAddModules().build());
+
+    private static TicketReadOnlyDTO ticket(long id) {
+        return new TicketReadOnlyDTO(id, "uuid-" + id, "title " + id, "description " + id, "LOW", "OPEN", LocalDate.of(2030, 1, 1));
+    }
+
+    @Test
+    void testWriteNdjsonShouldWriteOneJsonObjectPerLine() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        writer.write(Stream.of(ticket(1), ticket(2)), TicketExportFormat.NDJSON, out);
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(2, lines.length);
+        assertEquals("{\"id\":1,\"uuid\":\"uuid-1\",\"title\":\"title 1\",\"description\":\"description 1\",\"priority\":\"LOW\",\"status\":\"OPEN\",\"expiryDate\":\"2030-01-01\"}", lines[0]);
+    }
+
+    @Test
+    void testWriteCsvShouldWriteHeaderAndEscapeFields() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        TicketReadOnlyDTO ticket = new TicketReadOnlyDTO(7L, "uuid-7", "Fix, then \"ship\"", null, "HIGH", "OPEN", null);
+
+        writer.write(Stream.of(ticket), TicketExportFormat.CSV, out);
+
+        assertEquals("id,uuid,title,description,priority,status,expiryDate\n7,uuid-7,\"Fix, then \"\"ship\"\"\",,HIGH,OPEN,\n",
+                out.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void testWriteShouldFlushRowsBeforeTheStreamIsExhausted() throws IOException {
+        AtomicLong pulled = new AtomicLong();
+        AtomicLong pulledAtFirstFlush = new AtomicLong(-1);
+        OutputStream out = new OutputStream() {
+            @Override
+            public void write(int b) {}
+
+            @Override
+            public void flush() {
+                pulledAtFirstFlush.compareAndSet(-1, pulled.get());
+            }
+        };
+        int total = TicketExportWriter.FLUSH_EVERY * 5;
+
+        writer.write(Stream.iterate(1L, id -> id + 1).limit(total).map(id -> {
+            pulled.incrementAndGet();
+            return ticket(id);
+        }), TicketExportFormat.NDJSON, out);
+
+        assertEquals(TicketExportWriter.FLUSH_EVERY, pulledAtFirstFlush.get());
+        assertEquals(total, pulled.get());
+    }
+
+    @Test
+    void testWriteShouldKeepHeapFlatForLargeExports() throws IOException {
+        AtomicLong bytes = new AtomicLong();
+        OutputStream discarding = new OutputStream() {
+            @Override
+            public void write(int b) {
+                bytes.incrementAndGet();
+            }
+
+            @Override
+            public void write(byte[] b, int off, int len) {
+                bytes.addAndGet(len);
+            }
+        };
+        Runtime runtime = Runtime.getRuntime();
+        System.gc();
+        long before = runtime.totalMemory() - runtime.freeMemory();
+
+        writer.write(Stream.iterate(1L, id -> id + 1).limit(1_000_000).map(TicketExportWriterTest::ticket), TicketExportFormat.CSV, discarding);
+
+        System.gc();
+        long after = runtime.totalMemory() - runtime.freeMemory();
+        // Output is tens of megabytes; retaining it (or the rows) would show up as heap growth of the same order
+        assertTrue(bytes.get() > 40L * 1024 * 1024);
+        assertTrue(after - before < 16L * 1024 * 1024, "Heap grew by " + (after - before) + " bytes");
+    }
+
+    @Test
+    void testFromValueShouldRejectUnknownFormat() {
+        assertEquals(TicketExportFormat.CSV, assertDoesNotThrow(() -> TicketExportFormat.fromValue("CSV")));
+        assertThrows(AppObjectInvalidArgumentException.class, () -> TicketExportFormat.fromValue("xml"));
+    }
+}
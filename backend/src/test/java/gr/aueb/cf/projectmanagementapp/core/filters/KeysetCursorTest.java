@@ -0,0 +1,82 @@
+package gr.aueb.cf.projectmanagementapp.core.filters;
+
+import gr.aueb.cf.projectmanagementapp.core.enums.TicketPriority;
+import gr.aueb.cf.projectmanagementapp.core.exceptions.AppObjectInvalidArgumentException;
+import gr.aueb.cf.projectmanagementapp.dto.TicketReadOnlyDTO;
+import gr.aueb.cf.projectmanagementapp.model.Ticket;
+import gr.aueb.cf.projectmanagementapp.repository.ReadOnlyProjections;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Sort;
+
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class KeysetCursorTest {
+
+    @Test
+    void testEncodeDecodeShouldRoundTripEntityPosition() throws AppObjectInvalidArgumentException {
+        Ticket ticket = Ticket.builder().id(42L).title("title|with|separators").build();
+
+        String token = KeysetCursor.of(ticket, "title", Sort.Direction.DESC).encode();
+        KeysetCursor cursor = KeysetCursor.decode(token, "title", Sort.Direction.DESC);
+
+        assertEquals(42L, cursor.id());
+        assertEquals("title|with|separators", cursor.value());
+    }
+
+    @Test
+    void testOfShouldReadPositionFromReadOnlyDTO() throws AppObjectInvalidArgumentException {
+        TicketReadOnlyDTO ticket = new TicketReadOnlyDTO(42L, "uuid", "title", "description", "HIGH", "OPEN", LocalDate.of(2025, 1, 1));
+
+        KeysetCursor cursor = KeysetCursor.decode(KeysetCursor.of(ticket, "priority", Sort.Direction.ASC).encode(), "priority", Sort.Direction.ASC);
+
+        assertEquals(42L, cursor.id());
+        assertEquals(TicketPriority.HIGH, cursor.typedValue(TicketPriority.class));
+    }
+
+    @Test
+    void testRequireSortableWhenFieldNotInDTOShouldThrowException() {
+        assertDoesNotThrow(() -> KeysetCursor.requireSortable(ReadOnlyProjections.TICKET_SORT_FIELDS, "expiryDate"));
+        assertThrows(AppObjectInvalidArgumentException.class, () -> KeysetCursor.requireSortable(ReadOnlyProjections.TICKET_SORT_FIELDS, "createdAt"));
+    }
+
+    @Test
+    void testRequireSortableWhenDTOFieldIsNotAnEntityAttributeShouldThrowException() {
+        assertDoesNotThrow(() -> KeysetCursor.requireSortable(ReadOnlyProjections.PROJECT_SORT_FIELDS, "name"));
+        assertThrows(AppObjectInvalidArgumentException.class, () -> KeysetCursor.requireSortable(ReadOnlyProjections.PROJECT_SORT_FIELDS, "ownerUuid"));
+        assertThrows(AppObjectInvalidArgumentException.class, () -> KeysetCursor.requireSortable(ReadOnlyProjections.PROJECT_SORT_FIELDS, "deleted"));
+    }
+
+    @Test
+    void testEncodeDecodeShouldKeepNullSortValue() throws AppObjectInvalidArgumentException {
+        Ticket ticket = Ticket.builder().id(7L).build();
+
+        KeysetCursor cursor = KeysetCursor.decode(KeysetCursor.of(ticket, "expiryDate", Sort.Direction.ASC).encode(), "expiryDate", Sort.Direction.ASC);
+
+        assertNull(cursor.value());
+        assertNull(cursor.typedValue(LocalDate.class));
+    }
+
+    @Test
+    void testTypedValueShouldConvertToAttributeType() {
+        assertEquals(TicketPriority.HIGH, new KeysetCursor("priority", Sort.Direction.ASC, "HIGH", 1L).typedValue(TicketPriority.class));
+        assertEquals(LocalDate.of(2025, 1, 1), new KeysetCursor("expiryDate", Sort.Direction.ASC, "2025-01-01", 1L).typedValue(LocalDate.class));
+        assertEquals(5L, new KeysetCursor("id", Sort.Direction.ASC, "5", 1L).typedValue(Long.class));
+    }
+
+    @Test
+    void testDecodeWhenBlankShouldReturnNull() throws AppObjectInvalidArgumentException {
+        assertNull(KeysetCursor.decode(null, "id", Sort.Direction.ASC));
+        assertNull(KeysetCursor.decode(" ", "id", Sort.Direction.ASC));
+    }
+
+    @Test
+    void testDecodeWhenMalformedOrForOtherSortShouldThrowException() {
+        String token = new KeysetCursor("title", Sort.Direction.ASC, "a", 1L).encode();
+
+        assertThrows(AppObjectInvalidArgumentException.class, () -> KeysetCursor.decode("not-a-cursor", "title", Sort.Direction.ASC));
+        assertThrows(AppObjectInvalidArgumentException.class, () -> KeysetCursor.decode(token, "title", Sort.Direction.DESC));
+        assertThrows(AppObjectInvalidArgumentException.class, () -> KeysetCursor.decode(token, "uuid", Sort.Direction.ASC));
+    }
+}
@@ -0,0 +1,156 @@
+package gr.aueb.cf.projectmanagementapp.core.search;
+
+import gr.aueb.cf.projectmanagementapp.core.enums.TicketPriority;
+import gr.aueb.cf.projectmanagementapp.core.enums.TicketStatus;
+import gr.aueb.cf.projectmanagementapp.core.filters.TicketFilters;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TicketSearchIndexTest {
+    private static final String PROJECT = "project-uuid";
+    private static final String OTHER_PROJECT = "other-project-uuid";
+
+    private TicketSearchIndex index;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        index = new TicketSearchIndex(new ByteBuffersDirectory());
+        index.rebuild(Stream.of(
+                ticket(1L, "Login page times out", "Users see a spinner", TicketStatus.OPEN, PROJECT),
+                ticket(2L, "Update footer", "The login link in the footer is broken", TicketStatus.OPEN, PROJECT),
+                ticket(3L, "Login timeout on mobile", "Happens after the timeout of the session", TicketStatus.CLOSED, PROJECT),
+                ticket(4L, "Login page times out", "Same title, other project", TicketStatus.OPEN, OTHER_PROJECT)
+        ));
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        index.close();
+    }
+
+    private static TicketSearchDocument ticket(Long id, String title, String description, TicketStatus status, String projectUuid) {
+        return new TicketSearchDocument(id, "uuid-" + id, title, description, TicketPriority.LOW, status, LocalDate.of(2030, 1, id.intValue()), projectUuid);
+    }
+
+    private static TicketFilters filters(String q) {
+        return TicketFilters.builder().projectUuid(PROJECT).q(q).build();
+    }
+
+    @Test
+    void testSearchShouldRankTitleMatchesFirstAndStayInTheProject() {
+        TicketSearchHits hits = index.search(filters("login"));
+
+        assertEquals(3L, hits.totalHits());
+        assertEquals(List.of(1L, 3L), hits.ids().subList(0, 2).stream().sorted().toList());
+        assertEquals(2L, hits.ids().get(2));
+        assertFalse(hits.hasNext());
+    }
+
+    @Test
+    void testSearchShouldRequireEveryTerm() {
+        TicketSearchHits hits = index.search(filters("LOGIN Timeout"));
+
+        assertEquals(List.of(3L), hits.ids());
+    }
+
+    @Test
+    void testSearchShouldApplyTheOtherFilters() {
+        TicketFilters filters = filters("login");
+        filters.setStatus(List.of("OPEN"));
+        filters.setExpiryDate(LocalDate.of(2030, 1, 1));
+
+        assertEquals(List.of(1L), index.search(filters).ids());
+    }
+
+    @Test
+    void testSearchShouldPageAndReportNextPageWithoutCount() {
+        TicketFilters filters = filters("login");
+        filters.setSize(2);
+        filters.setWithCount(false);
+
+        TicketSearchHits first = index.search(filters);
+        filters.setPage(1);
+        TicketSearchHits second = index.search(filters);
+
+        assertEquals(2, first.ids().size());
+        assertTrue(first.hasNext());
+        assertNull(first.totalHits());
+        assertEquals(List.of(2L), second.ids());
+        assertFalse(second.hasNext());
+    }
+
+    @Test
+    void testSearchWithoutTermsShouldReturnNothing() {
+        TicketSearchHits hits = index.search(filters(" ,. "));
+
+        assertTrue(hits.ids().isEmpty());
+        assertEquals(0L, hits.totalHits());
+    }
+
+    @Test
+    void testSearchPastResultWindowShouldThrowException() {
+        TicketFilters filters = filters("login");
+        filters.setSize(100);
+        filters.setPage(TicketSearchIndex.MAX_RESULT_WINDOW / 100);
+
+        assertThrows(IllegalArgumentException.class, () -> index.search(filters));
+    }
+
+    @Test
+    void testIndexAndRemoveOutsideTransactionShouldApplyImmediately() {
+        index.index(ticket(2L, "Update footer", "Nothing to see here", TicketStatus.OPEN, PROJECT));
+        index.remove(1L);
+        index.index(ticket(5L, "New login flow", "", TicketStatus.OPEN, PROJECT));
+
+        assertEquals(List.of(5L, 3L), index.search(filters("login")).ids());
+    }
+
+    @Test
+    void testRemoveAllShouldApplyAfterCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            index.removeAll(List.of(1L, 3L));
+            assertEquals(3, index.search(filters("login")).ids().size());
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertEquals(List.of(2L), index.search(filters("login")).ids());
+    }
+
+    @Test
+    void testConcurrentWritesShouldBeSearchableOnReturn() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        List<Future<Boolean>> visible = new ArrayList<>();
+        for (long id = 100; id < 500; id++) {
+            long ticketId = id;
+            visible.add(executor.submit(() -> {
+                index.index(new TicketSearchDocument(ticketId, "uuid-" + ticketId, "Concurrent marker" + ticketId, "Written in parallel",
+                        TicketPriority.LOW, TicketStatus.OPEN, LocalDate.of(2030, 1, 1), PROJECT));
+                return index.search(filters("marker" + ticketId)).ids().equals(List.of(ticketId));
+            }));
+        }
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(30, TimeUnit.SECONDS));
+
+        for (Future<Boolean> write : visible) assertTrue(write.get());
+    }
+}
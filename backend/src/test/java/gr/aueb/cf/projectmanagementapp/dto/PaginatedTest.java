@@ -0,0 +1,39 @@
+package gr.aueb.cf.projectmanagementapp.dto;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PaginatedTest {
+
+    @Test
+    void testPageShouldMapCountsAndPosition() {
+        Paginated<String> paginated = new Paginated<>(new PageImpl<>(List.of("a", "b"), PageRequest.of(2, 5), 12));
+
+        assertEquals(List.of("a", "b"), paginated.data());
+        assertEquals(12L, paginated.totalItems());
+        assertEquals(3, paginated.totalPages());
+        assertEquals(2, paginated.numberOfElements());
+        assertEquals(2, paginated.currentPage());
+        assertEquals(5, paginated.pageSize());
+        assertFalse(paginated.hasNext());
+    }
+
+    @Test
+    void testSliceShouldMapPositionWithoutTotals() {
+        Paginated<String> paginated = new Paginated<>(new SliceImpl<>(List.of("a", "b", "c"), PageRequest.of(1, 10), true));
+
+        assertEquals(List.of("a", "b", "c"), paginated.data());
+        assertNull(paginated.totalItems());
+        assertNull(paginated.totalPages());
+        assertEquals(3, paginated.numberOfElements());
+        assertEquals(1, paginated.currentPage());
+        assertEquals(10, paginated.pageSize());
+        assertTrue(paginated.hasNext());
+    }
+}
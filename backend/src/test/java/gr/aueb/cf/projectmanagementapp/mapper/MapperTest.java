@@ -69,6 +69,8 @@ class MapperTest {
                 null,
                 null,
                 null,
+                null,
+                null,
                 null
         );
         UserReadOnlyDTO dto = mapper.mapToUserReadOnlyDTO(user);
@@ -211,7 +213,9 @@ class MapperTest {
                 true,
                 false,
                 true,
-                List.of("READ_USER", "DELETE_USER")
+                List.of("READ_USER", "DELETE_USER"),
+                "cursor-token",
+                false
         );
 
         UserFilters filters = mapper.mapToUserFilters(dto);
@@ -227,6 +231,8 @@ class MapperTest {
         assertEquals(Boolean.TRUE, filters.getIsDeleted());
         assertEquals(Boolean.FALSE, filters.getVerified());
         assertEquals(List.of("READ_USER", "DELETE_USER"), filters.getPermissions());
+        assertEquals("cursor-token", filters.getCursor());
+        assertFalse(filters.isCountRequested());
 
         assertEquals(10, filters.getPageSize());
         assertEquals(Sort.by(Sort.Direction.DESC, "username"), filters.getSort());
@@ -239,7 +245,7 @@ class MapperTest {
     @Test
     void mapToUserFiltersShouldUseDefaultPaginationWhenValuesMissing() {
         // Given: DTO with nulls
-        UserFiltersDTO dto = new UserFiltersDTO(null, null, null, null, null, null, null, null, null, null, null);
+        UserFiltersDTO dto = new UserFiltersDTO(null, null, null, null, null, null, null, null, null, null, null, null, null);
 
         // When
         UserFilters filters = mapper.mapToUserFilters(dto);
@@ -248,6 +254,7 @@ class MapperTest {
         assertEquals(0, filters.getPage());
         assertEquals(15, filters.getPageSize());
         assertEquals(Sort.by(Sort.Direction.ASC, "id"), filters.getSort());
+        assertTrue(filters.isCountRequested());
 
         Pageable pageable = filters.getPageable();
         assertEquals(0, pageable.getPageNumber());
@@ -295,7 +302,7 @@ class MapperTest {
     void mapToProjectReadOnlyShouldMapCorrectly() {
         User user = new User();
         user.setUuid("uuid");
-        Project project =  new Project(1L, "uuid", "name", "description", null, false, ProjectStatus.OPEN, user, new HashSet<>());
+        Project project =  new Project(1L, "uuid", "name", "description", null, false, ProjectStatus.OPEN, user, new HashSet<>(), null);
 
         ProjectReadOnlyDTO dto = mapper.mapToProjectReadOnlyDTO(project);
 
@@ -362,7 +369,9 @@ class MapperTest {
                 "uuid",
                 "name",
                 true,
-                List.of("OPEN", "ON_GOING")
+                List.of("OPEN", "ON_GOING"),
+                "cursor-token",
+                false
         );
 
         ProjectFilters filters = mapper.mapToProjectFilters(dto, "aaaa1234");
@@ -376,6 +385,8 @@ class MapperTest {
         assertEquals(Boolean.TRUE, filters.getIsDeleted());
         assertEquals("aaaa1234", filters.getOwnerUuid());
         assertEquals(List.of("OPEN", "ON_GOING"), filters.getStatus());
+        assertEquals("cursor-token", filters.getCursor());
+        assertFalse(filters.isCountRequested());
 
         assertEquals(10, filters.getPageSize());
         assertEquals(Sort.by(Sort.Direction.DESC, "uuid"), filters.getSort());
@@ -387,7 +398,7 @@ class MapperTest {
 
     @Test
     void mapToProjectFiltersShouldUseDefaultPaginationWhenValuesMissing() {
-        ProjectFiltersDTO dto = new ProjectFiltersDTO(null, null, null, null, null, null, null, null);
+        ProjectFiltersDTO dto = new ProjectFiltersDTO(null, null, null, null, null, null, null, null, null, null);
 
         ProjectFilters filters = mapper.mapToProjectFilters(dto, "aaaa1234");
 
@@ -413,6 +424,7 @@ class MapperTest {
                 TicketPriority.HIGH,
                 TicketStatus.ON_GOING,
                 expiry,
+                null,
                 null
         );
         TicketReadOnlyDTO dto = mapper.mapToTicketReadOnlyDTO(ticket);
@@ -477,7 +489,7 @@ class MapperTest {
         TicketFiltersDTO dto = new TicketFiltersDTO(
                 1, 20, "priority", "DESC",
                 "uuid-123", "Fix login bug", List.of("OPEN"), List.of("CRITICAL"),
-                LocalDate.of(2025, 1, 1)
+                LocalDate.of(2025, 1, 1), "cursor-token", false, "login timeout"
         );
         String ownerUuid = "owner-uuid";
         String projectUuid = "project-uuid";
@@ -497,12 +509,16 @@ class MapperTest {
         assertEquals(LocalDate.of(2025, 1, 1), filters.getExpiryDate());
         assertEquals(ownerUuid, filters.getOwnerUuid());
         assertEquals(projectUuid, filters.getProjectUuid());
+        assertEquals("cursor-token", filters.getCursor());
+        assertFalse(filters.isCountRequested());
+        assertEquals("login timeout", filters.getQ());
+        assertTrue(filters.isSearch());
     }
 
     @Test
     void mapToTicketFiltersShouldUseDefaultPaginationWhenValuesMissing() {
         // Arrange
-        TicketFiltersDTO dto = new TicketFiltersDTO(null, null, null, null, null, null, null, null, null);
+        TicketFiltersDTO dto = new TicketFiltersDTO(null, null, null, null, null, null, null, null, null, null, null, null);
         String ownerUuid = "owner-uuid";
         String projectUuid = "project-uuid";
 
@@ -519,6 +535,7 @@ class MapperTest {
         assertNull(filters.getStatus());
         assertNull(filters.getPriority());
         assertNull(filters.getExpiryDate());
+        assertNull(filters.getQ());
         assertEquals(ownerUuid, filters.getOwnerUuid());
         assertEquals(projectUuid, filters.getProjectUuid());
     }
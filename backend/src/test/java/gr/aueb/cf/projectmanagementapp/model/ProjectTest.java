@@ -26,7 +26,7 @@ class ProjectTest {
     @Test
     void testOverloadConstructorGettersAndSetters() {
         User user = new User();
-        Project project = new Project(1L, "uuid", "name", "description", null, false, ProjectStatus.OPEN, user, new HashSet<>());
+        Project project = new Project(1L, "uuid", "name", "description", null, false, ProjectStatus.OPEN, user, new HashSet<>(), null);
         assertEquals(1L, project.getId());
         assertEquals("uuid", project.getUuid());
         assertEquals("name", project.getName());
@@ -64,4 +64,16 @@ class ProjectTest {
         assertFalse(project.getIsDeleted());
         assertEquals(ProjectStatus.OPEN, project.getStatus());
     }
-}
\ No newline at end of file
+
+    @Test
+    void testSearchColumnFollowsName() {
+        Project project = new Project();
+        project.setName("Apollo Launch");
+        project.onCreate();
+        assertEquals("apollo launch", project.getNameSearch());
+
+        project.setName("Gemini");
+        project.normalizeSearchColumns();
+        assertEquals("gemini", project.getNameSearch());
+    }
+}
@@ -48,7 +48,8 @@ class TicketTest {
                 TicketPriority.HIGH,
                 TicketStatus.ON_GOING,
                 expiry,
-                project
+                project,
+                null
         );
 
         assertEquals(1L, ticket.getId());
@@ -103,4 +104,16 @@ class TicketTest {
         assertEquals(TicketPriority.MEDIUM, ticket.getPriority());
         assertEquals(TicketStatus.OPEN, ticket.getStatus());
     }
+
+    @Test
+    void testSearchColumnFollowsTitle() {
+        Ticket ticket = new Ticket();
+        ticket.setTitle("Fix Login Bug");
+        ticket.onCreate();
+        assertEquals("fix login bug", ticket.getTitleSearch());
+
+        ticket.setTitle("Fix LOGOUT");
+        ticket.normalizeSearchColumns();
+        assertEquals("fix logout", ticket.getTitleSearch());
+    }
 }
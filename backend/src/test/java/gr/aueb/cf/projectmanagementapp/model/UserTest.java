@@ -92,6 +92,8 @@ class UserTest {
                 null,
                 null,
                 null,
+                null,
+                null,
                 null
         );
         assertEquals(1L, user.getId());
@@ -250,6 +252,19 @@ class UserTest {
         assertTrue(user.getPasswordLastModified().isAfter(beforeUpdate));
     }
 
+    @Test
+    void testSearchColumnsFollowUsernameAndLastname() {
+        user.onCreate();
+        assertEquals("testuser", user.getUsernameSearch());
+        assertEquals("user", user.getLastnameSearch());
+
+        user.setUsername("Alice@Mail.com");
+        user.setLastname("Ñúñez");
+        user.normalizeSearchColumns();
+        assertEquals("alice@mail.com", user.getUsernameSearch());
+        assertEquals("ñúñez", user.getLastnameSearch());
+    }
+
     @Test
     void testAddAndRemoveRole() {
         Role role = new Role();
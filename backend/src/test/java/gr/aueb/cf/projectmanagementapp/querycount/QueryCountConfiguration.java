@@ -0,0 +1,55 @@
+package gr.aueb.cf.projectmanagementapp.querycount;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import gr.aueb.cf.projectmanagementapp.authentication.PrincipalCache;
+import gr.aueb.cf.projectmanagementapp.core.export.TicketExportWriter;
+import gr.aueb.cf.projectmanagementapp.core.search.TicketSearchIndex;
+import gr.aueb.cf.projectmanagementapp.mapper.Mapper;
+import gr.aueb.cf.projectmanagementapp.repository.FilteredCountCache;
+import gr.aueb.cf.projectmanagementapp.repository.SpecificationQueryExecutor;
+import gr.aueb.cf.projectmanagementapp.repository.StaticDataCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+/**
+ * Registers the {@link QueryCounter} with Hibernate and provides the non-JPA collaborators that the
+ * services under test need inside a {@code @DataJpaTest} slice.
+ */
+@TestConfiguration(proxyBeanMethods = false)
+@Import({Mapper.class, PrincipalCache.class, StaticDataCache.class, FilteredCountCache.class,
+        SpecificationQueryExecutor.class, TicketExportWriter.class, TicketSearchIndex.class})
+public class QueryCountConfiguration {
+
+    @Bean
+    public QueryCounter queryCounter() {
+        return new QueryCounter();
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer queryCounterCustomizer(QueryCounter queryCounter) {
+        return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, queryCounter);
+    }
+
+    @Bean
+    public MeterRegistry meterRegistry() {
+        return new SimpleMeterRegistry();
+    }
+
+    @Bean
+    public ObjectMapper objectMapper() {
+        return JsonMapper.builder().findAndAddModules().build();
+    }
+
+    @Bean
+    public PasswordEncoder passwordEncoder() {
+        return new BCryptPasswordEncoder(4);
+    }
+}
@@ -0,0 +1,85 @@
+package gr.aueb.cf.projectmanagementapp.querycount;
+
+import gr.aueb.cf.projectmanagementapp.core.enums.Action;
+import gr.aueb.cf.projectmanagementapp.core.enums.Resource;
+import gr.aueb.cf.projectmanagementapp.model.Project;
+import gr.aueb.cf.projectmanagementapp.model.Role;
+import gr.aueb.cf.projectmanagementapp.model.Ticket;
+import gr.aueb.cf.projectmanagementapp.model.User;
+import gr.aueb.cf.projectmanagementapp.model.static_data.Permission;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import java.time.LocalDate;
+import java.util.HashSet;
+import java.util.List;
+
+/**
+ * Persists the rows the query-count tests start from.
+ */
+public final class QueryCountFixtures {
+
+    /**
+     * Selects that loading one user through a query costs: the user row plus one select for each of
+     * {@code verificationToken} and {@code passwordResetToken}. Being the inverse side of one-to-one
+     * associations, Hibernate has to query them to know whether they are null and cannot defer them.
+     */
+    public static final int USER_QUERY_SELECTS = 3;
+
+    private QueryCountFixtures() {}
+
+    public static Permission permission(TestEntityManager entityManager, Action action, Resource resource) {
+        return entityManager.persist(new Permission(null, null, resource, action, new HashSet<>()));
+    }
+
+    public static Role role(TestEntityManager entityManager, String name, Permission... permissions) {
+        return entityManager.persist(new Role(null, name, new HashSet<>(), new HashSet<>(List.of(permissions))));
+    }
+
+    public static User user(TestEntityManager entityManager, String username, Role... roles) {
+        User user = User.builder()
+                .username(username)
+                .firstname("First")
+                .lastname("Last")
+                .password("password")
+                .enabled(true)
+                .verified(true)
+                .build();
+        for (Role role : roles) {
+            user.addRole(role);
+        }
+        return entityManager.persist(user);
+    }
+
+    public static Project project(TestEntityManager entityManager, User owner, String name) {
+        return entityManager.persist(new Project(null, null, name, "Description", null, null, null, owner, new HashSet<>(), null));
+    }
+
+    public static Ticket ticket(TestEntityManager entityManager, Project project, String title) {
+        return entityManager.persist(Ticket.builder()
+                .title(title)
+                .description("Description")
+                .expiryDate(LocalDate.now().plusDays(7))
+                .project(project)
+                .build());
+    }
+
+    /**
+     * Writes pending changes, detaches everything and resets the counter and the statistics, so the
+     * next call starts from an empty persistence context like a fresh request.
+     */
+    public static void startCounting(TestEntityManager entityManager, QueryCounter queryCounter) {
+        entityManager.flush();
+        entityManager.clear();
+        queryCounter.reset();
+        statistics(entityManager).clear();
+    }
+
+    /**
+     * Hibernate statistics of the test's session factory, for counting loaded entities and collections.
+     */
+    public static Statistics statistics(TestEntityManager entityManager) {
+        return entityManager.getEntityManager().getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+    }
+}
@@ -0,0 +1,76 @@
+package gr.aueb.cf.projectmanagementapp.querycount;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Records every SQL statement Hibernate prepares, so tests can assert how many round trips a service
+ * call costs. Batched inserts and updates are prepared once per batch and count once.
+ */
+public class QueryCounter implements StatementInspector {
+
+    public enum Type {
+        SELECT, INSERT, UPDATE, DELETE, OTHER;
+
+        static Type of(String sql) {
+            String statement = sql.stripLeading().toLowerCase(Locale.ROOT);
+            if (statement.startsWith("select") || statement.startsWith("with")) return SELECT;
+            if (statement.startsWith("insert")) return INSERT;
+            if (statement.startsWith("update")) return UPDATE;
+            if (statement.startsWith("delete")) return DELETE;
+            return OTHER;
+        }
+    }
+
+    public record Counts(long selects, long inserts, long updates, long deletes) {}
+
+    private final List<String> statements = new CopyOnWriteArrayList<>();
+
+    @Override
+    public String inspect(String sql) {
+        statements.add(sql);
+        return sql;
+    }
+
+    public void reset() {
+        statements.clear();
+    }
+
+    public List<String> getStatements() {
+        return List.copyOf(statements);
+    }
+
+    public long count(Type type) {
+        return statements.stream().filter(sql -> Type.of(sql) == type).count();
+    }
+
+    public Counts counts() {
+        return new Counts(count(Type.SELECT), count(Type.INSERT), count(Type.UPDATE), count(Type.DELETE));
+    }
+
+    /**
+     * Asserts the exact number of statements of each type since the last {@link #reset()}; the failure
+     * message lists the recorded SQL.
+     */
+    public void assertCounts(long selects, long inserts, long updates, long deletes) {
+        assertEquals(new Counts(selects, inserts, updates, deletes), counts(),
+                () -> statements.stream().collect(Collectors.joining("\n  ", "Statements:\n  ", "")));
+    }
+
+    /**
+     * Statements of the given type whose SQL mentions {@code table}, e.g. the join table of an association.
+     */
+    public long count(Type type, String table) {
+        String name = table.toLowerCase(Locale.ROOT);
+        return statements.stream()
+                .filter(sql -> Type.of(sql) == type)
+                .filter(sql -> sql.toLowerCase(Locale.ROOT).contains(name))
+                .count();
+    }
+}
@@ -0,0 +1,65 @@
+package gr.aueb.cf.projectmanagementapp.repository;
+
+import gr.aueb.cf.projectmanagementapp.core.filters.TicketFilters;
+import gr.aueb.cf.projectmanagementapp.model.Project;
+import gr.aueb.cf.projectmanagementapp.model.Ticket;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FilteredCountCacheTest {
+
+    private FilteredCountCache countCache;
+    private AtomicInteger counts;
+
+    @BeforeEach
+    void setUp() {
+        countCache = new FilteredCountCache(Duration.ofMinutes(1), 100, new SimpleMeterRegistry());
+        counts = new AtomicInteger();
+    }
+
+    @Test
+    void testGetShouldCountOnceForPagesOfTheSameFilters() {
+        TicketFilters firstPage = TicketFilters.builder().projectUuid("project").status(List.of("OPEN", "CLOSED")).build();
+        TicketFilters secondPage = TicketFilters.builder().projectUuid("project").status(List.of("CLOSED", "OPEN")).build();
+        secondPage.setPage(1);
+        secondPage.setSortBy("title");
+
+        assertEquals(42L, countCache.get(Ticket.class, firstPage.getCountKey(), this::count));
+        assertEquals(42L, countCache.get(Ticket.class, secondPage.getCountKey(), this::count));
+        assertEquals(1, counts.get());
+    }
+
+    @Test
+    void testGetShouldCountAgainForOtherFiltersOrEntity() {
+        TicketFilters filters = TicketFilters.builder().projectUuid("project").build();
+        TicketFilters otherFilters = TicketFilters.builder().projectUuid("other").build();
+
+        countCache.get(Ticket.class, filters.getCountKey(), this::count);
+        countCache.get(Ticket.class, otherFilters.getCountKey(), this::count);
+        countCache.get(Project.class, filters.getCountKey(), this::count);
+
+        assertEquals(3, counts.get());
+    }
+
+    @Test
+    void testPutShouldServeExactTotalWithoutCounting() {
+        TicketFilters filters = TicketFilters.builder().projectUuid("project").build();
+
+        countCache.put(Ticket.class, filters.getCountKey(), 7L);
+
+        assertEquals(7L, countCache.get(Ticket.class, filters.getCountKey(), this::count));
+        assertEquals(0, counts.get());
+    }
+
+    private long count() {
+        counts.incrementAndGet();
+        return 42L;
+    }
+}
@@ -0,0 +1,131 @@
+package gr.aueb.cf.projectmanagementapp.repository;
+
+import gr.aueb.cf.projectmanagementapp.core.specifications.ProjectSpecification;
+import gr.aueb.cf.projectmanagementapp.core.specifications.TicketSpecification;
+import gr.aueb.cf.projectmanagementapp.core.specifications.UserSpecification;
+import gr.aueb.cf.projectmanagementapp.model.Project;
+import gr.aueb.cf.projectmanagementapp.model.User;
+import gr.aueb.cf.projectmanagementapp.querycount.QueryCountTest;
+import gr.aueb.cf.projectmanagementapp.querycount.QueryCounter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.List;
+import java.util.Locale;
+
+import static gr.aueb.cf.projectmanagementapp.querycount.QueryCountFixtures.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs {@code EXPLAIN} on the SQL the prefix filters generate over a seeded dataset. Values are
+ * inlined so the database plans against the actual pattern, as it does for a bound parameter at
+ * execution time; with a parameter H2 would not consider the index at all.
+ */
+@QueryCountTest
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.criteria.value_handling_mode=inline")
+class SearchColumnPlanTest {
+    private static final int ROWS = 1000;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private QueryCounter queryCounter;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private TicketRepository ticketRepository;
+
+    @BeforeEach
+    void setUp() {
+        User owner = user(entityManager, "owner");
+        Project project = project(entityManager, owner, "Tickets");
+        for (int i = 0; i < ROWS; i++) {
+            entityManager.persist(User.builder()
+                    .username((i % 2 == 0 ? "Alice" : "bob") + i)
+                    .firstname("First")
+                    .lastname((i % 2 == 0 ? "Smith" : "jones") + i)
+                    .password("password")
+                    .build());
+            project(entityManager, owner, (i % 2 == 0 ? "Apollo " : "gemini ") + i);
+            ticket(entityManager, project, (i % 2 == 0 ? "Login " : "logout ") + i);
+        }
+        startCounting(entityManager, queryCounter);
+        entityManager.getEntityManager().createNativeQuery("ANALYZE").executeUpdate();
+        queryCounter.reset();
+    }
+
+    @Test
+    void testUsernamePrefixShouldUseSearchIndex() {
+        assertEquals(ROWS / 2, userRepository.count(UserSpecification.usersFieldLike("username", "ALICE")));
+
+        assertUsesIndex("idx_user_username_search");
+    }
+
+    @Test
+    void testLastnamePrefixShouldUseSearchIndex() {
+        assertEquals(ROWS / 2, userRepository.count(UserSpecification.usersFieldLike("lastname", "JONES")));
+
+        assertUsesIndex("idx_user_lastname_search");
+    }
+
+    @Test
+    void testProjectNamePrefixShouldUseSearchIndex() {
+        assertEquals(ROWS / 2, projectRepository.count(ProjectSpecification.projectsFieldLike("name", "GEMINI")));
+
+        assertUsesIndex("idx_project_name_search");
+    }
+
+    @Test
+    void testTicketTitlePrefixShouldUseSearchIndex() {
+        // "login" must not match "logout"
+        assertEquals(ROWS / 2, ticketRepository.count(TicketSpecification.ticketsFieldLike("title", "LOGIN")));
+
+        assertUsesIndex("idx_ticket_title_search");
+    }
+
+    @Test
+    void testUuidPrefixShouldUseUuidIndex() {
+        String uuid = userRepository.findAll().getFirst().getUuid();
+        queryCounter.reset();
+
+        assertEquals(1, userRepository.count(UserSpecification.usersFieldLike("uuid", uuid.toUpperCase(Locale.ROOT))));
+
+        // Either the plain uuid index or the one behind its unique constraint
+        assertFalse(plan().contains("tablescan"));
+    }
+
+    @Test
+    void testUpperLikeShouldScanTheTable() {
+        String plan = explain("SELECT COUNT(*) FROM users u WHERE UPPER(u.username) LIKE 'ALICE%'");
+
+        // The plan the specifications produced before the search columns
+        assertTrue(plan.toLowerCase(Locale.ROOT).contains("tablescan"), plan);
+    }
+
+    private void assertUsesIndex(String index) {
+        String plan = plan();
+
+        assertTrue(plan.contains(index), plan);
+        assertFalse(plan.contains("tablescan"), plan);
+    }
+
+    // Plan of the single statement the specification ran
+    private String plan() {
+        List<String> statements = queryCounter.getStatements();
+        assertEquals(1, statements.size(), () -> String.join("\n", statements));
+        return explain(statements.getFirst()).toLowerCase(Locale.ROOT);
+    }
+
+    private String explain(String sql) {
+        return String.valueOf(entityManager.getEntityManager().createNativeQuery("EXPLAIN " + sql).getSingleResult());
+    }
+}
@@ -0,0 +1,98 @@
+package gr.aueb.cf.projectmanagementapp.security;
+
+import gr.aueb.cf.projectmanagementapp.model.User;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.security.SignatureException;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JwtServiceTest {
+    private static final String SECRET = "5ce98d378ec88ea09ba8bcd511ef23645f04cc8e70b9134b98723a53c275bbc5";
+    private static final String OTHER_SECRET = "a1b2c3d4e5f60718293a4b5c6d7e8f90a1b2c3d4e5f60718293a4b5c6d7e8f90";
+
+    private SimpleMeterRegistry meterRegistry;
+    private JwtService jwtService;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        jwtService = new JwtService(SECRET, meterRegistry);
+        user = User.builder()
+                .uuid("user-uuid")
+                .username("user@mail.com")
+                .passwordLastModified(Instant.now().minus(1, ChronoUnit.DAYS))
+                .build();
+    }
+
+    @Test
+    void testParseClaimsShouldReturnAllClaimsOfGeneratedToken() {
+        String token = jwtService.generateToken(user.getUsername(), user.getUuid());
+
+        Claims claims = jwtService.parseClaims(token);
+
+        assertEquals(user.getUsername(), claims.getSubject());
+        assertEquals(user.getUuid(), claims.get("userUuid", String.class));
+        assertEquals("self", claims.getIssuer());
+        assertNotNull(claims.getIssuedAt());
+        assertTrue(claims.getExpiration().after(claims.getIssuedAt()));
+    }
+
+    @Test
+    void testIsTokenValidWithParsedClaimsShouldReturnTrue() {
+        Claims claims = jwtService.parseClaims(jwtService.generateToken(user.getUsername(), user.getUuid()));
+
+        assertTrue(jwtService.isTokenValid(claims, user, user.getPasswordLastModified()));
+    }
+
+    @Test
+    void testIsTokenValidWhenPasswordChangedAfterIssueShouldReturnFalse() {
+        Claims claims = jwtService.parseClaims(jwtService.generateToken(user.getUsername(), user.getUuid()));
+
+        assertFalse(jwtService.isTokenValid(claims, user, Instant.now().plus(1, ChronoUnit.MINUTES)));
+    }
+
+    @Test
+    void testIsTokenValidWhenSubjectDiffersShouldReturnFalse() {
+        Claims claims = jwtService.parseClaims(jwtService.generateToken("other@mail.com", user.getUuid()));
+
+        assertFalse(jwtService.isTokenValid(claims, user, user.getPasswordLastModified()));
+    }
+
+    @Test
+    void testParseClaimsWhenSignedWithOtherKeyShouldThrowException() {
+        String token = new JwtService(OTHER_SECRET, new SimpleMeterRegistry()).generateToken(user.getUsername(), user.getUuid());
+
+        assertThrows(SignatureException.class, () -> jwtService.parseClaims(token));
+        assertEquals(1, parseTimer("invalid").count());
+        assertEquals(0, parseTimer("valid").count());
+    }
+
+    @Test
+    void testParseClaimsShouldBeTimed() {
+        jwtService.parseClaims(jwtService.generateToken(user.getUsername(), user.getUuid()));
+
+        assertEquals(1, parseTimer("valid").count());
+        assertEquals(0, parseTimer("invalid").count());
+    }
+
+    @Test
+    void testStringBasedAccessorsShouldMatchParsedClaims() {
+        String token = jwtService.generateToken(user.getUsername(), user.getUuid());
+
+        assertEquals(user.getUsername(), jwtService.extractSubject(token));
+        assertEquals(user.getUuid(), jwtService.getStringClaim(token, "userUuid"));
+        assertTrue(jwtService.isTokenValid(token, user, user.getPasswordLastModified()));
+    }
+
+    private Timer parseTimer(String outcome) {
+        return meterRegistry.get(JwtService.PARSE_TIMER).tag("outcome", outcome).timer();
+    }
+}
@@ -0,0 +1,117 @@
+package gr.aueb.cf.projectmanagementapp.security;
+
+import gr.aueb.cf.projectmanagementapp.core.exceptions.AppServiceUnavailableException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OffloadingPasswordEncoderTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final CountDownLatch release = new CountDownLatch(1);
+    private OffloadingPasswordEncoder encoder;
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        if (encoder != null) encoder.close();
+    }
+
+    /**
+     * Delegate whose operations block until the test releases them, to fill the pool deterministically.
+     */
+    private PasswordEncoder blockingDelegate(CountDownLatch started) {
+        return new PasswordEncoder() {
+            @Override
+            public String encode(CharSequence rawPassword) {
+                started.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return "encoded";
+            }
+
+            @Override
+            public boolean matches(CharSequence rawPassword, String encodedPassword) {
+                return true;
+            }
+        };
+    }
+
+    @Test
+    void testEncodeAndMatchesShouldDelegateOnTheHashingPool() {
+        encoder = new OffloadingPasswordEncoder(new BCryptPasswordEncoder(4), 2, 4, Duration.ofSeconds(5), Duration.ofSeconds(2), meterRegistry);
+
+        String hash = encoder.encode("Aa12345!");
+
+        assertTrue(encoder.matches("Aa12345!", hash));
+        assertFalse(encoder.matches("wrong", hash));
+        assertEquals(1, meterRegistry.get("password.hashing").tag("operation", "encode").timer().count());
+        assertEquals(2, meterRegistry.get("password.hashing").tag("operation", "matches").timer().count());
+        assertEquals(3, meterRegistry.get("password.hashing.queue.wait").timer().count());
+    }
+
+    @Test
+    void testEncodeWhenQueueFullShouldRejectImmediately() throws InterruptedException {
+        CountDownLatch started = new CountDownLatch(1);
+        encoder = new OffloadingPasswordEncoder(blockingDelegate(started), 1, 1, Duration.ofSeconds(30), Duration.ofSeconds(3), meterRegistry);
+
+        // One running, one queued
+        CompletableFuture.runAsync(() -> encoder.encode("a"));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        CompletableFuture.runAsync(() -> encoder.encode("b"));
+        waitForQueueDepth(1);
+
+        AppServiceUnavailableException e = assertThrows(AppServiceUnavailableException.class, () -> encoder.encode("c"));
+        assertEquals("PasswordHashingUnavailable", e.getCode());
+        assertEquals(Duration.ofSeconds(3), e.getRetryAfter());
+        assertEquals(1.0, meterRegistry.counter("password.hashing.rejected").count());
+    }
+
+    @Test
+    void testEncodeWhenResultNotReadyWithinMaxWaitShouldReject() throws InterruptedException {
+        CountDownLatch started = new CountDownLatch(1);
+        encoder = new OffloadingPasswordEncoder(blockingDelegate(started), 1, 4, Duration.ofMillis(50), Duration.ofSeconds(2), meterRegistry);
+
+        assertThrows(AppServiceUnavailableException.class, () -> encoder.encode("a"));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void testDelegateExceptionShouldPropagateUnchanged() {
+        PasswordEncoder failing = new PasswordEncoder() {
+            @Override
+            public String encode(CharSequence rawPassword) {
+                throw new IllegalArgumentException("bad input");
+            }
+
+            @Override
+            public boolean matches(CharSequence rawPassword, String encodedPassword) {
+                return false;
+            }
+        };
+        encoder = new OffloadingPasswordEncoder(failing, 1, 1, Duration.ofSeconds(5), Duration.ofSeconds(2), meterRegistry);
+
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () -> encoder.encode("a"));
+        assertEquals("bad input", e.getMessage());
+    }
+
+    private void waitForQueueDepth(int depth) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (meterRegistry.get("password.hashing.queue.depth").gauge().value() < depth) {
+            if (System.nanoTime() > deadline) fail("Queue never reached depth " + depth);
+            Thread.sleep(5);
+        }
+    }
+}
@@ -0,0 +1,174 @@
+package gr.aueb.cf.projectmanagementapp.service;
+
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import gr.aueb.cf.projectmanagementapp.core.enums.EmailOutboxStatus;
+import gr.aueb.cf.projectmanagementapp.core.mail.MailOutboxProperties;
+import gr.aueb.cf.projectmanagementapp.model.EmailOutboxMessage;
+import gr.aueb.cf.projectmanagementapp.repository.EmailOutboxRepository;
+import jakarta.mail.internet.MimeMessage;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Runs the dispatcher against an in-process GreenMail SMTP server.
+ */
+@ExtendWith(MockitoExtension.class)
+class EmailOutboxDispatcherTest {
+
+    @RegisterExtension
+    static GreenMailExtension greenMail = new GreenMailExtension(ServerSetupTest.SMTP);
+
+    @Mock
+    private EmailOutboxRepository emailOutboxRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private static final List<EmailOutboxStatus> CLAIMABLE = List.of(EmailOutboxStatus.PENDING, EmailOutboxStatus.SENDING);
+    private final MailOutboxProperties properties = new MailOutboxProperties();
+
+    private EmailOutboxDispatcher dispatcher(int port) {
+        JavaMailSenderImpl mailSender = new JavaMailSenderImpl();
+        mailSender.setHost("localhost");
+        mailSender.setPort(port);
+        Properties javaMailProperties = new Properties();
+        javaMailProperties.put("mail.smtp.connectiontimeout", "2000");
+        mailSender.setJavaMailProperties(javaMailProperties);
+        return new EmailOutboxDispatcher(emailOutboxRepository, mailSender, properties, new TransactionTemplate(transactionManager));
+    }
+
+    private static EmailOutboxMessage pending(long id, String recipient) {
+        return EmailOutboxMessage.builder()
+                .id(id)
+                .recipient(recipient)
+                .subject("Verification Email")
+                .body("token-" + id)
+                .nextAttemptAt(LocalDateTime.now().minusSeconds(1))
+                .build();
+    }
+
+    @Test
+    void testDispatchPendingEmailsShouldSendBatchAndMarkMessagesSent() throws Exception {
+        EmailOutboxMessage first = pending(1L, "first@example.com");
+        EmailOutboxMessage second = pending(2L, "second@example.com");
+        when(emailOutboxRepository.findDueForUpdate(eq(CLAIMABLE), any(), any())).thenReturn(List.of(first, second));
+
+        int processed = dispatcher(ServerSetupTest.SMTP.getPort()).dispatchPendingEmails();
+
+        assertEquals(2, processed);
+        MimeMessage[] received = greenMail.getReceivedMessages();
+        assertEquals(2, received.length);
+        assertEquals("first@example.com", received[0].getAllRecipients()[0].toString());
+        assertEquals("Verification Email", received[0].getSubject());
+        for (EmailOutboxMessage message : List.of(first, second)) {
+            assertEquals(EmailOutboxStatus.SENT, message.getStatus());
+            assertEquals(1, message.getAttempts());
+            assertNotNull(message.getSentAt());
+        }
+        verify(emailOutboxRepository).saveAll(List.of(first, second));
+    }
+
+    @Test
+    void testDispatchPendingEmailsShouldCommitClaimBeforeSending() {
+        EmailOutboxMessage message = pending(1L, "first@example.com");
+        when(emailOutboxRepository.findDueForUpdate(eq(CLAIMABLE), any(), any())).thenReturn(List.of(message));
+        List<EmailOutboxStatus> committed = new ArrayList<>();
+        List<Integer> receivedAtCommit = new ArrayList<>();
+        doAnswer(invocation -> {
+            committed.add(message.getStatus());
+            receivedAtCommit.add(greenMail.getReceivedMessages().length);
+            return null;
+        }).when(transactionManager).commit(any());
+
+        dispatcher(ServerSetupTest.SMTP.getPort()).dispatchPendingEmails();
+
+        // The claim commits as SENDING under a lease before SMTP runs; the outcome commits separately
+        assertEquals(List.of(EmailOutboxStatus.SENDING, EmailOutboxStatus.SENT), committed);
+        assertEquals(List.of(0, 1), receivedAtCommit);
+        verify(transactionManager, times(2)).getTransaction(any());
+    }
+
+    @Test
+    void testDispatchPendingEmailsShouldLeaseClaimedMessages() {
+        EmailOutboxMessage message = pending(1L, "first@example.com");
+        when(emailOutboxRepository.findDueForUpdate(eq(CLAIMABLE), any(), any())).thenReturn(List.of(message));
+        List<LocalDateTime> leasedUntil = new ArrayList<>();
+        doAnswer(invocation -> {
+            if (message.getStatus() == EmailOutboxStatus.SENDING) leasedUntil.add(message.getNextAttemptAt());
+            return null;
+        }).when(transactionManager).commit(any());
+        LocalDateTime before = LocalDateTime.now();
+
+        dispatcher(ServerSetupTest.SMTP.getPort()).dispatchPendingEmails();
+
+        assertEquals(1, leasedUntil.size());
+        assertFalse(leasedUntil.get(0).isBefore(before.plus(properties.getLease())));
+    }
+
+    @Test
+    void testDispatchPendingEmailsWhenNothingDueShouldNotConnect() {
+        when(emailOutboxRepository.findDueForUpdate(eq(CLAIMABLE), any(), any())).thenReturn(List.of());
+
+        assertEquals(0, dispatcher(ServerSetupTest.SMTP.getPort()).dispatchPendingEmails());
+        assertEquals(0, greenMail.getReceivedMessages().length);
+    }
+
+    @Test
+    void testDispatchPendingEmailsWhenSmtpUnavailableShouldScheduleRetryWithBackoff() {
+        EmailOutboxMessage message = pending(1L, "first@example.com");
+        when(emailOutboxRepository.findDueForUpdate(eq(CLAIMABLE), any(), any())).thenReturn(List.of(message));
+        LocalDateTime before = LocalDateTime.now();
+
+        // Nothing listens on the port right after the GreenMail one
+        dispatcher(ServerSetupTest.SMTP.getPort() + 1).dispatchPendingEmails();
+
+        assertEquals(EmailOutboxStatus.PENDING, message.getStatus());
+        assertEquals(1, message.getAttempts());
+        assertNotNull(message.getLastError());
+        assertFalse(message.getNextAttemptAt().isBefore(before.plus(properties.getInitialBackoff())));
+        assertEquals(0, greenMail.getReceivedMessages().length);
+    }
+
+    @Test
+    void testDispatchPendingEmailsWhenLastAttemptFailsShouldMarkMessageFailed() {
+        EmailOutboxMessage message = pending(1L, "first@example.com");
+        message.setAttempts(properties.getMaxAttempts() - 1);
+        when(emailOutboxRepository.findDueForUpdate(eq(CLAIMABLE), any(), any())).thenReturn(List.of(message));
+
+        dispatcher(ServerSetupTest.SMTP.getPort() + 1).dispatchPendingEmails();
+
+        assertEquals(EmailOutboxStatus.FAILED, message.getStatus());
+        assertEquals(properties.getMaxAttempts(), message.getAttempts());
+    }
+
+    @Test
+    void testBackoffShouldDoubleAndBeCapped() {
+        EmailOutboxDispatcher dispatcher = dispatcher(ServerSetupTest.SMTP.getPort());
+
+        assertEquals(Duration.ofSeconds(30), dispatcher.backoff(1));
+        assertEquals(Duration.ofSeconds(60), dispatcher.backoff(2));
+        assertEquals(Duration.ofSeconds(120), dispatcher.backoff(3));
+        assertEquals(properties.getMaxBackoff(), dispatcher.backoff(12));
+    }
+}
@@ -1,13 +1,16 @@
 package gr.aueb.cf.projectmanagementapp.service;
 
+import gr.aueb.cf.projectmanagementapp.core.enums.EmailOutboxStatus;
 import gr.aueb.cf.projectmanagementapp.core.exceptions.AppServerException;
+import gr.aueb.cf.projectmanagementapp.model.EmailOutboxMessage;
+import gr.aueb.cf.projectmanagementapp.repository.EmailOutboxRepository;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.mail.SimpleMailMessage;
-import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.dao.DataAccessResourceFailureException;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -17,7 +20,7 @@ import static org.mockito.Mockito.*;
 class EmailServiceTest {
 
     @Mock
-    private JavaMailSender mailSender;
+    private EmailOutboxRepository emailOutboxRepository;
 
     @InjectMocks
     private EmailService emailService;
@@ -26,34 +29,30 @@ class EmailServiceTest {
     private final String testToken = "test-token-123";
 
     @Test
-    void testSendVerificationEmailShouldSendEmailSuccessfully() throws AppServerException {
+    void testSendVerificationEmailShouldQueueEmail() throws AppServerException {
         emailService.sendVerificationEmail(testEmail, testToken);
 
-        verify(mailSender).send(any(SimpleMailMessage.class));
+        verify(emailOutboxRepository).save(any(EmailOutboxMessage.class));
     }
 
     @Test
     void testSendVerificationEmailShouldSetCorrectProperties() throws AppServerException {
-        SimpleMailMessage capturedMessage = new SimpleMailMessage();
-        doAnswer(invocation -> {
-            SimpleMailMessage msg = invocation.getArgument(0);
-            assertNotNull(msg.getTo());
-            capturedMessage.setTo(msg.getTo());
-            capturedMessage.setSubject(msg.getSubject());
-            capturedMessage.setText(msg.getText());
-            return null;
-        }).when(mailSender).send(any(SimpleMailMessage.class));
+        ArgumentCaptor<EmailOutboxMessage> captor = ArgumentCaptor.forClass(EmailOutboxMessage.class);
 
         emailService.sendVerificationEmail(testEmail, testToken);
 
-        assertEquals("Verification Email", capturedMessage.getSubject());
-        assertNotNull(capturedMessage.getText());
-        assertTrue(capturedMessage.getText().contains(testToken));
+        verify(emailOutboxRepository).save(captor.capture());
+        EmailOutboxMessage queued = captor.getValue();
+        assertEquals(testEmail, queued.getRecipient());
+        assertEquals("Verification Email", queued.getSubject());
+        assertTrue(queued.getBody().contains(testToken));
+        assertEquals(EmailOutboxStatus.PENDING, queued.getStatus());
+        assertEquals(0, queued.getAttempts());
     }
 
     @Test
-    void testSendVerificationEmailWhenMailExceptionShouldThrowAppServerException() {
-        doThrow(new RuntimeException("SMTP error")).when(mailSender).send(any(SimpleMailMessage.class));
+    void testSendVerificationEmailWhenOutboxUnavailableShouldThrowAppServerException() {
+        when(emailOutboxRepository.save(any(EmailOutboxMessage.class))).thenThrow(new DataAccessResourceFailureException("DB down"));
 
         assertThrows(AppServerException.class, () ->
                 emailService.sendVerificationEmail(testEmail, testToken)
@@ -61,38 +60,32 @@ class EmailServiceTest {
     }
 
     @Test
-    void testSendPasswordResetEmailShouldSendEmailSuccessfully() throws AppServerException {
+    void testSendPasswordResetEmailShouldQueueEmail() throws AppServerException {
         emailService.sendPasswordResetEmail(testEmail, testToken);
 
-        verify(mailSender).send(any(SimpleMailMessage.class));
+        verify(emailOutboxRepository).save(any(EmailOutboxMessage.class));
     }
 
     @Test
     void testSendPasswordResetEmailShouldSetCorrectProperties() throws AppServerException {
-        SimpleMailMessage capturedMessage = new SimpleMailMessage();
-        doAnswer(invocation -> {
-            SimpleMailMessage msg = invocation.getArgument(0);
-            assertNotNull(msg.getTo());
-            capturedMessage.setTo(msg.getTo());
-            capturedMessage.setSubject(msg.getSubject());
-            capturedMessage.setText(msg.getText());
-            return null;
-        }).when(mailSender).send(any(SimpleMailMessage.class));
+        ArgumentCaptor<EmailOutboxMessage> captor = ArgumentCaptor.forClass(EmailOutboxMessage.class);
 
         emailService.sendPasswordResetEmail(testEmail, testToken);
 
-        assertEquals("Password Reset Request", capturedMessage.getSubject());
-        assertNotNull(capturedMessage.getText());
-        assertTrue(capturedMessage.getText().contains(testToken));
+        verify(emailOutboxRepository).save(captor.capture());
+        EmailOutboxMessage queued = captor.getValue();
+        assertEquals(testEmail, queued.getRecipient());
+        assertEquals("Password Reset Request", queued.getSubject());
+        assertTrue(queued.getBody().contains(testToken));
     }
 
     @Test
-    void testSendPasswordResetEmailWhenMailExceptionShouldThrowAppServerException() {
-        doThrow(new RuntimeException("SMTP error")).when(mailSender).send(any(SimpleMailMessage.class));
+    void testSendPasswordResetEmailWhenOutboxUnavailableShouldThrowAppServerException() {
+        when(emailOutboxRepository.save(any(EmailOutboxMessage.class))).thenThrow(new DataAccessResourceFailureException("DB down"));
 
         assertThrows(AppServerException.class, () ->
                 emailService.sendPasswordResetEmail(testEmail, testToken)
         );
     }
 
-}
\ No newline at end of file
+}
@@ -0,0 +1,96 @@
+package gr.aueb.cf.projectmanagementapp.service;
+
+import gr.aueb.cf.projectmanagementapp.core.enums.Action;
+import gr.aueb.cf.projectmanagementapp.core.enums.Resource;
+import gr.aueb.cf.projectmanagementapp.core.exceptions.AppObjectAlreadyExistsException;
+import gr.aueb.cf.projectmanagementapp.core.exceptions.AppObjectDeletionConflictException;
+import gr.aueb.cf.projectmanagementapp.core.exceptions.AppObjectInvalidArgumentException;
+import gr.aueb.cf.projectmanagementapp.core.exceptions.AppObjectNotFoundException;
+import gr.aueb.cf.projectmanagementapp.dto.RoleCreateDTO;
+import gr.aueb.cf.projectmanagementapp.dto.RoleReadOnlyDTO;
+import gr.aueb.cf.projectmanagementapp.dto.RoleUpdateDTO;
+import gr.aueb.cf.projectmanagementapp.model.Role;
+import gr.aueb.cf.projectmanagementapp.model.static_data.Permission;
+import gr.aueb.cf.projectmanagementapp.querycount.QueryCountTest;
+import gr.aueb.cf.projectmanagementapp.querycount.QueryCounter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import java.util.List;
+
+import static gr.aueb.cf.projectmanagementapp.querycount.QueryCountFixtures.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+@QueryCountTest
+@Import(RoleService.class)
+class RoleServiceQueryCountTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private QueryCounter queryCounter;
+
+    @Autowired
+    private RoleService roleService;
+
+    private Role admin;
+    private Role member;
+
+    @BeforeEach
+    void setUp() {
+        Permission readUser = permission(entityManager, Action.READ, Resource.USER);
+        Permission readTicket = permission(entityManager, Action.READ, Resource.TICKET);
+        admin = role(entityManager, "ADMIN", readUser, readTicket);
+        member = role(entityManager, "MEMBER", readTicket);
+        user(entityManager, "alice", admin);
+        startCounting(entityManager, queryCounter);
+    }
+
+    @Test
+    void testFindAllRolesShouldFetchPermissionsWithTheRoles() {
+        List<RoleReadOnlyDTO> roles = roleService.findAllRoles();
+
+        assertEquals(2, roles.size());
+        queryCounter.assertCounts(1, 0, 0, 0);
+        assertEquals(1, queryCounter.count(QueryCounter.Type.SELECT, "roles_permissions"));
+    }
+
+    @Test
+    void testFindRoleByIdShouldFetchPermissionsWithTheRole() throws AppObjectNotFoundException {
+        RoleReadOnlyDTO role = roleService.findRoleById(admin.getId());
+
+        assertEquals(2, role.permissions().size());
+        queryCounter.assertCounts(1, 0, 0, 0);
+    }
+
+    @Test
+    void testCreateRole() throws AppObjectAlreadyExistsException, AppObjectInvalidArgumentException {
+        roleService.createRole(new RoleCreateDTO("AUDITOR", List.of("READ_USER")));
+        entityManager.flush();
+
+        // Name check and permissions lookup; the role row and its permission rows
+        queryCounter.assertCounts(2, 2, 0, 0);
+    }
+
+    @Test
+    void testUpdateRole() throws AppObjectAlreadyExistsException, AppObjectInvalidArgumentException, AppObjectNotFoundException {
+        roleService.updateRole(admin.getId(), new RoleUpdateDTO("ADMIN", List.of("READ_USER")));
+        entityManager.flush();
+
+        // The replaced permission set is deleted by key and inserted again
+        queryCounter.assertCounts(3, 1, 0, 1);
+    }
+
+    @Test
+    void testDeleteRole() throws AppObjectNotFoundException, AppObjectDeletionConflictException {
+        roleService.deleteRole(member.getId());
+        entityManager.flush();
+
+        // The role, then its users to check for assignments; its permission rows and the role
+        queryCounter.assertCounts(2, 0, 0, 2);
+    }
+}
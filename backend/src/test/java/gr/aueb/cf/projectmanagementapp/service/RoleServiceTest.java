@@ -1,5 +1,6 @@
 package gr.aueb.cf.projectmanagementapp.service;
 
+import gr.aueb.cf.projectmanagementapp.authentication.PrincipalCache;
 import gr.aueb.cf.projectmanagementapp.core.exceptions.AppObjectAlreadyExistsException;
 import gr.aueb.cf.projectmanagementapp.core.exceptions.AppObjectDeletionConflictException;
 import gr.aueb.cf.projectmanagementapp.core.exceptions.AppObjectInvalidArgumentException;
@@ -13,6 +14,7 @@ import gr.aueb.cf.projectmanagementapp.model.User;
 import gr.aueb.cf.projectmanagementapp.model.static_data.Permission;
 import gr.aueb.cf.projectmanagementapp.repository.PermissionRepository;
 import gr.aueb.cf.projectmanagementapp.repository.RoleRepository;
+import gr.aueb.cf.projectmanagementapp.repository.StaticDataCache;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
@@ -36,6 +38,10 @@ class RoleServiceTest {
     @Mock
     private PermissionRepository permissionRepository;
     @Mock
+    private PrincipalCache principalCache;
+    @Mock
+    private StaticDataCache staticDataCache;
+    @Mock
     private Mapper mapper;
 
     @InjectMocks
@@ -57,7 +63,7 @@ class RoleServiceTest {
     @Test
     void testFindRoleByIdWhenExistsShouldReturnDTO() throws AppObjectNotFoundException {
         Role role = new Role(1L, "ADMIN", null, Set.of());
-        when(roleRepository.findById(1L)).thenReturn(Optional.of(role));
+        when(roleRepository.findWithPermissionsById(1L)).thenReturn(Optional.of(role));
         RoleReadOnlyDTO dto = new RoleReadOnlyDTO(1L, "ADMIN", Set.of());
         when(mapper.mapToRoleReadOnlyDTO(role)).thenReturn(dto);
 
@@ -68,7 +74,7 @@ class RoleServiceTest {
 
     @Test
     void testFindRoleByIdWhenNotFoundShouldThrow() {
-        when(roleRepository.findById(1L)).thenReturn(Optional.empty());
+        when(roleRepository.findWithPermissionsById(1L)).thenReturn(Optional.empty());
 
         assertThrows(AppObjectNotFoundException.class, () -> roleService.findRoleById(1L));
     }
@@ -105,6 +111,7 @@ class RoleServiceTest {
         RoleReadOnlyDTO result = roleService.createRole(dto);
 
         assertEquals("ADMIN", result.name());
+        verify(staticDataCache).evictRoles();
     }
 
     @Test
@@ -154,6 +161,8 @@ class RoleServiceTest {
         RoleReadOnlyDTO result = roleService.updateRole(1L, dto);
 
         assertEquals("ADMIN", result.name());
+        verify(principalCache).evictAll();
+        verify(staticDataCache).evictRoles();
     }
 
     @Test
@@ -179,5 +188,7 @@ class RoleServiceTest {
         roleService.deleteRole(1L);
 
         verify(roleRepository).delete(role);
+        verify(principalCache).evictAll();
+        verify(staticDataCache).evictRoles();
     }
 }
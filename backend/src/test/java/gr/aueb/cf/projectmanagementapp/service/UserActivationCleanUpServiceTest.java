@@ -1,64 +1,140 @@
 package gr.aueb.cf.projectmanagementapp.service;
 
-import gr.aueb.cf.projectmanagementapp.core.exceptions.AppObjectNotFoundException;
-import gr.aueb.cf.projectmanagementapp.model.User;
-import gr.aueb.cf.projectmanagementapp.model.VerificationToken;
+import gr.aueb.cf.projectmanagementapp.core.search.TicketSearchIndex;
+import gr.aueb.cf.projectmanagementapp.repository.PasswordResetTokenRepository;
+import gr.aueb.cf.projectmanagementapp.repository.ProjectRepository;
+import gr.aueb.cf.projectmanagementapp.repository.TicketRepository;
+import gr.aueb.cf.projectmanagementapp.repository.UserRepository;
+import gr.aueb.cf.projectmanagementapp.repository.VerificationTokenRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.util.Collection;
 import java.util.List;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
 class UserActivationCleanUpServiceTest {
 
-    @Mock
-    private IUserService userService;
+    private static final int CHUNK_SIZE = 2;
 
     @Mock
     private VerificationTokenService verificationTokenService;
 
-    @InjectMocks
+    @Mock
+    private VerificationTokenRepository verificationTokenRepository;
+
+    @Mock
+    private PasswordResetTokenRepository passwordResetTokenRepository;
+
+    @Mock
+    private TicketRepository ticketRepository;
+
+    @Mock
+    private TicketSearchIndex ticketSearchIndex;
+
+    @Mock
+    private ProjectRepository projectRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private SimpleMeterRegistry meterRegistry;
     private UserActivationCleanUpService cleanUpService;
 
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        cleanUpService = new UserActivationCleanUpService(verificationTokenService, verificationTokenRepository,
+                passwordResetTokenRepository, ticketRepository, ticketSearchIndex, projectRepository, userRepository,
+                new TransactionTemplate(transactionManager), meterRegistry, CHUNK_SIZE, 3);
+    }
+
     @Test
-    void testCleanupExpiredRegistrationsDeletesUsersAndTokens() throws AppObjectNotFoundException {
-        User user1 = new User();
-        user1.setUsername("expiredUser");
-        VerificationToken token1 = mock(VerificationToken.class);
-        when(token1.getUser()).thenReturn(user1);
-        when(verificationTokenService.findAllExpiredTokens())
-                .thenReturn(List.of(token1));
+    void testCleanupExpiredRegistrationsDeletesUsersAndDependentsInChunks() {
+        when(verificationTokenService.findUserIdsWithExpiredTokens(CHUNK_SIZE)).thenReturn(List.of(1L, 2L), List.of(3L));
+        when(userRepository.deleteAllByIdIn(List.of(1L, 2L))).thenReturn(2);
+        when(userRepository.deleteAllByIdIn(List.of(3L))).thenReturn(1);
+        when(ticketRepository.findIdsByProjectOwnerIdIn(List.of(1L, 2L))).thenReturn(List.of(10L, 11L));
+        when(ticketRepository.findIdsByProjectOwnerIdIn(List.of(3L))).thenReturn(List.of());
 
         cleanUpService.cleanupExpiredRegistrations();
 
-        verify(verificationTokenService).deleteToken(token1);
-        verify(userService).deleteUser("expiredUser");
+        InOrder inOrder = inOrder(verificationTokenRepository, passwordResetTokenRepository, ticketRepository, ticketSearchIndex, projectRepository, userRepository);
+        inOrder.verify(verificationTokenRepository).deleteAllByUserIdIn(List.of(1L, 2L));
+        inOrder.verify(passwordResetTokenRepository).deleteAllByUserIdIn(List.of(1L, 2L));
+        inOrder.verify(ticketSearchIndex).removeAll(List.of(10L, 11L));
+        inOrder.verify(ticketRepository).deleteAllByProjectOwnerIdIn(List.of(1L, 2L));
+        inOrder.verify(projectRepository).deleteAllByOwnerIdIn(List.of(1L, 2L));
+        inOrder.verify(userRepository).deleteRolesByUserIdIn(List.of(1L, 2L));
+        inOrder.verify(userRepository).deleteAllByIdIn(List.of(1L, 2L));
+        inOrder.verify(userRepository).deleteAllByIdIn(List.of(3L));
+        // One transaction per chunk; the short second chunk ends the run
+        verify(transactionManager, times(2)).getTransaction(any());
+        verify(transactionManager, times(2)).commit(any());
+        assertEquals(3.0, meterRegistry.counter("registration.cleanup.users.deleted").count());
+        assertEquals(2.0, meterRegistry.counter("registration.cleanup.chunks").count());
+        assertEquals(2, meterRegistry.timer("registration.cleanup.chunk.duration").count());
     }
 
     @Test
-    void testCleanupContinuesOnException() throws AppObjectNotFoundException {
-        User user1 = User.builder().username("failUser").build();
-        User user2 = User.builder().username("successUser").build();
+    void testCleanupWhenNothingExpiredDeletesNothing() {
+        when(verificationTokenService.findUserIdsWithExpiredTokens(CHUNK_SIZE)).thenReturn(List.of());
 
-        VerificationToken token1 = mock(VerificationToken.class);
-        VerificationToken token2 = mock(VerificationToken.class);
-        when(token1.getUser()).thenReturn(user1);
-        when(token2.getUser()).thenReturn(user2);
+        cleanUpService.cleanupExpiredRegistrations();
 
-        when(verificationTokenService.findAllExpiredTokens())
-                .thenReturn(List.of(token1, token2));
+        verify(userRepository, never()).deleteAllByIdIn(any());
+        assertEquals(0.0, meterRegistry.counter("registration.cleanup.users.deleted").count());
+    }
 
-        // Fail first
-        doThrow(new RuntimeException("Something went wrong"))
-                .when(userService).deleteUser("failUser");
+    @Test
+    void testCleanupStopsAtMaxChunks() {
+        when(verificationTokenService.findUserIdsWithExpiredTokens(CHUNK_SIZE)).thenReturn(List.of(1L, 2L));
+        when(userRepository.deleteAllByIdIn(List.of(1L, 2L))).thenReturn(2);
+
+        cleanUpService.cleanupExpiredRegistrations();
+
+        verify(userRepository, times(3)).deleteAllByIdIn(List.of(1L, 2L));
+        assertEquals(6.0, meterRegistry.counter("registration.cleanup.users.deleted").count());
+    }
+
+    @Test
+    void testCleanupRetriesFailedChunkOneByOneAndSkipsPoisonRow() {
+        // User 1 cannot be deleted and keeps the oldest token, so it heads every read
+        when(verificationTokenService.findUserIdsWithExpiredTokens(CHUNK_SIZE)).thenReturn(List.of(1L, 2L));
+        when(verificationTokenService.findUserIdsWithExpiredTokens(CHUNK_SIZE + 1)).thenReturn(List.of(1L, 3L, 4L), List.of(1L));
+        when(ticketRepository.deleteAllByProjectOwnerIdIn(any())).thenAnswer(invocation -> {
+            if (invocation.<Collection<Long>>getArgument(0).contains(1L)) throw new DataIntegrityViolationException("fk");
+            return 0;
+        });
+        when(userRepository.deleteAllByIdIn(List.of(2L))).thenReturn(1);
+        when(userRepository.deleteAllByIdIn(List.of(3L, 4L))).thenReturn(2);
 
         cleanUpService.cleanupExpiredRegistrations();
 
-        verify(userService).deleteUser("successUser");
+        verify(ticketRepository).deleteAllByProjectOwnerIdIn(List.of(1L, 2L));
+        verify(ticketRepository).deleteAllByProjectOwnerIdIn(List.of(1L));
+        verify(userRepository).deleteAllByIdIn(List.of(2L));
+        verify(userRepository).deleteAllByIdIn(List.of(3L, 4L));
+        verify(userRepository, never()).deleteAllByIdIn(List.of(1L));
+        verify(transactionManager, times(2)).rollback(any());
+        verify(transactionManager, times(2)).commit(any());
+        assertEquals(3.0, meterRegistry.counter("registration.cleanup.users.deleted").count());
+        assertEquals(1.0, meterRegistry.counter("registration.cleanup.users.skipped").count());
+        assertEquals(2.0, meterRegistry.counter("registration.cleanup.chunks").count());
     }
 }
@@ -0,0 +1,121 @@
+package gr.aueb.cf.projectmanagementapp.service;
+
+import gr.aueb.cf.projectmanagementapp.core.exceptions.AppObjectDeletionConflictException;
+import gr.aueb.cf.projectmanagementapp.core.exceptions.AppObjectInvalidArgumentException;
+import gr.aueb.cf.projectmanagementapp.core.exceptions.AppObjectNotFoundException;
+import gr.aueb.cf.projectmanagementapp.dto.*;
+import gr.aueb.cf.projectmanagementapp.model.Project;
+import gr.aueb.cf.projectmanagementapp.model.User;
+import gr.aueb.cf.projectmanagementapp.querycount.QueryCountTest;
+import gr.aueb.cf.projectmanagementapp.querycount.QueryCounter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import static gr.aueb.cf.projectmanagementapp.querycount.QueryCountFixtures.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+@QueryCountTest
+@Import(UserProjectService.class)
+class UserProjectServiceQueryCountTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private QueryCounter queryCounter;
+
+    @Autowired
+    private UserProjectService userProjectService;
+
+    private User alice;
+    private Project withTickets;
+    private Project empty;
+
+    @BeforeEach
+    void setUp() {
+        alice = user(entityManager, "alice");
+        user(entityManager, "bob");
+        withTickets = project(entityManager, alice, "With tickets");
+        empty = project(entityManager, alice, "Empty");
+        ticket(entityManager, withTickets, "First");
+        ticket(entityManager, withTickets, "Second");
+        startCounting(entityManager, queryCounter);
+    }
+
+    @Test
+    void testFindAllUserProjects() throws AppObjectNotFoundException {
+        assertEquals(2, userProjectService.findAllUserProjects(alice.getUuid()).size());
+
+        // The user, then its projects collection
+        queryCounter.assertCounts(USER_QUERY_SELECTS + 1, 0, 0, 0);
+    }
+
+    @Test
+    void testFindUserProjectsFilteredPaginated() {
+        assertEquals(2, userProjectService.findUserProjectsFilteredPaginated(new ProjectFiltersDTO(), alice.getUuid()).data().size());
+
+        queryCounter.assertCounts(1, 0, 0, 0);
+    }
+
+    @Test
+    void testFindUserProjectsFilteredCursor() throws AppObjectInvalidArgumentException {
+        assertEquals(2, userProjectService.findUserProjectsFilteredCursor(new ProjectFiltersDTO(), alice.getUuid()).data().size());
+
+        queryCounter.assertCounts(1, 0, 0, 0);
+    }
+
+    @Test
+    void testFindUserProjectByUuid() throws AppObjectNotFoundException {
+        userProjectService.findUserProjectByUuid(alice.getUuid(), withTickets.getUuid());
+
+        // User exists, the project, then its owner by id
+        queryCounter.assertCounts(3, 0, 0, 0);
+    }
+
+    @Test
+    void testCreateUserProject() throws AppObjectNotFoundException {
+        userProjectService.createUserProject(alice.getUuid(), new ProjectCreateDTO("New", "Description", "OPEN"));
+        entityManager.flush();
+
+        queryCounter.assertCounts(USER_QUERY_SELECTS, 1, 0, 0);
+    }
+
+    @Test
+    void testUpdateUserProject() throws AppObjectNotFoundException {
+        userProjectService.updateUserProject(alice.getUuid(), withTickets.getUuid(), new ProjectUpdateDTO("Renamed", "Description", "ON_GOING", false));
+        entityManager.flush();
+
+        queryCounter.assertCounts(3, 0, 1, 0);
+    }
+
+    @Test
+    void testPatchUserProject() throws AppObjectNotFoundException {
+        userProjectService.updateUserProject(alice.getUuid(), withTickets.getUuid(), new ProjectPatchDTO("Renamed", null, null, null));
+        entityManager.flush();
+
+        queryCounter.assertCounts(3, 0, 1, 0);
+    }
+
+    @Test
+    void testDeleteUserProject() throws AppObjectNotFoundException, AppObjectDeletionConflictException {
+        userProjectService.deleteUserProject(alice.getUuid(), empty.getUuid());
+        entityManager.flush();
+
+        // The ownership lookup and the tickets probe, then the row is deleted directly
+        queryCounter.assertCounts(2, 0, 0, 1);
+        assertEquals(0, statistics(entityManager).getEntityLoadCount());
+        assertEquals(0, statistics(entityManager).getCollectionLoadCount());
+    }
+
+    @Test
+    void testDeleteUserProjectWithTickets() {
+        assertThrows(AppObjectDeletionConflictException.class, () -> userProjectService.deleteUserProject(alice.getUuid(), withTickets.getUuid()));
+
+        queryCounter.assertCounts(2, 0, 0, 0);
+        assertEquals(0, statistics(entityManager).getEntityLoadCount());
+        assertEquals(0, statistics(entityManager).getCollectionLoadCount());
+    }
+}
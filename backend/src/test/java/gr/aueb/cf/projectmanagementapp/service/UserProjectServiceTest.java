@@ -7,9 +7,12 @@ import gr.aueb.cf.projectmanagementapp.core.filters.ProjectFilters;
 import gr.aueb.cf.projectmanagementapp.dto.*;
 import gr.aueb.cf.projectmanagementapp.mapper.Mapper;
 import gr.aueb.cf.projectmanagementapp.model.Project;
-import gr.aueb.cf.projectmanagementapp.model.Ticket;
 import gr.aueb.cf.projectmanagementapp.model.User;
 import gr.aueb.cf.projectmanagementapp.repository.ProjectRepository;
+import gr.aueb.cf.projectmanagementapp.repository.ProjectTicketLookup;
+import gr.aueb.cf.projectmanagementapp.repository.ReadOnlyProjections;
+import gr.aueb.cf.projectmanagementapp.repository.SpecificationQueryExecutor;
+import gr.aueb.cf.projectmanagementapp.repository.TicketRepository;
 import gr.aueb.cf.projectmanagementapp.repository.UserRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -30,7 +33,9 @@ import java.util.List;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -42,6 +47,12 @@ class UserProjectServiceTest {
     @Mock
     private ProjectRepository projectRepository;
 
+    @Mock
+    private TicketRepository ticketRepository;
+
+    @Mock
+    private SpecificationQueryExecutor specificationQueryExecutor;
+
     @Mock
     private Mapper mapper;
 
@@ -60,8 +71,8 @@ class UserProjectServiceTest {
         testUser = User.builder().
                 uuid(testUuid).
                 build();
-        testProject1 = new Project(1L, "uuid1", "name1", "description1", null, false, ProjectStatus.OPEN, testUser, new HashSet<>());
-        testProject2 = new Project(2L, "uuid2", "name2", "description2", null, false, ProjectStatus.OPEN, testUser, new HashSet<>());
+        testProject1 = new Project(1L, "uuid1", "name1", "description1", null, false, ProjectStatus.OPEN, testUser, new HashSet<>(), null);
+        testProject2 = new Project(2L, "uuid2", "name2", "description2", null, false, ProjectStatus.OPEN, testUser, new HashSet<>(), null);
         testUser.addProject(testProject1);
         testUser.addProject(testProject2);
         testProjectReadOnlyDTO1 = new ProjectReadOnlyDTO(testProject1.getId(), testProject1.getUuid(), testProject1.getName(), testProject1.getDescription(), testProject1.getOwner().getUuid(), testProject1.getStatus().name(), testProject1.getIsDeleted());
@@ -98,7 +109,7 @@ class UserProjectServiceTest {
 
         ProjectFiltersDTO filtersDTO = new ProjectFiltersDTO(
                 page, size, sortBy, direction,
-                testUuid, testProject1.getName(), false, new ArrayList<>()
+                testUuid, testProject1.getName(), false, new ArrayList<>(), null, null
         );
 
         ProjectFilters filters = ProjectFilters.builder()
@@ -113,11 +124,10 @@ class UserProjectServiceTest {
         filters.setSortBy(filtersDTO.sortBy());
         filters.setOrderBy(Sort.Direction.valueOf(filtersDTO.orderBy()));
         Pageable pageable = filters.getPageable();
-        Page<Project> projectPage = new PageImpl<>(List.of(testProject1), pageable, 1);
+        Page<ProjectReadOnlyDTO> projectPage = new PageImpl<>(List.of(testProjectReadOnlyDTO1), pageable, 1);
 
         when(mapper.mapToProjectFilters(filtersDTO, testUser.getUuid())).thenReturn(filters);
-        when(projectRepository.findAll(ArgumentMatchers.<Specification<Project>>any(), eq(filters.getPageable()))).thenReturn(projectPage);
-        when(mapper.mapToProjectReadOnlyDTO(testProject1)).thenReturn(testProjectReadOnlyDTO1);
+        when(specificationQueryExecutor.findPage(eq(Project.class), eq(ProjectReadOnlyDTO.class), ArgumentMatchers.<Specification<Project>>any(), eq(filters.getPageable()), eq(filters.getCountKey()), eq(ReadOnlyProjections.PROJECT))).thenReturn(projectPage);
 
         Paginated<ProjectReadOnlyDTO> result = userProjectService.findUserProjectsFilteredPaginated(filtersDTO, testUuid);
 
@@ -162,7 +172,7 @@ class UserProjectServiceTest {
     @Test
     void testCreateUserProjectShouldCreateAndReturnProject() throws AppObjectNotFoundException {
         ProjectCreateDTO createDTO = new ProjectCreateDTO("New Project", "Description", "OPEN");
-        Project newProject = new Project(3L, "uuid3", "name3", "description3", null, false, ProjectStatus.OPEN, testUser, new HashSet<>());
+        Project newProject = new Project(3L, "uuid3", "name3", "description3", null, false, ProjectStatus.OPEN, testUser, new HashSet<>(), null);
         ProjectReadOnlyDTO projectDto = new ProjectReadOnlyDTO(newProject.getId(), newProject.getUuid(), newProject.getName(), newProject.getDescription(), newProject.getOwner().getUuid(), newProject.getStatus().name(), newProject.getIsDeleted());
 
         when(userRepository.findByUuid(testUuid)).thenReturn(Optional.of(testUser));
@@ -198,7 +208,7 @@ class UserProjectServiceTest {
     @Test
     void testUpdateUserProjectWithUpdateDTOShouldUpdateProject() throws AppObjectNotFoundException {
         ProjectUpdateDTO updateDTO = new ProjectUpdateDTO("Updated Project", "New Desc", "ON_GOING", false);
-        Project updatedProject = new Project(1L, "uuid1", updateDTO.name(), updateDTO.description(), null, false, ProjectStatus.valueOf(updateDTO.status()), testUser, new HashSet<>());
+        Project updatedProject = new Project(1L, "uuid1", updateDTO.name(), updateDTO.description(), null, false, ProjectStatus.valueOf(updateDTO.status()), testUser, new HashSet<>(), null);
         ProjectReadOnlyDTO projectDto = new ProjectReadOnlyDTO(testProject1.getId(), testProject1.getUuid(), updatedProject.getName(), updatedProject.getDescription(), testProject1.getOwner().getUuid(), updatedProject.getStatus().name(), testProject1.getIsDeleted());
 
         when(userRepository.existsByUuid(testUuid)).thenReturn(true);
@@ -236,7 +246,7 @@ class UserProjectServiceTest {
     @Test
     void testUpdateUserProjectWithPatchDTOShouldUpdateProject() throws AppObjectNotFoundException {
         ProjectPatchDTO patchDTO = new ProjectPatchDTO("Updated Project", "New Desc", "ON_GOING", false);
-        Project updatedProject = new Project(1L, "uuid1", patchDTO.name(), patchDTO.description(), null, false, ProjectStatus.valueOf(patchDTO.status()), testUser, new HashSet<>());
+        Project updatedProject = new Project(1L, "uuid1", patchDTO.name(), patchDTO.description(), null, false, ProjectStatus.valueOf(patchDTO.status()), testUser, new HashSet<>(), null);
         ProjectReadOnlyDTO projectDto = new ProjectReadOnlyDTO(testProject1.getId(), testProject1.getUuid(), updatedProject.getName(), updatedProject.getDescription(), testProject1.getOwner().getUuid(), updatedProject.getStatus().name(), testProject1.getIsDeleted());
 
         when(userRepository.existsByUuid(testUuid)).thenReturn(true);
@@ -254,45 +264,45 @@ class UserProjectServiceTest {
 
     @Test
     void testDeleteUserProjectWhenUserNotFoundShouldThrowException() {
-        when(userRepository.findByUuid(testUuid)).thenReturn(Optional.empty());
+        when(projectRepository.findProjectLookup(testUuid, testProject1.getUuid())).thenReturn(Optional.empty());
 
-        assertThrows(AppObjectNotFoundException.class, () ->
+        AppObjectNotFoundException e = assertThrows(AppObjectNotFoundException.class, () ->
                 userProjectService.deleteUserProject(testUuid, testProject1.getUuid())
         );
+        assertEquals("UserNotFound", e.getCode());
+        verify(projectRepository, never()).deleteProjectById(anyLong());
     }
 
     @Test
     void testDeleteUserProjectWhenUserExistsButProjectNotFoundShouldThrowException(){
-        when(userRepository.findByUuid(testUuid)).thenReturn(Optional.of(testUser));
-        when(projectRepository.findByUuidAndOwnerUuid(testProject1.getUuid(), testUuid)).thenReturn(Optional.empty());
+        when(projectRepository.findProjectLookup(testUuid, testProject1.getUuid())).thenReturn(Optional.of(new ProjectTicketLookup(testUser.getId(), null)));
 
-        assertThrows(AppObjectNotFoundException.class, () ->
+        AppObjectNotFoundException e = assertThrows(AppObjectNotFoundException.class, () ->
                 userProjectService.deleteUserProject(testUuid, testProject1.getUuid())
         );
+        assertEquals("ProjectNotFound", e.getCode());
+        verify(projectRepository, never()).deleteProjectById(anyLong());
     }
 
     @Test
     void testDeleteUserProjectWhenNoTicketsShouldDelete() throws AppObjectNotFoundException, AppObjectDeletionConflictException {
-        when(userRepository.findByUuid(testUuid)).thenReturn(Optional.of(testUser));
-        when(projectRepository.findByUuidAndOwnerUuid(testProject1.getUuid(), testUuid)).thenReturn(Optional.of(testProject1));
+        when(projectRepository.findProjectLookup(testUuid, testProject1.getUuid())).thenReturn(Optional.of(new ProjectTicketLookup(testUser.getId(), testProject1.getId())));
+        when(ticketRepository.existsByProjectId(testProject1.getId())).thenReturn(false);
 
         userProjectService.deleteUserProject(testUuid, testProject1.getUuid());
 
-        verify(userRepository).save(testUser);
-        assertFalse(testUser.getAllProjects().contains(testProject1));
+        verify(projectRepository).deleteProjectById(testProject1.getId());
     }
 
     @Test
     void testDeleteUserProjectWhenProjectHasTicketsShouldThrowException() {
-        Ticket ticket = new Ticket();
-        testProject1.addTicket(ticket);
-
-        when(userRepository.findByUuid(testUuid)).thenReturn(Optional.of(testUser));
-        when(projectRepository.findByUuidAndOwnerUuid(testProject1.getUuid(),testUuid)).thenReturn(Optional.of(testProject1));
+        when(projectRepository.findProjectLookup(testUuid, testProject1.getUuid())).thenReturn(Optional.of(new ProjectTicketLookup(testUser.getId(), testProject1.getId())));
+        when(ticketRepository.existsByProjectId(testProject1.getId())).thenReturn(true);
 
         assertThrows(AppObjectDeletionConflictException.class, () ->
                 userProjectService.deleteUserProject(testUuid, testProject1.getUuid())
         );
+        verify(projectRepository, never()).deleteProjectById(anyLong());
     }
 
 }
\ No newline at end of file
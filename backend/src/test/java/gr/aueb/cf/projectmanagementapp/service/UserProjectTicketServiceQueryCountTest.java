@@ -0,0 +1,175 @@
+package gr.aueb.cf.projectmanagementapp.service;
+
+import gr.aueb.cf.projectmanagementapp.core.exceptions.AppObjectInvalidArgumentException;
+import gr.aueb.cf.projectmanagementapp.core.exceptions.AppObjectNotFoundException;
+import gr.aueb.cf.projectmanagementapp.core.export.TicketExportFormat;
+import gr.aueb.cf.projectmanagementapp.dto.*;
+import gr.aueb.cf.projectmanagementapp.model.Project;
+import gr.aueb.cf.projectmanagementapp.model.Ticket;
+import gr.aueb.cf.projectmanagementapp.model.User;
+import gr.aueb.cf.projectmanagementapp.querycount.QueryCountTest;
+import gr.aueb.cf.projectmanagementapp.querycount.QueryCounter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.List;
+
+import static gr.aueb.cf.projectmanagementapp.querycount.QueryCountFixtures.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+@QueryCountTest
+@Import(UserProjectTicketService.class)
+class UserProjectTicketServiceQueryCountTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private QueryCounter queryCounter;
+
+    @Autowired
+    private UserProjectTicketService userProjectTicketService;
+
+    private User alice;
+    private Project project;
+    private Ticket first;
+    private Ticket second;
+
+    @BeforeEach
+    void setUp() {
+        alice = user(entityManager, "alice");
+        project = project(entityManager, alice, "Project");
+        first = ticket(entityManager, project, "First");
+        second = ticket(entityManager, project, "Second");
+        startCounting(entityManager, queryCounter);
+    }
+
+    @Test
+    void testGetProjectTickets() throws AppObjectNotFoundException {
+        assertEquals(2, userProjectTicketService.getProjectTickets(alice.getUuid(), project.getUuid()).size());
+
+        // The ownership lookup, then the tickets without their project
+        queryCounter.assertCounts(2, 0, 0, 0);
+    }
+
+    @Test
+    void testExportProjectTickets() throws AppObjectNotFoundException, IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        userProjectTicketService.exportProjectTickets(alice.getUuid(), project.getUuid(), TicketExportFormat.NDJSON, out);
+
+        assertTrue(out.size() > 0);
+        queryCounter.assertCounts(2, 0, 0, 0);
+    }
+
+    @Test
+    void testFindUserProjectTicketsFilteredPaginated() throws AppObjectInvalidArgumentException {
+        assertEquals(2, userProjectTicketService.findUserProjectTicketsFilteredPaginated(new TicketFiltersDTO(), alice.getUuid(), project.getUuid()).data().size());
+
+        queryCounter.assertCounts(1, 0, 0, 0);
+    }
+
+    @Test
+    void testFindUserProjectTicketsFilteredCursor() throws AppObjectInvalidArgumentException {
+        assertEquals(2, userProjectTicketService.findUserProjectTicketsFilteredCursor(new TicketFiltersDTO(), alice.getUuid(), project.getUuid()).data().size());
+
+        queryCounter.assertCounts(1, 0, 0, 0);
+    }
+
+    @Test
+    void testGetProjectTicketByUuid() throws AppObjectNotFoundException {
+        userProjectTicketService.getProjectTicketByUuid(alice.getUuid(), project.getUuid(), first.getUuid());
+
+        // User, project and ticket are resolved by one join
+        queryCounter.assertCounts(1, 0, 0, 0);
+    }
+
+    @Test
+    void testGetProjectTicketByUuidWhenUserMissing() {
+        AppObjectNotFoundException e = assertThrows(AppObjectNotFoundException.class,
+                () -> userProjectTicketService.getProjectTicketByUuid("missing", project.getUuid(), first.getUuid()));
+
+        assertEquals("UserNotFound", e.getCode());
+        queryCounter.assertCounts(1, 0, 0, 0);
+    }
+
+    @Test
+    void testGetProjectTicketByUuidWhenProjectOwnedByAnotherUser() {
+        User bob = user(entityManager, "bob");
+        queryCounter.reset();
+
+        AppObjectNotFoundException e = assertThrows(AppObjectNotFoundException.class,
+                () -> userProjectTicketService.getProjectTicketByUuid(bob.getUuid(), project.getUuid(), first.getUuid()));
+
+        assertEquals("ProjectNotFound", e.getCode());
+        queryCounter.assertCounts(1, 0, 0, 0);
+    }
+
+    @Test
+    void testGetProjectTicketByUuidWhenTicketMissing() {
+        AppObjectNotFoundException e = assertThrows(AppObjectNotFoundException.class,
+                () -> userProjectTicketService.getProjectTicketByUuid(alice.getUuid(), project.getUuid(), "missing"));
+
+        assertEquals("TicketNotFound", e.getCode());
+        assertEquals("Ticket with uuid: missing not found", e.getMessage());
+        queryCounter.assertCounts(1, 0, 0, 0);
+    }
+
+    @Test
+    void testCreateProjectTicket() throws AppObjectNotFoundException {
+        userProjectTicketService.createProjectTicket(alice.getUuid(), project.getUuid(),
+                new TicketCreateDTO("New", "Description", "HIGH", "OPEN", LocalDate.now().plusDays(1)));
+        entityManager.flush();
+
+        // The ownership lookup; the project is only referenced by id
+        queryCounter.assertCounts(1, 1, 0, 0);
+    }
+
+    @Test
+    void testUpdateProjectTicket() throws AppObjectNotFoundException {
+        userProjectTicketService.updateProjectTicket(alice.getUuid(), project.getUuid(), first.getUuid(),
+                new TicketUpdateDTO("Renamed", "Description", "LOW", "ON_GOING", LocalDate.now().plusDays(1)));
+        entityManager.flush();
+
+        queryCounter.assertCounts(1, 0, 1, 0);
+    }
+
+    @Test
+    void testPatchProjectTicket() throws AppObjectNotFoundException {
+        userProjectTicketService.updateProjectTicket(alice.getUuid(), project.getUuid(), first.getUuid(),
+                new TicketPatchDTO("Renamed", null, null, null, null));
+        entityManager.flush();
+
+        queryCounter.assertCounts(1, 0, 1, 0);
+    }
+
+    @Test
+    void testApplyProjectTicketBatch() throws AppObjectNotFoundException {
+        TicketBatchDTO batch = new TicketBatchDTO(
+                List.of(new TicketCreateDTO("New", "Description", "HIGH", "OPEN", LocalDate.now().plusDays(1))),
+                List.of(new TicketBatchPatchDTO(first.getUuid(), new TicketPatchDTO("Renamed", null, null, null, null))),
+                List.of(second.getUuid())
+        );
+
+        TicketBatchResultDTO result = userProjectTicketService.applyProjectTicketBatch(alice.getUuid(), project.getUuid(), batch);
+        entityManager.flush();
+
+        assertEquals(3, result.succeeded());
+        // The ownership lookup, then all referenced tickets in one query
+        queryCounter.assertCounts(2, 1, 1, 1);
+    }
+
+    @Test
+    void testDeleteProjectTicket() throws AppObjectNotFoundException {
+        userProjectTicketService.deleteProjectTicket(alice.getUuid(), project.getUuid(), first.getUuid());
+        entityManager.flush();
+
+        queryCounter.assertCounts(1, 0, 0, 1);
+    }
+}
@@ -3,16 +3,25 @@ package gr.aueb.cf.projectmanagementapp.service;
 import gr.aueb.cf.projectmanagementapp.core.enums.ProjectStatus;
 import gr.aueb.cf.projectmanagementapp.core.enums.TicketPriority;
 import gr.aueb.cf.projectmanagementapp.core.enums.TicketStatus;
+import gr.aueb.cf.projectmanagementapp.core.exceptions.AppObjectInvalidArgumentException;
 import gr.aueb.cf.projectmanagementapp.core.exceptions.AppObjectNotFoundException;
+import gr.aueb.cf.projectmanagementapp.core.export.TicketExportFormat;
+import gr.aueb.cf.projectmanagementapp.core.export.TicketExportWriter;
+import gr.aueb.cf.projectmanagementapp.core.filters.KeysetCursor;
 import gr.aueb.cf.projectmanagementapp.core.filters.TicketFilters;
+import gr.aueb.cf.projectmanagementapp.core.search.TicketSearchDocument;
+import gr.aueb.cf.projectmanagementapp.core.search.TicketSearchHits;
+import gr.aueb.cf.projectmanagementapp.core.search.TicketSearchIndex;
 import gr.aueb.cf.projectmanagementapp.dto.*;
 import gr.aueb.cf.projectmanagementapp.mapper.Mapper;
 import gr.aueb.cf.projectmanagementapp.model.Project;
 import gr.aueb.cf.projectmanagementapp.model.Ticket;
 import gr.aueb.cf.projectmanagementapp.model.User;
 import gr.aueb.cf.projectmanagementapp.repository.ProjectRepository;
+import gr.aueb.cf.projectmanagementapp.repository.ProjectTicketLookup;
+import gr.aueb.cf.projectmanagementapp.repository.ReadOnlyProjections;
+import gr.aueb.cf.projectmanagementapp.repository.SpecificationQueryExecutor;
 import gr.aueb.cf.projectmanagementapp.repository.TicketRepository;
-import gr.aueb.cf.projectmanagementapp.repository.UserRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -23,32 +32,47 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
 import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
 class UserProjectTicketServiceTest {
 
-    @Mock
-    private UserRepository userRepository;
-
     @Mock
     private ProjectRepository projectRepository;
 
     @Mock
     private TicketRepository ticketRepository;
 
+    @Mock
+    private SpecificationQueryExecutor specificationQueryExecutor;
+
+    @Mock
+    private TicketExportWriter ticketExportWriter;
+
+    @Mock
+    private TicketSearchIndex ticketSearchIndex;
+
     @Mock
     private Mapper mapper;
 
@@ -60,6 +84,7 @@ class UserProjectTicketServiceTest {
     private TicketReadOnlyDTO ticketDTO1;
     private Ticket ticket2;
     private TicketReadOnlyDTO ticketDTO2;
+    private final Long testUserId = 10L;
     private final String testUserUuid = "testUserUuid";
     private final String testProjectUuid = "testProjectUuid";
 
@@ -68,7 +93,7 @@ class UserProjectTicketServiceTest {
         User testUser = User.builder().
                 uuid(testUserUuid).
                 build();
-        testProject = new Project(1L, testProjectUuid, "name1", "description1", null, false, ProjectStatus.OPEN, testUser, new HashSet<>());
+        testProject = new Project(1L, testProjectUuid, "name1", "description1", null, false, ProjectStatus.OPEN, testUser, new HashSet<>(), null);
         ticket1 = Ticket.builder()
                 .id(100L)
                 .uuid("ticket1")
@@ -96,15 +121,14 @@ class UserProjectTicketServiceTest {
 
     @Test
     void testGetProjectTicketsWhenUserNotExistsShouldThrowException() {
-        when(userRepository.existsByUuid(testUserUuid)).thenReturn(false);
+        when(projectRepository.findProjectLookup(testUserUuid, testProjectUuid)).thenReturn(Optional.empty());
 
         assertThrows(AppObjectNotFoundException.class, () -> userProjectTicketService.getProjectTickets(testUserUuid, testProjectUuid));
     }
 
     @Test
     void testGetProjectTicketsWhenUserExistsButProjectNotExistsShouldThrowException() {
-        when(userRepository.existsByUuid(testUserUuid)).thenReturn(true);
-        when(projectRepository.existsByUuidAndOwnerUuid(testProjectUuid, testUserUuid)).thenReturn(false);
+        when(projectRepository.findProjectLookup(testUserUuid, testProjectUuid)).thenReturn(Optional.of(new ProjectTicketLookup(testUserId, null)));
 
         assertThrows(AppObjectNotFoundException.class, () -> userProjectTicketService.getProjectTickets(testUserUuid, testProjectUuid));
     }
@@ -112,8 +136,7 @@ class UserProjectTicketServiceTest {
     @Test
     void testGetProjectTicketsWhenUserAndProjectExistShouldReturnProjectTickets() throws AppObjectNotFoundException {
 
-        when(userRepository.existsByUuid(testUserUuid)).thenReturn(true);
-        when(projectRepository.existsByUuidAndOwnerUuid(testProjectUuid, testUserUuid)).thenReturn(true);
+        when(projectRepository.findProjectLookup(testUserUuid, testProjectUuid)).thenReturn(Optional.of(new ProjectTicketLookup(testUserId, testProject.getId())));
         when(ticketRepository.findByProjectUuid(testProjectUuid)).thenReturn(List.of(ticket1, ticket2));
         when(mapper.mapToTicketReadOnlyDTO(ticket1)).thenReturn(ticketDTO1);
         when(mapper.mapToTicketReadOnlyDTO(ticket2)).thenReturn(ticketDTO2);
@@ -126,7 +149,30 @@ class UserProjectTicketServiceTest {
     }
 
     @Test
-    void testFindUserProjectTicketsFilteredPaginatedShouldReturnPaginatedResults() {
+    void testExportProjectTicketsWhenProjectNotExistsShouldThrowException() throws IOException {
+        when(projectRepository.findProjectLookup(testUserUuid, testProjectUuid)).thenReturn(Optional.of(new ProjectTicketLookup(testUserId, null)));
+
+        assertThrows(AppObjectNotFoundException.class, () -> userProjectTicketService.exportProjectTickets(testUserUuid, testProjectUuid, TicketExportFormat.CSV, new ByteArrayOutputStream()));
+        verify(ticketRepository, never()).streamByProjectUuid(any());
+        verify(ticketExportWriter, never()).write(any(), any(), any());
+    }
+
+    @Test
+    void testExportProjectTicketsShouldStreamTicketsToWriterAndCloseStream() throws AppObjectNotFoundException, IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        boolean[] closed = {false};
+        Stream<TicketReadOnlyDTO> tickets = Stream.of(ticketDTO1, ticketDTO2).onClose(() -> closed[0] = true);
+        when(projectRepository.findProjectLookup(testUserUuid, testProjectUuid)).thenReturn(Optional.of(new ProjectTicketLookup(testUserId, testProject.getId())));
+        when(ticketRepository.streamByProjectUuid(testProjectUuid)).thenReturn(tickets);
+
+        userProjectTicketService.exportProjectTickets(testUserUuid, testProjectUuid, TicketExportFormat.NDJSON, out);
+
+        verify(ticketExportWriter).write(tickets, TicketExportFormat.NDJSON, out);
+        assertTrue(closed[0]);
+    }
+
+    @Test
+    void testFindUserProjectTicketsFilteredPaginatedShouldReturnPaginatedResults() throws AppObjectInvalidArgumentException {
         int page = 0;
         int size = 15;
         String sortBy = "id";
@@ -134,7 +180,7 @@ class UserProjectTicketServiceTest {
 
         TicketFiltersDTO filtersDTO = new TicketFiltersDTO(
                 page, size, sortBy, direction,
-                ticket1.getUuid(), ticket1.getTitle(), new ArrayList<>(), new ArrayList<>(), LocalDate.now().plusDays(90)
+                ticket1.getUuid(), ticket1.getTitle(), new ArrayList<>(), new ArrayList<>(), LocalDate.now().plusDays(90), null, null, null
         );
 
         TicketFilters filters = TicketFilters.builder()
@@ -151,11 +197,10 @@ class UserProjectTicketServiceTest {
         filters.setSortBy(filtersDTO.sortBy());
         filters.setOrderBy(Sort.Direction.valueOf(filtersDTO.orderBy()));
         Pageable pageable = filters.getPageable();
-        Page<Ticket> ticketPage = new PageImpl<>(List.of(ticket1), pageable, 1);
+        Page<TicketReadOnlyDTO> ticketPage = new PageImpl<>(List.of(ticketDTO1), pageable, 1);
 
         when(mapper.mapToTicketFilters(filtersDTO, testUserUuid, testProjectUuid)).thenReturn(filters);
-        when(ticketRepository.findAll(ArgumentMatchers.<Specification<Ticket>>any(), eq(filters.getPageable()))).thenReturn(ticketPage);
-        when(mapper.mapToTicketReadOnlyDTO(ticket1)).thenReturn(ticketDTO1);
+        when(specificationQueryExecutor.findPage(eq(Ticket.class), eq(TicketReadOnlyDTO.class), ArgumentMatchers.<Specification<Ticket>>any(), eq(filters.getPageable()), eq(filters.getCountKey()), eq(ReadOnlyProjections.TICKET))).thenReturn(ticketPage);
 
         Paginated<TicketReadOnlyDTO> result = userProjectTicketService.findUserProjectTicketsFilteredPaginated(filtersDTO, testUserUuid, testProjectUuid);
 
@@ -164,35 +209,165 @@ class UserProjectTicketServiceTest {
         assertEquals(ticket1.getUuid(), result.data().getFirst().uuid());
     }
 
+    @Test
+    void testFindUserProjectTicketsFilteredPaginatedWithoutCountShouldNotQueryTotal() throws AppObjectInvalidArgumentException {
+        TicketFiltersDTO filtersDTO = new TicketFiltersDTO();
+        TicketFilters filters = TicketFilters.builder().projectUuid(testProjectUuid).ownerUuid(testUserUuid).build();
+        filters.setWithCount(false);
+        Slice<TicketReadOnlyDTO> ticketSlice = new SliceImpl<>(List.of(ticketDTO1), filters.getPageable(), true);
+
+        when(mapper.mapToTicketFilters(filtersDTO, testUserUuid, testProjectUuid)).thenReturn(filters);
+        when(specificationQueryExecutor.findSlice(eq(Ticket.class), eq(TicketReadOnlyDTO.class), ArgumentMatchers.<Specification<Ticket>>any(), eq(filters.getPageable()), eq(ReadOnlyProjections.TICKET))).thenReturn(ticketSlice);
+
+        Paginated<TicketReadOnlyDTO> result = userProjectTicketService.findUserProjectTicketsFilteredPaginated(filtersDTO, testUserUuid, testProjectUuid);
+
+        assertEquals(List.of(ticketDTO1), result.data());
+        assertTrue(result.hasNext());
+        assertNull(result.totalItems());
+        assertNull(result.totalPages());
+        verify(specificationQueryExecutor, never()).findPage(any(), any(), any(), any(), any(), any());
+    }
+
+    @Test
+    void testFindUserProjectTicketsFilteredPaginatedWithQueryShouldReturnRowsInRelevanceOrder() throws AppObjectInvalidArgumentException {
+        TicketFiltersDTO filtersDTO = new TicketFiltersDTO();
+        TicketFilters filters = TicketFilters.builder().projectUuid(testProjectUuid).ownerUuid(testUserUuid).q("login").build();
+
+        when(mapper.mapToTicketFilters(filtersDTO, testUserUuid, testProjectUuid)).thenReturn(filters);
+        when(ticketSearchIndex.search(filters)).thenReturn(new TicketSearchHits(List.of(ticket2.getId(), 999L, ticket1.getId()), 3L, false));
+        when(ticketRepository.findReadOnlyByIdIn(List.of(ticket2.getId(), 999L, ticket1.getId()), testProjectUuid, testUserUuid))
+                .thenReturn(List.of(ticketDTO1, ticketDTO2));
+
+        Paginated<TicketReadOnlyDTO> result = userProjectTicketService.findUserProjectTicketsFilteredPaginated(filtersDTO, testUserUuid, testProjectUuid);
+
+        // The stale hit 999 is dropped and the index order is kept
+        assertEquals(List.of(ticketDTO2, ticketDTO1), result.data());
+        verify(specificationQueryExecutor, never()).findPage(any(), any(), any(), any(), any(), any());
+    }
+
+    @Test
+    void testFindUserProjectTicketsFilteredPaginatedWithQueryAndNoHitsShouldNotQueryTickets() throws AppObjectInvalidArgumentException {
+        TicketFiltersDTO filtersDTO = new TicketFiltersDTO();
+        TicketFilters filters = TicketFilters.builder().projectUuid(testProjectUuid).ownerUuid(testUserUuid).q("nothing").build();
+        filters.setWithCount(false);
+
+        when(mapper.mapToTicketFilters(filtersDTO, testUserUuid, testProjectUuid)).thenReturn(filters);
+        when(ticketSearchIndex.search(filters)).thenReturn(TicketSearchHits.empty(false));
+
+        Paginated<TicketReadOnlyDTO> result = userProjectTicketService.findUserProjectTicketsFilteredPaginated(filtersDTO, testUserUuid, testProjectUuid);
+
+        assertTrue(result.data().isEmpty());
+        assertNull(result.totalItems());
+        verify(ticketRepository, never()).findReadOnlyByIdIn(any(), any(), any());
+    }
+
+    @Test
+    void testFindUserProjectTicketsFilteredPaginatedWithQueryPastResultWindowShouldThrowException() {
+        TicketFiltersDTO filtersDTO = new TicketFiltersDTO();
+        TicketFilters filters = TicketFilters.builder().projectUuid(testProjectUuid).ownerUuid(testUserUuid).q("login").build();
+        filters.setSize(100);
+        filters.setPage(TicketSearchIndex.MAX_RESULT_WINDOW / 100);
+
+        when(mapper.mapToTicketFilters(filtersDTO, testUserUuid, testProjectUuid)).thenReturn(filters);
+
+        assertThrows(AppObjectInvalidArgumentException.class, () -> userProjectTicketService.findUserProjectTicketsFilteredPaginated(filtersDTO, testUserUuid, testProjectUuid));
+        verify(ticketSearchIndex, never()).search(any());
+    }
+
+    @Test
+    void testFindUserProjectTicketsFilteredCursorWithQueryShouldThrowException() {
+        TicketFiltersDTO filtersDTO = new TicketFiltersDTO();
+        TicketFilters filters = TicketFilters.builder().projectUuid(testProjectUuid).ownerUuid(testUserUuid).q("login").build();
+
+        when(mapper.mapToTicketFilters(filtersDTO, testUserUuid, testProjectUuid)).thenReturn(filters);
+
+        assertThrows(AppObjectInvalidArgumentException.class, () -> userProjectTicketService.findUserProjectTicketsFilteredCursor(filtersDTO, testUserUuid, testProjectUuid));
+    }
+
+    @Test
+    void testFindUserProjectTicketsFilteredCursorWhenMoreRowsShouldReturnNextCursor() throws Exception {
+        TicketFiltersDTO filtersDTO = new TicketFiltersDTO(null, 1, "title", "ASC", null, null, null, null, null, null, null, null);
+        TicketFilters filters = TicketFilters.builder().projectUuid(testProjectUuid).ownerUuid(testUserUuid).build();
+        filters.setSize(1);
+        filters.setSortBy("title");
+        filters.setOrderBy(Sort.Direction.ASC);
+
+        when(mapper.mapToTicketFilters(filtersDTO, testUserUuid, testProjectUuid)).thenReturn(filters);
+        when(specificationQueryExecutor.findFirst(eq(Ticket.class), eq(TicketReadOnlyDTO.class), ArgumentMatchers.<Specification<Ticket>>any(), eq(filters.getKeysetSort()), eq(2), eq(ReadOnlyProjections.TICKET))).thenReturn(List.of(ticketDTO1, ticketDTO2));
+
+        CursorPaginated<TicketReadOnlyDTO> result = userProjectTicketService.findUserProjectTicketsFilteredCursor(filtersDTO, testUserUuid, testProjectUuid);
+
+        assertEquals(List.of(ticketDTO1), result.data());
+        assertTrue(result.hasNext());
+        KeysetCursor next = KeysetCursor.decode(result.nextCursor(), "title", Sort.Direction.ASC);
+        assertEquals(ticket1.getId(), next.id());
+        assertEquals(ticket1.getTitle(), next.value());
+    }
+
+    @Test
+    void testFindUserProjectTicketsFilteredCursorOnLastPageShouldNotReturnNextCursor() throws Exception {
+        TicketFiltersDTO filtersDTO = new TicketFiltersDTO();
+        TicketFilters filters = TicketFilters.builder().projectUuid(testProjectUuid).ownerUuid(testUserUuid).build();
+
+        when(mapper.mapToTicketFilters(filtersDTO, testUserUuid, testProjectUuid)).thenReturn(filters);
+        when(specificationQueryExecutor.findFirst(eq(Ticket.class), eq(TicketReadOnlyDTO.class), ArgumentMatchers.<Specification<Ticket>>any(), eq(filters.getKeysetSort()), eq(filters.getPageSize() + 1), eq(ReadOnlyProjections.TICKET))).thenReturn(List.of(ticketDTO1, ticketDTO2));
+
+        CursorPaginated<TicketReadOnlyDTO> result = userProjectTicketService.findUserProjectTicketsFilteredCursor(filtersDTO, testUserUuid, testProjectUuid);
+
+        assertEquals(2, result.data().size());
+        assertFalse(result.hasNext());
+        assertNull(result.nextCursor());
+    }
+
+    @Test
+    void testFindUserProjectTicketsFilteredCursorWhenSortFieldNotInResultShouldThrowException() {
+        TicketFiltersDTO filtersDTO = new TicketFiltersDTO();
+        TicketFilters filters = TicketFilters.builder().projectUuid(testProjectUuid).ownerUuid(testUserUuid).build();
+        filters.setSortBy("createdAt");
+
+        when(mapper.mapToTicketFilters(filtersDTO, testUserUuid, testProjectUuid)).thenReturn(filters);
+
+        assertThrows(AppObjectInvalidArgumentException.class, () -> userProjectTicketService.findUserProjectTicketsFilteredCursor(filtersDTO, testUserUuid, testProjectUuid));
+        verifyNoInteractions(specificationQueryExecutor);
+    }
+
+    @Test
+    void testFindUserProjectTicketsFilteredCursorWhenCursorIssuedForOtherSortShouldThrowException() {
+        String cursor = new KeysetCursor("title", Sort.Direction.ASC, "title1", 100L).encode();
+        TicketFiltersDTO filtersDTO = new TicketFiltersDTO();
+        TicketFilters filters = TicketFilters.builder().projectUuid(testProjectUuid).ownerUuid(testUserUuid).build();
+        filters.setSortBy("expiryDate");
+        filters.setCursor(cursor);
+
+        when(mapper.mapToTicketFilters(filtersDTO, testUserUuid, testProjectUuid)).thenReturn(filters);
+
+        assertThrows(AppObjectInvalidArgumentException.class, () -> userProjectTicketService.findUserProjectTicketsFilteredCursor(filtersDTO, testUserUuid, testProjectUuid));
+    }
+
     @Test
     void testGetProjectTicketByUuidWhenUserNotExistsShouldThrowException() {
-        when(userRepository.existsByUuid(testUserUuid)).thenReturn(false);
+        when(ticketRepository.findTicketLookup(testUserUuid, testProjectUuid, ticket1.getUuid())).thenReturn(Optional.empty());
 
         assertThrows(AppObjectNotFoundException.class, () -> userProjectTicketService.getProjectTicketByUuid(testUserUuid, testProjectUuid, ticket1.getUuid()));
     }
 
     @Test
     void testGetProjectTicketByUuidWhenUserExistsButProjectNotExistsShouldThrowException() {
-        when(userRepository.existsByUuid(testUserUuid)).thenReturn(true);
-        when(projectRepository.existsByUuidAndOwnerUuid(testProjectUuid, testUserUuid)).thenReturn(false);
+        when(ticketRepository.findTicketLookup(testUserUuid, testProjectUuid, ticket1.getUuid())).thenReturn(Optional.of(new ProjectTicketLookup(testUserId, null)));
 
         assertThrows(AppObjectNotFoundException.class, () -> userProjectTicketService.getProjectTicketByUuid(testUserUuid, testProjectUuid, ticket1.getUuid()));
     }
 
     @Test
     void testGetProjectTicketByUuidWhenUserAndProjectExistButTicketNotExistsShouldThrowException() {
-        when(userRepository.existsByUuid(testUserUuid)).thenReturn(true);
-        when(projectRepository.existsByUuidAndOwnerUuid(testProjectUuid, testUserUuid)).thenReturn(true);
-        when(ticketRepository.findByUuidAndProjectUuid(ticket1.getUuid(), testProjectUuid)).thenReturn(Optional.empty());
+        when(ticketRepository.findTicketLookup(testUserUuid, testProjectUuid, ticket1.getUuid())).thenReturn(Optional.of(new ProjectTicketLookup(testUserId, testProject.getId(), null)));
 
         assertThrows(AppObjectNotFoundException.class, () -> userProjectTicketService.getProjectTicketByUuid(testUserUuid, testProjectUuid, ticket1.getUuid()));
     }
 
     @Test
     void testGetProjectTicketByUuidWhenUserAndProjectAndTicketExistShouldReturnProjectTicket() throws AppObjectNotFoundException {
-        when(userRepository.existsByUuid(testUserUuid)).thenReturn(true);
-        when(projectRepository.existsByUuidAndOwnerUuid(testProjectUuid, testUserUuid)).thenReturn(true);
-        when(ticketRepository.findByUuidAndProjectUuid(ticket1.getUuid(), testProjectUuid)).thenReturn(Optional.of(ticket1));
+        when(ticketRepository.findTicketLookup(testUserUuid, testProjectUuid, ticket1.getUuid())).thenReturn(Optional.of(new ProjectTicketLookup(testUserId, testProject.getId(), ticket1)));
         when(mapper.mapToTicketReadOnlyDTO(ticket1)).thenReturn(ticketDTO1);
 
         TicketReadOnlyDTO result = userProjectTicketService.getProjectTicketByUuid(testUserUuid, testProjectUuid, ticket1.getUuid());
@@ -202,7 +377,7 @@ class UserProjectTicketServiceTest {
     @Test
     void testCreateProjectTicketWhenUserNotExistsShouldThrowException() {
         TicketCreateDTO createDTO = new TicketCreateDTO("test-title", "test-desc", TicketPriority.LOW.name(), TicketStatus.OPEN.name(), LocalDate.now().plusDays(1));
-        when(userRepository.existsByUuid(testUserUuid)).thenReturn(false);
+        when(projectRepository.findProjectLookup(testUserUuid, testProjectUuid)).thenReturn(Optional.empty());
 
         assertThrows(AppObjectNotFoundException.class, () -> userProjectTicketService.createProjectTicket(testUserUuid, testProjectUuid, createDTO));
     }
@@ -210,8 +385,7 @@ class UserProjectTicketServiceTest {
     @Test
     void testCreateProjectTicketWhenUserExistsButProjectNotFoundShouldThrowException() {
         TicketCreateDTO createDTO = new TicketCreateDTO("test-title", "test-desc", TicketPriority.LOW.name(), TicketStatus.OPEN.name(), LocalDate.now().plusDays(1));
-        when(userRepository.existsByUuid(testUserUuid)).thenReturn(true);
-        when(projectRepository.findByUuidAndOwnerUuid(testProjectUuid, testUserUuid)).thenReturn(Optional.empty());
+        when(projectRepository.findProjectLookup(testUserUuid, testProjectUuid)).thenReturn(Optional.of(new ProjectTicketLookup(testUserId, null)));
 
         assertThrows(AppObjectNotFoundException.class, () -> userProjectTicketService.createProjectTicket(testUserUuid, testProjectUuid, createDTO));
     }
@@ -237,8 +411,8 @@ class UserProjectTicketServiceTest {
                 .project(testProject)
                 .build();
         TicketReadOnlyDTO readOnlyDTO = new TicketReadOnlyDTO(createdTicket.getId(), createdTicket.getUuid(), createdTicket.getTitle(), createdTicket.getDescription(), createdTicket.getPriority().name(), createdTicket.getStatus().name(), createdTicket.getExpiryDate());
-        when(userRepository.existsByUuid(testUserUuid)).thenReturn(true);
-        when(projectRepository.findByUuidAndOwnerUuid(testProjectUuid, testUserUuid)).thenReturn(Optional.of(testProject));
+        when(projectRepository.findProjectLookup(testUserUuid, testProjectUuid)).thenReturn(Optional.of(new ProjectTicketLookup(testUserId, testProject.getId())));
+        when(projectRepository.getReferenceById(testProject.getId())).thenReturn(testProject);
         when(mapper.mapToTicket(createDTO)).thenReturn(newTicket);
         when(ticketRepository.save(newTicket)).thenReturn(createdTicket);
         when(mapper.mapToTicketReadOnlyDTO(createdTicket)).thenReturn(readOnlyDTO);
@@ -246,13 +420,14 @@ class UserProjectTicketServiceTest {
         TicketReadOnlyDTO result = userProjectTicketService.createProjectTicket(testUserUuid, testProjectUuid, createDTO);
         assertEquals(readOnlyDTO, result);
         verify(ticketRepository).save(newTicket);
+        verify(ticketSearchIndex).index(TicketSearchDocument.of(createdTicket, testProjectUuid));
     }
 
     @Test
     void testUpdateProjectTicketWithTicketUpdateDTOWhenUserNotExistsShouldThrowException() {
         TicketUpdateDTO updateDTO = new TicketUpdateDTO("updated-title", "updated-desc", TicketPriority.LOW.name(), TicketStatus.OPEN.name(), LocalDate.now().plusDays(1));
 
-        when(userRepository.existsByUuid(testUserUuid)).thenReturn(false);
+        when(ticketRepository.findTicketLookup(testUserUuid, testProjectUuid, ticket1.getUuid())).thenReturn(Optional.empty());
 
         assertThrows(AppObjectNotFoundException.class, () -> userProjectTicketService.updateProjectTicket(testUserUuid, testProjectUuid, ticket1.getUuid(), updateDTO));
     }
@@ -261,8 +436,7 @@ class UserProjectTicketServiceTest {
     void testUpdateProjectTicketWithTicketUpdateDTOWhenUserExistsButProjectNotFoundShouldThrowException() {
         TicketUpdateDTO updateDTO = new TicketUpdateDTO("updated-title", "updated-desc", TicketPriority.LOW.name(), TicketStatus.OPEN.name(), LocalDate.now().plusDays(1));
 
-        when(userRepository.existsByUuid(testUserUuid)).thenReturn(true);
-        when(projectRepository.existsByUuidAndOwnerUuid(testProjectUuid, testUserUuid)).thenReturn(false);
+        when(ticketRepository.findTicketLookup(testUserUuid, testProjectUuid, ticket1.getUuid())).thenReturn(Optional.of(new ProjectTicketLookup(testUserId, null)));
 
         assertThrows(AppObjectNotFoundException.class, () -> userProjectTicketService.updateProjectTicket(testUserUuid, testProjectUuid, ticket1.getUuid(), updateDTO));
     }
@@ -271,9 +445,7 @@ class UserProjectTicketServiceTest {
     void testUpdateProjectTicketWithTicketUpdateDTOWhenUserAndProjectExistButTicketNotFoundShouldThrowException() {
         TicketUpdateDTO updateDTO = new TicketUpdateDTO("updated-title", "updated-desc", TicketPriority.LOW.name(), TicketStatus.OPEN.name(), LocalDate.now().plusDays(1));
 
-        when(userRepository.existsByUuid(testUserUuid)).thenReturn(true);
-        when(projectRepository.existsByUuidAndOwnerUuid(testProjectUuid, testUserUuid)).thenReturn(true);
-        when(ticketRepository.findByUuidAndProjectUuid(ticket1.getUuid(), testProjectUuid)).thenReturn(Optional.empty());
+        when(ticketRepository.findTicketLookup(testUserUuid, testProjectUuid, ticket1.getUuid())).thenReturn(Optional.of(new ProjectTicketLookup(testUserId, testProject.getId(), null)));
 
         assertThrows(AppObjectNotFoundException.class, () -> userProjectTicketService.updateProjectTicket(testUserUuid, testProjectUuid, ticket1.getUuid(), updateDTO));
     }
@@ -293,9 +465,7 @@ class UserProjectTicketServiceTest {
                 .build();
         TicketReadOnlyDTO readOnlyDTO = ticketDTO1 = new TicketReadOnlyDTO(updatedTicket.getId(), updatedTicket.getUuid(), updatedTicket.getTitle(), updatedTicket.getDescription(), updatedTicket.getPriority().name(), updatedTicket.getStatus().name(), updatedTicket.getExpiryDate());
 
-        when(userRepository.existsByUuid(testUserUuid)).thenReturn(true);
-        when(projectRepository.existsByUuidAndOwnerUuid(testProjectUuid, testUserUuid)).thenReturn(true);
-        when(ticketRepository.findByUuidAndProjectUuid(ticket1.getUuid(), testProjectUuid)).thenReturn(Optional.of(ticket1));
+        when(ticketRepository.findTicketLookup(testUserUuid, testProjectUuid, ticket1.getUuid())).thenReturn(Optional.of(new ProjectTicketLookup(testUserId, testProject.getId(), ticket1)));
         when(mapper.mapToTicket(updateDTO, ticket1)).thenReturn(updatedTicket);
         when(ticketRepository.save(updatedTicket)).thenReturn(updatedTicket);
         when(mapper.mapToTicketReadOnlyDTO(updatedTicket)).thenReturn(readOnlyDTO);
@@ -309,7 +479,7 @@ class UserProjectTicketServiceTest {
     void testUpdateProjectTicketWithTicketPatchDTOWhenUserNotExistsShouldThrowException() {
         TicketPatchDTO patchDTO = new TicketPatchDTO("updated-title", "updated-desc", TicketPriority.LOW.name(), TicketStatus.OPEN.name(), LocalDate.now().plusDays(1));
 
-        when(userRepository.existsByUuid(testUserUuid)).thenReturn(false);
+        when(ticketRepository.findTicketLookup(testUserUuid, testProjectUuid, ticket1.getUuid())).thenReturn(Optional.empty());
 
         assertThrows(AppObjectNotFoundException.class, () -> userProjectTicketService.updateProjectTicket(testUserUuid, testProjectUuid, ticket1.getUuid(), patchDTO));
     }
@@ -318,8 +488,7 @@ class UserProjectTicketServiceTest {
     void testUpdateProjectTicketWithTicketPatchDTOWhenUserExistsButProjectNotFoundShouldThrowException() {
         TicketPatchDTO patchDTO = new TicketPatchDTO("updated-title", "updated-desc", TicketPriority.LOW.name(), TicketStatus.OPEN.name(), LocalDate.now().plusDays(1));
 
-        when(userRepository.existsByUuid(testUserUuid)).thenReturn(true);
-        when(projectRepository.existsByUuidAndOwnerUuid(testProjectUuid, testUserUuid)).thenReturn(false);
+        when(ticketRepository.findTicketLookup(testUserUuid, testProjectUuid, ticket1.getUuid())).thenReturn(Optional.of(new ProjectTicketLookup(testUserId, null)));
 
         assertThrows(AppObjectNotFoundException.class, () -> userProjectTicketService.updateProjectTicket(testUserUuid, testProjectUuid, ticket1.getUuid(), patchDTO));
     }
@@ -328,9 +497,7 @@ class UserProjectTicketServiceTest {
     void testUpdateProjectTicketWithTicketPatchDTOWhenUserAndProjectExistButTicketNotFoundShouldThrowException() {
         TicketPatchDTO patchDTO = new TicketPatchDTO("updated-title", "updated-desc", TicketPriority.LOW.name(), TicketStatus.OPEN.name(), LocalDate.now().plusDays(1));
 
-        when(userRepository.existsByUuid(testUserUuid)).thenReturn(true);
-        when(projectRepository.existsByUuidAndOwnerUuid(testProjectUuid, testUserUuid)).thenReturn(true);
-        when(ticketRepository.findByUuidAndProjectUuid(ticket1.getUuid(), testProjectUuid)).thenReturn(Optional.empty());
+        when(ticketRepository.findTicketLookup(testUserUuid, testProjectUuid, ticket1.getUuid())).thenReturn(Optional.of(new ProjectTicketLookup(testUserId, testProject.getId(), null)));
 
         assertThrows(AppObjectNotFoundException.class, () -> userProjectTicketService.updateProjectTicket(testUserUuid, testProjectUuid, ticket1.getUuid(), patchDTO));
     }
@@ -350,9 +517,7 @@ class UserProjectTicketServiceTest {
                 .build();
         TicketReadOnlyDTO readOnlyDTO = ticketDTO1 = new TicketReadOnlyDTO(updatedTicket.getId(), updatedTicket.getUuid(), updatedTicket.getTitle(), updatedTicket.getDescription(), updatedTicket.getPriority().name(), updatedTicket.getStatus().name(), updatedTicket.getExpiryDate());
 
-        when(userRepository.existsByUuid(testUserUuid)).thenReturn(true);
-        when(projectRepository.existsByUuidAndOwnerUuid(testProjectUuid, testUserUuid)).thenReturn(true);
-        when(ticketRepository.findByUuidAndProjectUuid(ticket1.getUuid(), testProjectUuid)).thenReturn(Optional.of(ticket1));
+        when(ticketRepository.findTicketLookup(testUserUuid, testProjectUuid, ticket1.getUuid())).thenReturn(Optional.of(new ProjectTicketLookup(testUserId, testProject.getId(), ticket1)));
         when(mapper.mapToTicket(patchDTO, ticket1)).thenReturn(updatedTicket);
         when(ticketRepository.save(updatedTicket)).thenReturn(updatedTicket);
         when(mapper.mapToTicketReadOnlyDTO(updatedTicket)).thenReturn(readOnlyDTO);
@@ -365,37 +530,94 @@ class UserProjectTicketServiceTest {
 
     @Test
     void testDeleteProjectTicketWhenUserNotExistsShouldThrowException() {
-        when(userRepository.existsByUuid(testUserUuid)).thenReturn(false);
+        when(ticketRepository.findTicketLookup(testUserUuid, testProjectUuid, ticket1.getUuid())).thenReturn(Optional.empty());
 
         assertThrows(AppObjectNotFoundException.class, () -> userProjectTicketService.deleteProjectTicket(testUserUuid, testProjectUuid, ticket1.getUuid()));
     }
 
     @Test
     void testDeleteProjectTicketWhenUserExistsButProjectNotFoundShouldThrowException() {
-        when(userRepository.existsByUuid(testUserUuid)).thenReturn(true);
-        when(projectRepository.existsByUuidAndOwnerUuid(testProjectUuid, testUserUuid)).thenReturn(false);
+        when(ticketRepository.findTicketLookup(testUserUuid, testProjectUuid, ticket1.getUuid())).thenReturn(Optional.of(new ProjectTicketLookup(testUserId, null)));
 
         assertThrows(AppObjectNotFoundException.class, () -> userProjectTicketService.deleteProjectTicket(testUserUuid, testProjectUuid, ticket1.getUuid()));
     }
 
     @Test
     void testDeleteProjectTicketWhenUserAndProjectExistButTicketNotFoundShouldThrowException() {
-        when(userRepository.existsByUuid(testUserUuid)).thenReturn(true);
-        when(projectRepository.existsByUuidAndOwnerUuid(testProjectUuid, testUserUuid)).thenReturn(true);
-        when(ticketRepository.findByUuidAndProjectUuid(ticket1.getUuid(), testProjectUuid)).thenReturn(Optional.empty());
+        when(ticketRepository.findTicketLookup(testUserUuid, testProjectUuid, ticket1.getUuid())).thenReturn(Optional.of(new ProjectTicketLookup(testUserId, testProject.getId(), null)));
 
         assertThrows(AppObjectNotFoundException.class, () -> userProjectTicketService.deleteProjectTicket(testUserUuid, testProjectUuid, ticket1.getUuid()));
     }
 
     @Test
     void testDeleteProjectTicketShouldDeleteTicket() throws AppObjectNotFoundException {
-        when(userRepository.existsByUuid(testUserUuid)).thenReturn(true);
-        when(projectRepository.existsByUuidAndOwnerUuid(testProjectUuid, testUserUuid)).thenReturn(true);
-        when(ticketRepository.findByUuidAndProjectUuid(ticket1.getUuid(), testProjectUuid)).thenReturn(Optional.of(ticket1));
+        when(ticketRepository.findTicketLookup(testUserUuid, testProjectUuid, ticket1.getUuid())).thenReturn(Optional.of(new ProjectTicketLookup(testUserId, testProject.getId(), ticket1)));
 
         userProjectTicketService.deleteProjectTicket(testUserUuid, testProjectUuid, ticket1.getUuid());
 
         verify(ticketRepository).delete(ticket1);
+        verify(ticketSearchIndex).remove(ticket1.getId());
+    }
+
+    @Test
+    void testApplyProjectTicketBatchWhenProjectNotFoundShouldThrowException() {
+        TicketBatchDTO batchDTO = new TicketBatchDTO(null, null, List.of(ticket1.getUuid()));
+        when(projectRepository.findProjectLookup(testUserUuid, testProjectUuid)).thenReturn(Optional.of(new ProjectTicketLookup(testUserId, null)));
+
+        assertThrows(AppObjectNotFoundException.class, () -> userProjectTicketService.applyProjectTicketBatch(testUserUuid, testProjectUuid, batchDTO));
+        verify(ticketRepository, never()).deleteAll(any());
+    }
+
+    @Test
+    void testApplyProjectTicketBatchShouldApplyAllOperationsAndReportMissingTickets() throws AppObjectNotFoundException {
+        TicketCreateDTO createDTO = new TicketCreateDTO("test-title", "test-desc", TicketPriority.LOW.name(), TicketStatus.OPEN.name(), LocalDate.now().plusDays(1));
+        TicketPatchDTO patchDTO = new TicketPatchDTO(null, null, TicketPriority.HIGH.name(), null, null);
+        TicketBatchDTO batchDTO = new TicketBatchDTO(
+                List.of(createDTO),
+                List.of(new TicketBatchPatchDTO(ticket1.getUuid(), patchDTO), new TicketBatchPatchDTO("missing", patchDTO)),
+                List.of(ticket2.getUuid()));
+        Ticket newTicket = Ticket.builder().title(createDTO.title()).build();
+        Ticket createdTicket = Ticket.builder().id(1000L).uuid("uuid-random-100").title(createDTO.title()).build();
+        TicketReadOnlyDTO createdDTO = new TicketReadOnlyDTO(1000L, "uuid-random-100", createDTO.title(), createDTO.description(), createDTO.priority(), createDTO.status(), createDTO.expiryDate());
+        when(projectRepository.findProjectLookup(testUserUuid, testProjectUuid)).thenReturn(Optional.of(new ProjectTicketLookup(testUserId, testProject.getId())));
+        when(projectRepository.getReferenceById(testProject.getId())).thenReturn(testProject);
+        when(mapper.mapToTicket(createDTO)).thenReturn(newTicket);
+        when(ticketRepository.saveAll(List.of(newTicket))).thenReturn(List.of(createdTicket));
+        when(mapper.mapToTicketReadOnlyDTO(createdTicket)).thenReturn(createdDTO);
+        when(ticketRepository.findByProjectUuidAndUuidIn(eq(testProjectUuid), ArgumentMatchers.<Collection<String>>argThat(uuids ->
+                uuids.containsAll(List.of(ticket1.getUuid(), "missing", ticket2.getUuid())))))
+                .thenReturn(List.of(ticket1, ticket2));
+        when(mapper.mapToTicket(patchDTO, ticket1)).thenReturn(ticket1);
+        when(mapper.mapToTicketReadOnlyDTO(ticket1)).thenReturn(ticketDTO1);
+
+        TicketBatchResultDTO result = userProjectTicketService.applyProjectTicketBatch(testUserUuid, testProjectUuid, batchDTO);
+
+        assertEquals(3, result.succeeded());
+        assertEquals(1, result.failed());
+        assertEquals(4, result.results().size());
+        assertEquals(TicketBatchItemResultDTO.applied("CREATE", 0, "uuid-random-100", createdDTO), result.results().get(0));
+        assertEquals(TicketBatchItemResultDTO.applied("PATCH", 0, ticket1.getUuid(), ticketDTO1), result.results().get(1));
+        assertFalse(result.results().get(2).success());
+        assertEquals("missing", result.results().get(2).uuid());
+        assertEquals(TicketBatchItemResultDTO.applied("DELETE", 0, ticket2.getUuid(), null), result.results().get(3));
+        assertSame(testProject, newTicket.getProject());
+        verify(ticketRepository).deleteAll(List.of(ticket2));
+        verify(ticketSearchIndex).remove(ticket2.getId());
+        verify(ticketSearchIndex).index(TicketSearchDocument.of(ticket1, testProjectUuid));
+    }
+
+    @Test
+    void testApplyProjectTicketBatchWithOnlyCreatesShouldNotLoadExistingTickets() throws AppObjectNotFoundException {
+        TicketBatchDTO batchDTO = new TicketBatchDTO(List.of(), null, null);
+        when(projectRepository.findProjectLookup(testUserUuid, testProjectUuid)).thenReturn(Optional.of(new ProjectTicketLookup(testUserId, testProject.getId())));
+        when(projectRepository.getReferenceById(testProject.getId())).thenReturn(testProject);
+        when(ticketRepository.saveAll(List.of())).thenReturn(List.of());
+
+        TicketBatchResultDTO result = userProjectTicketService.applyProjectTicketBatch(testUserUuid, testProjectUuid, batchDTO);
+
+        assertEquals(0, result.succeeded());
+        assertTrue(result.results().isEmpty());
+        verify(ticketRepository, never()).findByProjectUuidAndUuidIn(any(), any());
     }
 
 
@@ -0,0 +1,70 @@
+package gr.aueb.cf.projectmanagementapp.service;
+
+import gr.aueb.cf.projectmanagementapp.core.enums.Action;
+import gr.aueb.cf.projectmanagementapp.core.enums.Resource;
+import gr.aueb.cf.projectmanagementapp.core.exceptions.AppObjectNotFoundException;
+import gr.aueb.cf.projectmanagementapp.dto.RoleReadOnlyDTO;
+import gr.aueb.cf.projectmanagementapp.dto.UserRoleInsertDTO;
+import gr.aueb.cf.projectmanagementapp.model.Role;
+import gr.aueb.cf.projectmanagementapp.model.User;
+import gr.aueb.cf.projectmanagementapp.model.static_data.Permission;
+import gr.aueb.cf.projectmanagementapp.querycount.QueryCountTest;
+import gr.aueb.cf.projectmanagementapp.querycount.QueryCounter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import java.util.List;
+
+import static gr.aueb.cf.projectmanagementapp.querycount.QueryCountFixtures.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+@QueryCountTest
+@Import(UserRoleService.class)
+class UserRoleServiceQueryCountTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private QueryCounter queryCounter;
+
+    @Autowired
+    private UserRoleService userRoleService;
+
+    private User alice;
+
+    @BeforeEach
+    void setUp() {
+        Permission readUser = permission(entityManager, Action.READ, Resource.USER);
+        Permission readTicket = permission(entityManager, Action.READ, Resource.TICKET);
+        Role admin = role(entityManager, "ADMIN", readUser, readTicket);
+        role(entityManager, "MEMBER", readTicket);
+        alice = user(entityManager, "alice", admin);
+        startCounting(entityManager, queryCounter);
+    }
+
+    @Test
+    void testFindAllUserRolesShouldFetchRolesAndPermissionsWithTheUser() throws AppObjectNotFoundException {
+        List<RoleReadOnlyDTO> roles = userRoleService.findAllUserRoles(alice.getUuid());
+
+        assertEquals(1, roles.size());
+        assertEquals(2, roles.getFirst().permissions().size());
+        queryCounter.assertCounts(USER_QUERY_SELECTS, 0, 0, 0);
+        assertEquals(1, queryCounter.count(QueryCounter.Type.SELECT, "users_roles"));
+        assertEquals(1, queryCounter.count(QueryCounter.Type.SELECT, "roles_permissions"));
+    }
+
+    @Test
+    void testChangeUserRoles() throws AppObjectNotFoundException {
+        List<RoleReadOnlyDTO> roles = userRoleService.changeUserRoles(alice.getUuid(), new UserRoleInsertDTO(List.of("MEMBER")));
+        entityManager.flush();
+
+        assertEquals(1, roles.size());
+        // The user and its roles, the users of the removed and of the added role (kept in sync by
+        // removeRole/addRole), the role lookup and the added role's permissions
+        queryCounter.assertCounts(USER_QUERY_SELECTS + 5, 1, 0, 1);
+    }
+}
@@ -1,5 +1,6 @@
 package gr.aueb.cf.projectmanagementapp.service;
 
+import gr.aueb.cf.projectmanagementapp.authentication.PrincipalCache;
 import gr.aueb.cf.projectmanagementapp.core.exceptions.AppObjectNotFoundException;
 import gr.aueb.cf.projectmanagementapp.dto.RoleReadOnlyDTO;
 import gr.aueb.cf.projectmanagementapp.dto.UserRoleInsertDTO;
@@ -29,6 +30,9 @@ class UserRoleServiceTest {
     @Mock
     private RoleRepository roleRepository;
 
+    @Mock
+    private PrincipalCache principalCache;
+
     @Mock
     private Mapper mapper;
 
@@ -60,7 +64,7 @@ class UserRoleServiceTest {
         RoleReadOnlyDTO dto1 = new RoleReadOnlyDTO(1L, testRoleName1, null);
         RoleReadOnlyDTO dto2 = new RoleReadOnlyDTO(2L, testRoleName2, null);
 
-        when(userRepository.findByUuid(testUuid)).thenReturn(Optional.of(testUser));
+        when(userRepository.findWithAuthoritiesByUuid(testUuid)).thenReturn(Optional.of(testUser));
         when(mapper.mapToRoleReadOnlyDTO(testRole1)).thenReturn(dto1);
         when(mapper.mapToRoleReadOnlyDTO(testRole2)).thenReturn(dto2);
 
@@ -73,7 +77,7 @@ class UserRoleServiceTest {
 
     @Test
     void testFindAllUserRolesWhenUserNotFoundShouldThrowException() {
-        when(userRepository.findByUuid(testUuid)).thenReturn(Optional.empty());
+        when(userRepository.findWithAuthoritiesByUuid(testUuid)).thenReturn(Optional.empty());
 
         assertThrows(AppObjectNotFoundException.class, () ->
                 userRoleService.findAllUserRoles(testUuid)
@@ -96,6 +100,7 @@ class UserRoleServiceTest {
         assertEquals(1, result.size());
         assertEquals(resultDto, result.getFirst());
         verify(userRepository).save(testUser);
+        verify(principalCache).evict(testUser.getUsername());
         assertFalse(testUser.getAllRoles().contains(testRole1));
         assertTrue(testUser.getAllRoles().contains(testRole2));
     }
@@ -0,0 +1,186 @@
+package gr.aueb.cf.projectmanagementapp.service;
+
+import gr.aueb.cf.projectmanagementapp.authentication.AuthenticationService;
+import gr.aueb.cf.projectmanagementapp.core.exceptions.AppObjectAlreadyExistsException;
+import gr.aueb.cf.projectmanagementapp.core.exceptions.AppObjectInvalidArgumentException;
+import gr.aueb.cf.projectmanagementapp.core.exceptions.AppObjectNotAuthorizedException;
+import gr.aueb.cf.projectmanagementapp.core.exceptions.AppObjectNotFoundException;
+import gr.aueb.cf.projectmanagementapp.dto.*;
+import gr.aueb.cf.projectmanagementapp.model.User;
+import gr.aueb.cf.projectmanagementapp.querycount.QueryCountTest;
+import gr.aueb.cf.projectmanagementapp.querycount.QueryCounter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import static gr.aueb.cf.projectmanagementapp.querycount.QueryCountFixtures.*;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.when;
+
+@QueryCountTest
+@Import(UserService.class)
+class UserServiceQueryCountTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private QueryCounter queryCounter;
+
+    @Autowired
+    private UserService userService;
+
+    @MockitoBean
+    private AuthenticationService authenticationService;
+
+    private User alice;
+    private User bob;
+    private User carol;
+
+    @BeforeEach
+    void setUp() {
+        alice = user(entityManager, "alice");
+        bob = user(entityManager, "bob");
+        carol = User.builder()
+                .username("carol")
+                .firstname("First")
+                .lastname("Last")
+                .password("password")
+                .enabled(false)
+                .verified(false)
+                .build();
+        carol.createVerificationToken();
+        entityManager.persist(carol);
+        startCounting(entityManager, queryCounter);
+    }
+
+    @Test
+    void testFindAllUsers() {
+        assertEquals(3, userService.findAllUsers().size());
+
+        queryCounter.assertCounts(1, 0, 0, 0);
+    }
+
+    @Test
+    void testFindUsersFilteredPaginated() {
+        assertEquals(3, userService.findUsersFilteredPaginated(new UserFiltersDTO()).data().size());
+
+        queryCounter.assertCounts(1, 0, 0, 0);
+    }
+
+    @Test
+    void testFindUsersFilteredCursor() throws AppObjectInvalidArgumentException {
+        assertEquals(3, userService.findUsersFilteredCursor(new UserFiltersDTO()).data().size());
+
+        queryCounter.assertCounts(1, 0, 0, 0);
+    }
+
+    @Test
+    void testFindUserByUuid() throws AppObjectNotFoundException {
+        userService.findUserByUuid(alice.getUuid());
+
+        queryCounter.assertCounts(USER_QUERY_SELECTS, 0, 0, 0);
+    }
+
+    @Test
+    void testRegisterUser() throws AppObjectAlreadyExistsException {
+        userService.registerUser(new UserRegisterDTO("dave", "Dave", "Last", "Password1!"));
+        entityManager.flush();
+
+        // The user and its verification token
+        queryCounter.assertCounts(1, 2, 0, 0);
+    }
+
+    @Test
+    void testInsertVerifiedUser() throws AppObjectAlreadyExistsException {
+        userService.insertVerifiedUser(new UserRegisterDTO("erin", "Erin", "Last", "Password1!"));
+        entityManager.flush();
+
+        queryCounter.assertCounts(1, 1, 0, 0);
+    }
+
+    @Test
+    void testGetVerificationToken() throws AppObjectNotFoundException {
+        assertNotNull(userService.getVerificationToken("carol"));
+
+        queryCounter.assertCounts(USER_QUERY_SELECTS, 0, 0, 0);
+    }
+
+    @Test
+    void testDeleteUser() throws AppObjectNotFoundException {
+        userService.deleteUser("bob");
+        entityManager.flush();
+
+        // The ids of the user's tickets are read for the search index; removing the user cascades to its
+        // projects, which loads them; the roles are deleted by key
+        queryCounter.assertCounts(USER_QUERY_SELECTS + 2, 0, 0, 2);
+    }
+
+    @Test
+    void testUpdateUserPasswordAfterSuccessfulRecovery() {
+        User managed = managed(alice);
+
+        userService.updateUserPasswordAfterSuccessfulRecovery(managed, "NewPassword1!");
+        entityManager.flush();
+
+        queryCounter.assertCounts(0, 0, 1, 0);
+    }
+
+    @Test
+    void testUpdateUserAfterSuccessfulVerification() {
+        User managed = managed(carol);
+
+        userService.updateUserAfterSuccessfulVerification(managed);
+        entityManager.flush();
+
+        // The verification token is removed as an orphan
+        queryCounter.assertCounts(0, 0, 1, 1);
+    }
+
+    @Test
+    void testUpdateUserByUuid() throws AppObjectNotFoundException, AppObjectAlreadyExistsException {
+        userService.updateUserByUUID(alice.getUuid(), new UserUpdateDTO("alice", "Alicia", null, null, null, null, null));
+        entityManager.flush();
+
+        queryCounter.assertCounts(USER_QUERY_SELECTS + 1, 0, 1, 0);
+    }
+
+    @Test
+    void testPatchUserByUuid() throws AppObjectNotFoundException {
+        userService.updateUserByUUID(alice.getUuid(), new UserPatchDTO(null, null, true));
+        entityManager.flush();
+
+        queryCounter.assertCounts(USER_QUERY_SELECTS, 0, 1, 0);
+    }
+
+    @Test
+    void testChangeUserPassword() throws AppObjectNotFoundException, AppObjectNotAuthorizedException {
+        when(authenticationService.isPasswordValid("alice", "password")).thenReturn(true);
+
+        userService.changeUserPassword(alice.getUuid(), new ChangePasswordDTO("password", "NewPassword1!"));
+        entityManager.flush();
+
+        queryCounter.assertCounts(USER_QUERY_SELECTS, 0, 1, 0);
+    }
+
+    @Test
+    void testDeleteUserByUuid() throws AppObjectNotFoundException {
+        userService.deleteUserByUuid(bob.getUuid());
+        entityManager.flush();
+
+        queryCounter.assertCounts(USER_QUERY_SELECTS + 2, 0, 0, 2);
+    }
+
+    /**
+     * Loads the user by id into the persistence context, as the callers of the methods taking a user do,
+     * and resets the counter.
+     */
+    private User managed(User user) {
+        User managed = entityManager.find(User.class, user.getId());
+        queryCounter.reset();
+        return managed;
+    }
+}
@@ -1,14 +1,19 @@
 package gr.aueb.cf.projectmanagementapp.service;
 
 import gr.aueb.cf.projectmanagementapp.authentication.AuthenticationService;
+import gr.aueb.cf.projectmanagementapp.authentication.PrincipalCache;
 import gr.aueb.cf.projectmanagementapp.core.exceptions.AppObjectAlreadyExistsException;
 import gr.aueb.cf.projectmanagementapp.core.exceptions.AppObjectNotAuthorizedException;
 import gr.aueb.cf.projectmanagementapp.core.exceptions.AppObjectNotFoundException;
 import gr.aueb.cf.projectmanagementapp.core.filters.UserFilters;
+import gr.aueb.cf.projectmanagementapp.core.search.TicketSearchIndex;
 import gr.aueb.cf.projectmanagementapp.dto.*;
 import gr.aueb.cf.projectmanagementapp.mapper.Mapper;
 import gr.aueb.cf.projectmanagementapp.model.User;
 import gr.aueb.cf.projectmanagementapp.model.VerificationToken;
+import gr.aueb.cf.projectmanagementapp.repository.ReadOnlyProjections;
+import gr.aueb.cf.projectmanagementapp.repository.SpecificationQueryExecutor;
+import gr.aueb.cf.projectmanagementapp.repository.TicketRepository;
 import gr.aueb.cf.projectmanagementapp.repository.UserRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -41,6 +46,18 @@ class UserServiceTest {
     @Mock
     private AuthenticationService authenticationService;
 
+    @Mock
+    private PrincipalCache principalCache;
+
+    @Mock
+    private TicketRepository ticketRepository;
+
+    @Mock
+    private TicketSearchIndex ticketSearchIndex;
+
+    @Mock
+    private SpecificationQueryExecutor specificationQueryExecutor;
+
     @Mock
     private Mapper mapper;
 
@@ -85,8 +102,7 @@ class UserServiceTest {
 
     @Test
     void testFindAllUsersShouldReturnListOfUsersDTO() {
-        when(userRepository.findAll()).thenReturn(List.of(testUser));
-        when(mapper.mapToUserReadOnlyDTO(testUser)).thenReturn(testUserReadOnlyDTO);
+        when(specificationQueryExecutor.findAll(eq(User.class), eq(UserReadOnlyDTO.class), ArgumentMatchers.<Specification<User>>any(), eq(Sort.unsorted()), eq(ReadOnlyProjections.USER))).thenReturn(List.of(testUserReadOnlyDTO));
 
         List<UserReadOnlyDTO> result = userService.findAllUsers();
 
@@ -104,7 +120,7 @@ class UserServiceTest {
 
         UserFiltersDTO filtersDTO = new UserFiltersDTO(
                 page, size, sortBy, direction,
-                testUuid, testUsername, testLastName, true, true, false, new ArrayList<>()
+                testUuid, testUsername, testLastName, true, true, false, new ArrayList<>(), null, null
         );
 
         UserFilters filters = UserFilters.builder()
@@ -121,11 +137,10 @@ class UserServiceTest {
         filters.setSortBy(filtersDTO.sortBy());
         filters.setOrderBy(Sort.Direction.valueOf(filtersDTO.orderBy()));
         Pageable pageable = filters.getPageable();
-        Page<User> userPage = new PageImpl<>(List.of(testUser), pageable, 1);
+        Page<UserReadOnlyDTO> userPage = new PageImpl<>(List.of(testUserReadOnlyDTO), pageable, 1);
 
         when(mapper.mapToUserFilters(filtersDTO)).thenReturn(filters);
-        when(userRepository.findAll(ArgumentMatchers.<Specification<User>>any(), eq(filters.getPageable()))).thenReturn(userPage);
-        when(mapper.mapToUserReadOnlyDTO(testUser)).thenReturn(testUserReadOnlyDTO);
+        when(specificationQueryExecutor.findPage(eq(User.class), eq(UserReadOnlyDTO.class), ArgumentMatchers.<Specification<User>>any(), eq(filters.getPageable()), eq(filters.getCountKey()), eq(ReadOnlyProjections.USER))).thenReturn(userPage);
 
         Paginated<UserReadOnlyDTO> result = userService.findUsersFilteredPaginated(filtersDTO);
 
@@ -257,9 +272,12 @@ class UserServiceTest {
     @Test
     void testDeleteUserWhenUserExistsShouldDeleteUser() throws AppObjectNotFoundException {
         when(userRepository.findByUsername(testUsername)).thenReturn(Optional.of(testUser));
+        when(ticketRepository.findIdsByProjectOwnerIdIn(List.of(testId))).thenReturn(List.of(10L, 11L));
         userService.deleteUser(testUsername);
 
+        verify(ticketSearchIndex, times(1)).removeAll(List.of(10L, 11L));
         verify(userRepository, times(1)).delete(testUser);
+        verify(principalCache, times(1)).evict(testUsername);
     }
 
     @Test
@@ -440,6 +458,7 @@ class UserServiceTest {
 
         verify(userRepository, times(1)).findByUuid(testUuid);
         verify(userRepository, times(1)).delete(testUser);
+        verify(principalCache, times(1)).evict(testUsername);
     }
 
     @Test